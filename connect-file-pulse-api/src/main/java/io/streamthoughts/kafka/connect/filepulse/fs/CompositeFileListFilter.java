@@ -26,8 +26,14 @@ import org.slf4j.LoggerFactory;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * The {@code CompositeFileListFilter} can be used to combine multiple {@link FileListFilter} instances.
@@ -72,6 +78,85 @@ public class CompositeFileListFilter implements FileListFilter, Closeable {
         return results;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Metadata> requiredMetadata() {
+        final Set<Metadata> required = EnumSet.noneOf(Metadata.class);
+        filters.forEach(f -> required.addAll(f.requiredMetadata()));
+        return required;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * As files must be accepted by all filters, this is the longest prefix of all filters.
+     */
+    @Override
+    public String listingPrefix() {
+        return filters.stream()
+                .map(FileListFilter::listingPrefix)
+                .max(Comparator.comparingInt(String::length))
+                .orElse("");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The delimiter of a filter is only returned if its prefix is a prefix of the {@link #listingPrefix()}.
+     */
+    @Override
+    public String listingDelimiter() {
+        final String prefix = listingPrefix();
+        return filters.stream()
+                .filter(f -> f.listingDelimiter() != null && prefix.startsWith(f.listingPrefix()))
+                .map(FileListFilter::listingDelimiter)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Gets a new {@link CompositeFileListFilter} composed of the filters that can be applied
+     * on files only providing the given metadata.
+     *
+     * @param available the metadata available on the files to filter.
+     * @return          a new {@link CompositeFileListFilter}.
+     */
+    public CompositeFileListFilter onlyRequiring(final Set<Metadata> available) {
+        return select(f -> available.containsAll(f.requiredMetadata()));
+    }
+
+    /**
+     * Gets a new {@link CompositeFileListFilter} composed of the filters that require
+     * other metadata than the given ones.
+     *
+     * @param available the metadata available on the files to filter.
+     * @return          a new {@link CompositeFileListFilter}.
+     */
+    public CompositeFileListFilter notOnlyRequiring(final Set<Metadata> available) {
+        return select(f -> !available.containsAll(f.requiredMetadata()));
+    }
+
+    private CompositeFileListFilter select(final Predicate<FileListFilter> predicate) {
+        return new CompositeFileListFilter(filters.stream().filter(predicate).collect(Collectors.toList()));
+    }
+
+    /**
+     * Wraps the given filter into a {@link CompositeFileListFilter}, if not already one.
+     *
+     * @param filter    the filter to wrap, may be {@code null}.
+     * @return          a new {@link CompositeFileListFilter}.
+     */
+    public static CompositeFileListFilter of(final FileListFilter filter) {
+        if (filter instanceof CompositeFileListFilter) {
+            return (CompositeFileListFilter) filter;
+        }
+        return new CompositeFileListFilter(
+            filter == null ? Collections.emptyList() : Collections.singletonList(filter)
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
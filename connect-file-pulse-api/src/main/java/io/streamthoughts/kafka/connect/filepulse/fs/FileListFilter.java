@@ -22,7 +22,9 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import org.apache.kafka.common.Configurable;
 
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Interface which is used to filter files scanned from a file-system.
@@ -44,4 +46,52 @@ public interface FileListFilter extends Configurable {
      * @return      a new filtered list of files.
      */
     Collection<FileObjectMeta> filterFiles(final Collection<FileObjectMeta> files);
+
+    /**
+     * Gets the metadata that must be available on the files passed to this filter.
+     *
+     * The URI of a file is always available. A {@link FileSystemListing} can apply the filters which only
+     * require cheap metadata (e.g. the file name) before retrieving expensive metadata (e.g. the content digest),
+     * so that the latter are only computed for the files that have not already been filtered.
+     *
+     * @return  the set of {@link Metadata} required by this filter. By default, all metadata are required.
+     */
+    default Set<Metadata> requiredMetadata() {
+        return EnumSet.allOf(Metadata.class);
+    }
+
+    /**
+     * Gets the literal prefix that the name of every file accepted by this filter starts with.
+     *
+     * A {@link FileSystemListing} for which file names are relative to the root of the file-system (e.g. object keys)
+     * can use it to only list the files under that prefix.
+     *
+     * @return  the prefix, or an empty string if accepted files are not restricted to a prefix (default).
+     */
+    default String listingPrefix() {
+        return "";
+    }
+
+    /**
+     * Gets a delimiter that the name of every file accepted by this filter does not contain after the
+     * {@link #listingPrefix()}, e.g. the '/' character for a filter only accepting files of a single "directory".
+     *
+     * A {@link FileSystemListing} can use it to skip all the files under a sub-prefix ending with the delimiter.
+     *
+     * @return  the delimiter, or {@code null} if unknown (default).
+     */
+    default String listingDelimiter() {
+        return null;
+    }
+
+    /**
+     * The metadata of a file that can be required by a {@link FileListFilter}.
+     */
+    enum Metadata {
+        NAME,
+        CONTENT_LENGTH,
+        LAST_MODIFIED,
+        CONTENT_DIGEST,
+        USER_DEFINED_METADATA
+    }
 }
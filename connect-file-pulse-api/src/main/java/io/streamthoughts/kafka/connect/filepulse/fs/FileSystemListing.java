@@ -19,10 +19,13 @@
 package io.streamthoughts.kafka.connect.filepulse.fs;
 
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
 import org.apache.kafka.common.Configurable;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * The {@code FileSystemListing} is used to list the object files that exists under a specific file-system.
@@ -42,12 +45,97 @@ public interface FileSystemListing<T extends Storage> extends StorageProvider<T>
      */
     Collection<FileObjectMeta> listObjects();
 
+    /**
+     * Lists all files existing into the specified input directory as a stream.
+     *
+     * A listing should override this method to lazily return objects as they are listed (e.g. page by page),
+     * so that callers consuming the stream do not have to retain all the objects in memory.
+     * In that case, the filter may be applied on each batch of listed objects instead of on all objects.
+     * By default, this method returns a stream over the objects returned by {@link #listObjects()}.
+     *
+     * The returned stream must be closed after use.
+     *
+     * @return      the stream of all files found.
+     */
+    default Stream<FileObjectMeta> streamObjects() {
+        return listObjects().stream();
+    }
+
     /**
      * Sets the filter to apply on each file during directory listing.
      * @param filter    the filter to apply.
      */
     void setFilter(final FileListFilter filter);
 
+    /**
+     * Sets the listener to be notified when object files are detected as being added, modified or removed
+     * between two calls to {@link #listObjects()}.
+     *
+     * By default, changes are not tracked and this method does nothing.
+     *
+     * @param listener  the {@link ChangeListener} to notify.
+     */
+    default void setChangeListener(final ChangeListener listener) {
+
+    }
+
+    /**
+     * Sets the predicate used to check whether a listed object file has already been completely processed,
+     * i.e. it will not be scheduled again. The predicate is backed by the connector's state store.
+     *
+     * A listing can use it to avoid listing again the object files that are completed (e.g. incremental listing).
+     * By default, this method does nothing.
+     *
+     * @param predicate the {@link Predicate} to test object files.
+     */
+    default void setCompletedObjectPredicate(final Predicate<FileObjectMeta> predicate) {
+
+    }
 
+    /**
+     * Sets the policy used to build the partitions of the listed object files.
+     *
+     * A listing which does not retrieve all metadata by default must retrieve the metadata required by
+     * the policy (see {@link SourceOffsetPolicy#requiredMetadata()}). By default, this method does nothing.
+     *
+     * @param offsetPolicy  the {@link SourceOffsetPolicy} used for the listed object files.
+     */
+    default void setSourceOffsetPolicy(final SourceOffsetPolicy offsetPolicy) {
+
+    }
+
+    /**
+     * Restricts this listing to the object files owned by the given task, among all the tasks listing
+     * the same file-system, so that each task only lists its own subset of the file-system.
+     *
+     * The assignment must be deterministic and computed from the task id and the number of tasks only, so that
+     * each object file is owned by exactly one task. By default, this method does nothing and returns
+     * {@code false}, i.e. all object files are listed.
+     *
+     * @param taskId    the task id.
+     * @param taskCount the total number of tasks.
+     * @return          {@code true} if only the object files owned by the task will be listed.
+     */
+    default boolean assignTask(final int taskId, final int taskCount) {
+        return false;
+    }
+
+    /**
+     * Close underlying I/O resources.
+     */
+    default void close() {
+
+    }
+
+    /**
+     * Interface which is used to be notified of changes detected on a file-system.
+     */
+    @FunctionalInterface
+    interface ChangeListener {
 
+        /**
+         * Invoked when object files may have changed since the last call to {@link #listObjects()}.
+         */
+        void onChange();
+    }
 }
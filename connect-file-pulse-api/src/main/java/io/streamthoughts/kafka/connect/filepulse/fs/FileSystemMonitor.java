@@ -21,6 +21,7 @@ package io.streamthoughts.kafka.connect.filepulse.fs;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import org.apache.kafka.connect.connector.ConnectorContext;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -64,6 +65,31 @@ public interface FileSystemMonitor {
      */
     List<FileObjectMeta> listFilesToSchedule(final int maxFilesToSchedule);
 
+    /**
+     * Retrieves the list of objects-files that were found during the last the {@link #invoke(ConnectorContext)} call.
+     * This method should not return more than the given maximum, nor more work than can be processed by the
+     * given number of tasks. By default, the number of tasks is ignored.
+     *
+     * @param           maxFilesToSchedule the maximum number of files that can be schedules to tasks.
+     * @param           taskCount          the number of tasks to which files are scheduled.
+     * @return                             the list of {@link FileObjectMeta} to schedule.
+     */
+    default List<FileObjectMeta> listFilesToSchedule(final int maxFilesToSchedule, final int taskCount) {
+        return listFilesToSchedule(maxFilesToSchedule);
+    }
+
+    /**
+     * Gives back object files returned by {@link #listFilesToSchedule(int, int)} that could not be assigned
+     * to any task, so that they can be scheduled later.
+     *
+     * By default, this method does nothing: object files that are not scheduled are then only scheduled again
+     * if the implementation lists them again, e.g. once the scheduled object files are completed.
+     *
+     * @param files the list of {@link FileObjectMeta} which are not scheduled.
+     */
+    default void unschedule(final Collection<FileObjectMeta> files) {
+    }
+
     /**
      * Close underlying I/O resources.
      */
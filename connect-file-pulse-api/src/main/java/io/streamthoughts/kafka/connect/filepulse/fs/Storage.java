@@ -18,6 +18,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.fs;
 
+import io.streamthoughts.kafka.connect.filepulse.internal.IOUtils;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import org.apache.kafka.common.Configurable;
 
@@ -75,4 +76,28 @@ public interface Storage extends Configurable {
      * @return       new {@link {@link InputStream}.
      */
     InputStream getInputStream(final URI uri) throws Exception;
+
+    /**
+     * Gets a {@link InputStream} for the given object, starting at the given byte position.
+     *
+     * By default, this method opens a new stream from the beginning of the object and
+     * skips all bytes before the given position. Implementations should override this method
+     * when the underlying storage supports reading an object from an arbitrary position.
+     *
+     * @param uri       the file object {@link URI}.
+     * @param position  the byte position from which to read the object.
+     * @return          new {@link InputStream}.
+     */
+    default InputStream getInputStream(final URI uri, final long position) throws Exception {
+        final InputStream stream = getInputStream(uri);
+        if (position > 0) {
+            try {
+                IOUtils.skip(stream, position);
+            } catch (Exception e) {
+                stream.close();
+                throw e;
+            }
+        }
+        return stream;
+    }
 }
@@ -20,6 +20,7 @@ package io.streamthoughts.kafka.connect.filepulse.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -42,6 +43,29 @@ public class IOUtils {
         }
     }
 
+    /**
+     * Skips over and discards the given number of bytes from the input stream.
+     *
+     * @param stream    the {@link InputStream} to skip.
+     * @param n         the number of bytes to be skipped.
+     * @return          the actual number of bytes skipped, which is less than {@code n} only if EOF is reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static long skip(final InputStream stream, final long n) throws IOException {
+        Objects.requireNonNull(stream, "stream cannot be null");
+        long skipLeft = n;
+        while (skipLeft > 0) {
+            long skipped = stream.skip(skipLeft);
+            if (skipped <= 0) {
+                // skip() may return 0 before the end of the stream, so we must check for EOF.
+                if (stream.read() == -1) break;
+                skipped = 1;
+            }
+            skipLeft -= skipped;
+        }
+        return n - skipLeft;
+    }
+
     public static void createParentIfNotExists(final Path targetPath) throws IOException {
         Objects.requireNonNull(targetPath, "file cannot be null");
         if (!Files.exists(targetPath.getParent())) {
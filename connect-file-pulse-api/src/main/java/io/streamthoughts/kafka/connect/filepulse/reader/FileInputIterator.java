@@ -42,6 +42,16 @@ public interface FileInputIterator<T> extends Iterator<RecordsIterable<T>>, Auto
      */
     void seekTo(final FileObjectOffset offset);
 
+    /**
+     * Opens the iterator file and reads its first bytes in advance, so that the first call to {@link #next()}
+     * does not wait for the input to be opened. This method should be invoked after {@link #seekTo(FileObjectOffset)}.
+     *
+     * By default, this method does nothing, i.e. the iterator file is opened on first read if not already opened.
+     */
+    default void prefill() {
+
+    }
+
     /**
      * Reads the next records from the iterator file.
      */
@@ -85,6 +85,26 @@ public class DelegateFileInputIterator implements FileInputIterator<FileRecord<T
         iterator = reader.newIterator(objectURI);
     }
 
+    /**
+     * Initializes this iterator with the given one, that was opened in advance for the backed object file.
+     *
+     * @param iterator  the {@link FileInputIterator} to delegate to.
+     */
+    public void open(final FileInputIterator<FileRecord<TypedStruct>> iterator) {
+        if (isOpen()) throw new IllegalStateException("Iterator is already open");
+        LOG.info("Opening new iterator for: {}", objectURI);
+        this.iterator = Objects.requireNonNull(iterator, "'iterator' can't be null");
+    }
+
+    /**
+     * Creates a new {@link FileInputIterator} for the backed object file, without initializing this iterator.
+     *
+     * @return a new {@link FileInputIterator}.
+     */
+    public FileInputIterator<FileRecord<TypedStruct>> newIterator() {
+        return reader.newIterator(objectURI);
+    }
+
     /**
      * @return {@code true} if an iterator is already opened.
      */
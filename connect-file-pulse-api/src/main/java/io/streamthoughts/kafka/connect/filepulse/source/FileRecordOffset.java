@@ -35,4 +35,13 @@ public interface FileRecordOffset {
 
     FileObjectOffset toSourceOffset();
 
+    /**
+     * Returns the number of bytes read from the input source for the record.
+     *
+     * @return the number of bytes, or {@code -1} if unknown.
+     */
+    default long size() {
+        return -1L;
+    }
+
 }
\ No newline at end of file
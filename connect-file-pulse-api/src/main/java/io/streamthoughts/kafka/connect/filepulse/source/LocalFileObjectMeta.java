@@ -31,7 +31,6 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.util.LinkedHashMap;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.zip.CRC32;
 
@@ -55,19 +54,53 @@ public class LocalFileObjectMeta extends GenericFileObjectMeta {
      * @param file       the {@link File} object?.
      */
     public LocalFileObjectMeta(final File file) {
+        this(file, file.length(), getLastModifiedTime(file), IOUtils.getUnixInode(file).orElse(null));
+    }
+
+    /**
+     * Creates a new {@link LocalFileObjectMeta} instance from file attributes that were already read.
+     *
+     * @param file          the {@link File} object.
+     * @param contentLength the file size in bytes.
+     * @param lastModified  the last-modified time in milliseconds.
+     * @param inode         the unix inode, or {@code null} if not supported.
+     */
+    public LocalFileObjectMeta(final File file,
+                               final long contentLength,
+                               final long lastModified,
+                               final Long inode) {
+        this(file, contentLength, lastModified, inode, hash(file, contentLength));
+    }
+
+    /**
+     * Creates a new {@link LocalFileObjectMeta} instance from file attributes and a content digest
+     * that were already computed.
+     *
+     * @param file          the {@link File} object.
+     * @param contentLength the file size in bytes.
+     * @param lastModified  the last-modified time in milliseconds.
+     * @param inode         the unix inode, or {@code null} if not supported.
+     * @param contentDigest the content digest.
+     */
+    public LocalFileObjectMeta(final File file,
+                               final long contentLength,
+                               final long lastModified,
+                               final Long inode,
+                               final ContentDigest contentDigest) {
         super(
             file.toURI(),
             file.getName(),
-            file.length(),
-            getLastModifiedTime(file),
-            hash(file),
+            contentLength,
+            lastModified,
+            contentDigest,
             new LinkedHashMap<>()
         );
 
         this.file = file;
-        final Optional<Long> unixInode = IOUtils.getUnixInode(file);
-        unixInode.ifPresent(it -> addUserDefinedMetadata(SYSTEM_FILE_INODE_META_KEY, it));
-        inode = unixInode.orElse(null);
+        if (inode != null) {
+            addUserDefinedMetadata(SYSTEM_FILE_INODE_META_KEY, inode);
+        }
+        this.inode = inode;
         addUserDefinedMetadata(SYSTEM_FILE_HOSTNAME_META_KEY, Network.HOSTNAME);
     }
 
@@ -110,13 +143,13 @@ public class LocalFileObjectMeta extends GenericFileObjectMeta {
      *
      * @return  a CRC32 hash.
      */
-    private static ContentDigest hash(final File f) {
+    private static ContentDigest hash(final File f, final long length) {
         try {
             CRC32 crc32 = new CRC32();
-            if (f.length() > 0) {
-                byte[] bytes = readStartingBytesFrom(f, 4096);
+            if (length > 0) {
+                byte[] bytes = readStartingBytesFrom(f, length, 4096);
                 crc32.update(bytes);
-                crc32.update(longToBytes(f.length()));
+                crc32.update(longToBytes(length));
                 return new ContentDigest(String.valueOf(crc32.getValue()), "crc32");
             }
             return new ContentDigest("", "crc32");
@@ -129,15 +162,17 @@ public class LocalFileObjectMeta extends GenericFileObjectMeta {
     /**
      * Read the first n bytes of the specified file.
      *
-     * @param file  the input file.
-     * @param n     the number of bytes to hash.
-     * @return      a CRC32 hash.
+     * @param file    the input file.
+     * @param length  the file size in bytes.
+     * @param n       the number of bytes to hash.
+     * @return        a CRC32 hash.
      *
      * @throws IOException  if error occurred while reading {@code file}.
      */
     private static byte[] readStartingBytesFrom(final File file,
+                                                final long length,
                                                 final long n) throws IOException {
-        int len = (int) Math.min(file.length(), n);
+        int len = (int) Math.min(length, n);
         byte[] buffer = new byte[len];
         try (InputStream is = new FileInputStream(file)) {
             if (is.read(buffer) != -1) {
@@ -147,7 +182,7 @@ public class LocalFileObjectMeta extends GenericFileObjectMeta {
                     "Reaching end of the stream while attempting to read first '" +
                     len +
                     "' bytes (file size=" +
-                    file.length() + ")."
+                    length + ")."
                 );
             }
         }
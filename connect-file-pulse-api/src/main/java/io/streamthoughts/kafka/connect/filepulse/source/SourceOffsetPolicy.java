@@ -18,11 +18,17 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.source;
 
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter;
 import org.apache.kafka.common.Configurable;
 import org.apache.kafka.connect.source.SourceTaskContext;
 
+import java.net.URI;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public interface SourceOffsetPolicy extends Configurable {
@@ -43,6 +49,25 @@ public interface SourceOffsetPolicy extends Configurable {
     Optional<FileObjectOffset> getOffsetFor(final SourceTaskContext context,
                                             final FileObjectMeta source);
 
+    /**
+     * Retrieves the positions for all the specified sources.
+     *
+     * By default, this method invokes {@link #getOffsetFor(SourceTaskContext, FileObjectMeta)} for each source.
+     * Implementations should override it to retrieve all positions using a single lookup.
+     *
+     * @param context       the source task context.
+     * @param sources       the source objects.
+     * @return the {@link FileObjectOffset}s keyed by source URIs. Sources without position are omitted.
+     */
+    default Map<URI, FileObjectOffset> getOffsetsFor(final SourceTaskContext context,
+                                                     final Collection<FileObjectMeta> sources) {
+        final Map<URI, FileObjectOffset> offsets = new HashMap<>();
+        for (FileObjectMeta source : sources) {
+            getOffsetFor(context, source).ifPresent(offset -> offsets.put(source.uri(), offset));
+        }
+        return offsets;
+    }
+
     /**
      * Converts the specified {@link FileObjectOffset} into connect position map.
      *
@@ -59,6 +84,19 @@ public interface SourceOffsetPolicy extends Configurable {
      */
     Map<String, Object> toPartitionMap(final FileObjectMeta source);
 
+    /**
+     * Gets the metadata that must be available on the object files for building their partitions.
+     *
+     * The URI of an object file is always available. A {@code FileSystemListing} can use it to retrieve
+     * expensive metadata (e.g. the content digest) only when this policy requires them.
+     *
+     * @return  the set of {@link FileListFilter.Metadata} required by this policy.
+     *          By default, all metadata are required.
+     */
+    default Set<FileListFilter.Metadata> requiredMetadata() {
+        return EnumSet.allOf(FileListFilter.Metadata.class);
+    }
+
     /**
      * An helper method to get a {@link FileObjectMeta} as a JSON string.
      *
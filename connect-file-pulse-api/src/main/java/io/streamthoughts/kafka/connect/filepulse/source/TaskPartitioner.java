@@ -19,9 +19,12 @@
 package io.streamthoughts.kafka.connect.filepulse.source;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface TaskPartitioner extends AutoCloseable {
 
@@ -34,6 +37,49 @@ public interface TaskPartitioner extends AutoCloseable {
      */
     List<List<URI>> partition(final Collection<FileObjectMeta> files, final int taskCount);
 
+    /**
+     * Partitions the specified object-file URIs so that the cumulative size of the object files assigned
+     * to a task does not exceed the given limit. A task is always assigned at least one object file, even if
+     * that object file is larger than the limit. The object files that cannot be assigned within the limit
+     * are not returned, and should be scheduled later.
+     *
+     * <p>
+     * By default, the object files are partitioned using {@link #partition(Collection, int)}, and then
+     * the object files of each task are retained in order until the limit is reached.
+     * </p>
+     *
+     * @param files             the object-file URIs to partition.
+     * @param taskCount         the total number of tasks.
+     * @param maxBytesPerTask   the maximum number of bytes assigned to a task, or {@code 0} if there is no limit.
+     * @return                  the list of URIs for each task.
+     */
+    default List<List<URI>> partition(final Collection<FileObjectMeta> files,
+                                      final int taskCount,
+                                      final long maxBytesPerTask) {
+        final List<List<URI>> partitioned = partition(files, taskCount);
+        if (maxBytesPerTask <= 0) {
+            return partitioned;
+        }
+        final Map<URI, Long> sizes = new HashMap<>(files.size());
+        files.forEach(file -> sizes.put(file.uri(), bytesOf(file)));
+
+        final List<List<URI>> limited = new ArrayList<>(partitioned.size());
+        for (List<URI> uris : partitioned) {
+            final List<URI> retained = new ArrayList<>(uris.size());
+            long bytes = 0;
+            for (URI uri : uris) {
+                final long fileBytes = sizes.getOrDefault(uri, 0L);
+                if (!retained.isEmpty() && bytes + fileBytes > maxBytesPerTask) {
+                    break;
+                }
+                retained.add(uri);
+                bytes += fileBytes;
+            }
+            limited.add(retained);
+        }
+        return limited;
+    }
+
     /**
      * Partitions the specified object-file URIs.
      *
@@ -53,4 +99,15 @@ public interface TaskPartitioner extends AutoCloseable {
      */
     @Override
     default void close() { }
+
+    /**
+     * Gets the size of the given object file. An object file with an unknown size is considered empty.
+     *
+     * @param file  the object file.
+     * @return      the number of bytes.
+     */
+    static long bytesOf(final FileObjectMeta file) {
+        final Long contentLength = file.contentLength();
+        return contentLength == null ? 0 : Math.max(0, contentLength);
+    }
 }
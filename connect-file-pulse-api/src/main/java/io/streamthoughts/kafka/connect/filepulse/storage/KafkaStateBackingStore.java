@@ -319,6 +319,9 @@ public class KafkaStateBackingStore<T> implements StateBackingStore<T> {
                     LOG.trace("Discarding state update value - not belong to group {} : {}", groupId,
                             key);
                 }
+            } else if (key != null) {
+                // The topic may be shared with other stores, using distinct key prefixes.
+                LOG.trace("Discarding state update value - not belong to key prefix {} : {}", keyPrefix, key);
             } else {
                 LOG.warn("Discarding state update value with invalid key : {}", key);
             }
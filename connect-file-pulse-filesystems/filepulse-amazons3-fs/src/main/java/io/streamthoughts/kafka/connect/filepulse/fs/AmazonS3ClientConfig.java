@@ -21,6 +21,7 @@ package io.streamthoughts.kafka.connect.filepulse.fs;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.EnvironmentVariableCredentialsProvider;
 import com.amazonaws.regions.Regions;
+import io.streamthoughts.kafka.connect.filepulse.fs.stream.ReadAheadOptions;
 import io.streamthoughts.kafka.connect.filepulse.internal.StringUtils;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
@@ -39,6 +40,8 @@ public class AmazonS3ClientConfig extends AbstractConfig {
 
     private static final String GROUP_AWS = "AWS";
 
+    private static final String GROUP_AWS_LISTING = "AWS Listing";
+
     public static final String AWS_ACCESS_KEY_ID_CONFIG = "aws.access.key.id";
     private static final String AWS_ACCESS_KEY_ID_DOC = "AWS Access Key ID";
 
@@ -68,6 +71,45 @@ public class AmazonS3ClientConfig extends AbstractConfig {
     private static final String AWS_CREDENTIALS_PROVIDER_DOC = "The AWSCredentialsProvider to use if no access key id and secret access key is configured";
     public static final String AWS_CREDENTIALS_PROVIDER_DEFAULT = EnvironmentVariableCredentialsProvider.class.getName();
 
+    public static final String AWS_S3_READ_PARALLELISM_CONFIG = "aws.s3.read.parallelism";
+    private static final String AWS_S3_READ_PARALLELISM_DOC = "The maximum number of concurrent ranged GET requests used "
+            + "to read ahead S3 objects, shared by the objects read concurrently by a task. "
+            + "A value of 1 reads objects using a single sequential stream.";
+    public static final int AWS_S3_READ_PARALLELISM_DEFAULT = 1;
+
+    public static final String AWS_S3_READ_PART_SIZE_BYTES_CONFIG = "aws.s3.read.part.size.bytes";
+    private static final String AWS_S3_READ_PART_SIZE_BYTES_DOC = "The number of bytes fetched by each ranged GET request "
+            + "when reading ahead an S3 object.";
+    public static final int AWS_S3_READ_PART_SIZE_BYTES_DEFAULT = 8 * 1024 * 1024;
+
+    public static final String AWS_S3_READ_MAX_BUFFERED_BYTES_CONFIG = "aws.s3.read.max.buffered.bytes";
+    private static final String AWS_S3_READ_MAX_BUFFERED_BYTES_DOC = "The maximum number of bytes buffered in memory "
+            + "per S3 object when reading ahead.";
+    public static final long AWS_S3_READ_MAX_BUFFERED_BYTES_DEFAULT = 64L * 1024 * 1024;
+
+    public static final String AWS_S3_LISTING_FETCH_METADATA_ENABLED_CONFIG = "aws.s3.listing.fetch.metadata.enabled";
+    private static final String AWS_S3_LISTING_FETCH_METADATA_ENABLED_DOC = "Boolean indicating whether the metadata "
+            + "of each listed object, including user-defined metadata, should be fetched using a HEAD request. "
+            + "Otherwise, metadata are only fetched for the objects accepted by the filters requiring them.";
+
+    public static final String AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_CONFIG =
+            "aws.s3.listing.fetch.metadata.parallelism";
+    private static final String AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_DOC = "The maximum number of concurrent "
+            + "HEAD requests used to fetch the metadata of listed objects.";
+    public static final int AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_DEFAULT = 8;
+
+    public static final String AWS_S3_LISTING_INCREMENTAL_ENABLED_CONFIG = "aws.s3.listing.incremental.enabled";
+    private static final String AWS_S3_LISTING_INCREMENTAL_ENABLED_DOC = "Boolean indicating whether objects should "
+            + "be listed incrementally, starting after the last key for which all objects are completely processed. "
+            + "This should only be enabled when new objects are created with keys sorting after existing ones.";
+
+    public static final String AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_CONFIG =
+            "aws.s3.listing.incremental.reconciliation.interval.ms";
+    private static final String AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_DOC = "The interval in milliseconds at "
+            + "which all objects are listed when incremental listing is enabled, in order to detect objects created "
+            + "with keys sorting before the last completed key.";
+    public static final long AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_DEFAULT = 3600000L;
+
     /**
      * Creates a new {@link AmazonS3ClientConfig} instance.
      *
@@ -113,13 +155,37 @@ public class AmazonS3ClientConfig extends AbstractConfig {
         return getConfiguredInstance(AWS_CREDENTIALS_PROVIDER_CLASS, AWSCredentialsProvider.class);
     }
 
+    public ReadAheadOptions getAwsS3ReadAheadOptions() {
+        return new ReadAheadOptions(
+            getInt(AWS_S3_READ_PART_SIZE_BYTES_CONFIG),
+            getInt(AWS_S3_READ_PARALLELISM_CONFIG),
+            getLong(AWS_S3_READ_MAX_BUFFERED_BYTES_CONFIG)
+        );
+    }
+
+    public boolean isAwsS3ListingFetchMetadataEnabled() {
+        return getBoolean(AWS_S3_LISTING_FETCH_METADATA_ENABLED_CONFIG);
+    }
+
+    public int getAwsS3ListingFetchMetadataParallelism() {
+        return getInt(AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_CONFIG);
+    }
+
+    public boolean isAwsS3ListingIncrementalEnabled() {
+        return getBoolean(AWS_S3_LISTING_INCREMENTAL_ENABLED_CONFIG);
+    }
+
+    public long getAwsS3ListingReconciliationIntervalMs() {
+        return getLong(AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_CONFIG);
+    }
+
     /**
      * @return the {@link ConfigDef}.
      */
     static ConfigDef getConf() {
         int awsGroupCounter = 0;
 
-        return new ConfigDef()
+        final ConfigDef configDef = new ConfigDef()
                 .define(
                         AWS_S3_BUCKET_NAME_CONFIG,
                         ConfigDef.Type.STRING,
@@ -232,6 +298,104 @@ public class AmazonS3ClientConfig extends AbstractConfig {
                         ConfigDef.Width.NONE,
                         AWS_CREDENTIALS_PROVIDER_CLASS
                 );
+
+        return defineListingConfigs(defineReadAheadConfigs(configDef, awsGroupCounter));
+    }
+
+    private static ConfigDef defineReadAheadConfigs(final ConfigDef configDef, int awsGroupCounter) {
+        return configDef
+                .define(
+                        AWS_S3_READ_PARALLELISM_CONFIG,
+                        ConfigDef.Type.INT,
+                        AWS_S3_READ_PARALLELISM_DEFAULT,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        AWS_S3_READ_PARALLELISM_DOC,
+                        GROUP_AWS,
+                        awsGroupCounter++,
+                        ConfigDef.Width.NONE,
+                        AWS_S3_READ_PARALLELISM_CONFIG
+                )
+
+                .define(
+                        AWS_S3_READ_PART_SIZE_BYTES_CONFIG,
+                        ConfigDef.Type.INT,
+                        AWS_S3_READ_PART_SIZE_BYTES_DEFAULT,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        AWS_S3_READ_PART_SIZE_BYTES_DOC,
+                        GROUP_AWS,
+                        awsGroupCounter++,
+                        ConfigDef.Width.NONE,
+                        AWS_S3_READ_PART_SIZE_BYTES_CONFIG
+                )
+
+                .define(
+                        AWS_S3_READ_MAX_BUFFERED_BYTES_CONFIG,
+                        ConfigDef.Type.LONG,
+                        AWS_S3_READ_MAX_BUFFERED_BYTES_DEFAULT,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        AWS_S3_READ_MAX_BUFFERED_BYTES_DOC,
+                        GROUP_AWS,
+                        awsGroupCounter++,
+                        ConfigDef.Width.NONE,
+                        AWS_S3_READ_MAX_BUFFERED_BYTES_CONFIG
+                );
+    }
+
+    private static ConfigDef defineListingConfigs(final ConfigDef configDef) {
+        int listingGroupCounter = 0;
+        return configDef
+                .define(
+                        AWS_S3_LISTING_FETCH_METADATA_ENABLED_CONFIG,
+                        ConfigDef.Type.BOOLEAN,
+                        false,
+                        ConfigDef.Importance.LOW,
+                        AWS_S3_LISTING_FETCH_METADATA_ENABLED_DOC,
+                        GROUP_AWS_LISTING,
+                        listingGroupCounter++,
+                        ConfigDef.Width.NONE,
+                        AWS_S3_LISTING_FETCH_METADATA_ENABLED_CONFIG
+                )
+
+                .define(
+                        AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_CONFIG,
+                        ConfigDef.Type.INT,
+                        AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_DEFAULT,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_DOC,
+                        GROUP_AWS_LISTING,
+                        listingGroupCounter++,
+                        ConfigDef.Width.NONE,
+                        AWS_S3_LISTING_FETCH_METADATA_PARALLELISM_CONFIG
+                )
+
+                .define(
+                        AWS_S3_LISTING_INCREMENTAL_ENABLED_CONFIG,
+                        ConfigDef.Type.BOOLEAN,
+                        false,
+                        ConfigDef.Importance.LOW,
+                        AWS_S3_LISTING_INCREMENTAL_ENABLED_DOC,
+                        GROUP_AWS_LISTING,
+                        listingGroupCounter++,
+                        ConfigDef.Width.NONE,
+                        AWS_S3_LISTING_INCREMENTAL_ENABLED_CONFIG
+                )
+
+                .define(
+                        AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_CONFIG,
+                        ConfigDef.Type.LONG,
+                        AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_DEFAULT,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_DOC,
+                        GROUP_AWS_LISTING,
+                        listingGroupCounter++,
+                        ConfigDef.Width.NONE,
+                        AWS_S3_LISTING_RECONCILIATION_INTERVAL_MS_CONFIG
+                );
     }
 
     public static class NonEmptyPassword implements ConfigDef.Validator {
@@ -21,34 +21,93 @@ package io.streamthoughts.kafka.connect.filepulse.fs;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ListObjectsRequest;
-import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import io.streamthoughts.kafka.connect.filepulse.annotation.VisibleForTesting;
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter.Metadata;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ListingScope;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.PrefixLister;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardAssignment;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedObjectListing;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
 import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.utils.Time;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static io.streamthoughts.kafka.connect.filepulse.internal.StringUtils.isNotBlank;
 
 /**
  * The {@code AmazonS3FileSystemListing} that can be used for listing objects that exist in a specific Amazon S3 bucket.
+ *
+ * <p>
+ * The metadata of the objects are built from the summaries returned by the listing requests. The complete metadata,
+ * which require one HEAD request per object, are only fetched for the objects accepted by the filters that can be
+ * applied on summaries, and only if either a filter or the source offset policy requires them, or if this is enabled
+ * through the configuration.
+ * </p>
+ *
+ * <p>
+ * When incremental listing is enabled, objects are only listed after the last key for which all objects are completed.
+ * That cursor is derived from the object states of the connector's state store, so it is recovered by listing
+ * all objects after a restart, and then periodically in order to catch objects created with a lower key.
+ * </p>
+ *
+ * <p>
+ * The bucket prefix is narrowed using the hints of the filters (see {@link ListingScope}), and can be split into
+ * sub-prefixes that are listed concurrently (see {@link ShardedObjectListing}).
+ * </p>
  */
 public class AmazonS3FileSystemListing implements FileSystemListing<AmazonS3Storage> {
 
     private static final Logger LOG = LoggerFactory.getLogger(AmazonS3FileSystemListing.class);
 
-    private FileListFilter filter;
+    // The metadata available on the objects summaries returned by a listing request.
+    private static final Set<Metadata> SUMMARY_METADATA = EnumSet.of(
+        Metadata.NAME,
+        Metadata.CONTENT_LENGTH,
+        Metadata.LAST_MODIFIED
+    );
+
+    private CompositeFileListFilter filter = CompositeFileListFilter.of(null);
+    private CompositeFileListFilter summaryFilter = CompositeFileListFilter.of(null);
+    private CompositeFileListFilter objectFilter = CompositeFileListFilter.of(null);
+    private CompositeFileListFilter nameFilter = CompositeFileListFilter.of(null);
+    private volatile Predicate<FileObjectMeta> completedPredicate = object -> false;
+    // The metadata required for building the partitions of the listed objects.
+    private Set<Metadata> offsetMetadata = Set.of();
+    // The key after which objects are listed when incremental listing is enabled.
+    private String cursor;
+    private long lastReconciliationMs = -1L;
     private AmazonS3ClientConfig config;
     private AmazonS3 client;
     private AmazonS3Storage s3Storage;
+    private ExecutorService metadataExecutor;
+    private ShardedObjectListing shardedListing;
 
     /**
      * {@inheritDoc}
@@ -69,6 +128,16 @@ public class AmazonS3FileSystemListing implements FileSystemListing<AmazonS3Stor
                             + "Bucket does not exist, or an error happens while connecting to Amazon service"
             );
         }
+        this.shardedListing = new ShardedObjectListing(new ShardedListingConfig(config.originals()), "amazon-s3");
+        final AtomicInteger threadIds = new AtomicInteger(0);
+        this.metadataExecutor = Executors.newFixedThreadPool(
+            config.getAwsS3ListingFetchMetadataParallelism(),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "amazon-s3-listing-metadata-" + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
     }
 
     /**
@@ -76,56 +145,113 @@ public class AmazonS3FileSystemListing implements FileSystemListing<AmazonS3Stor
      */
     @Override
     public Collection<FileObjectMeta> listObjects() {
-        final ListObjectsRequest request = new ListObjectsRequest();
-        request.setBucketName(config.getAwsS3BucketName());
-
-        if (isNotBlank(config.getAwsS3BucketPrefix()))
-            request.setPrefix(config.getAwsS3BucketPrefix());
+        String startAfter = null;
+        if (config.isAwsS3ListingIncrementalEnabled()) {
+            final long now = Time.SYSTEM.milliseconds();
+            if (lastReconciliationMs < 0 ||
+                now - lastReconciliationMs >= config.getAwsS3ListingReconciliationIntervalMs()) {
+                LOG.info("Listing all objects for reconciling the incremental listing cursor");
+                cursor = null;
+                lastReconciliationMs = now;
+            }
+            startAfter = cursor;
+        }
 
-        final List<FileObjectMeta> objectMetaList = new LinkedList<>();
-        ObjectListing objectListing;
+        final List<FileObjectMeta> summaries;
         try {
-            do {
-                LOG.debug(
-                        "Sending new request for listing objects: bucketName={}, prefix={}",
-                        request.getBucketName(),
-                        request.getPrefix()
-                );
-                objectListing = client.listObjects(request);
-
-                objectMetaList.addAll(objectListing.getObjectSummaries()
-                        .stream()
-                        .map(s3ObjectSummary ->
-                                new S3BucketKey(
-                                        s3ObjectSummary.getBucketName(),
-                                        s3ObjectSummary.getKey()
-                                ))
-                        .map(s3Storage::getObjectMetadata)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList()));
-
-                String marker = objectListing.getNextMarker();
-                if (marker != null) {
-                    LOG.debug("Object listing is truncated, next marker is {}", marker);
-                }
+            summaries = listObjectSummaries(startAfter);
+        } catch (SdkClientException e) {
+            // The cursor must not be moved forward past objects that were not listed.
+            LOG.warn("Objects could not be completely listed, objects will be listed again on next listing");
+            return Collections.emptyList();
+        }
+        if (config.isAwsS3ListingIncrementalEnabled()) {
+            moveCursorForward(summaries);
+        }
 
-            } while (objectListing.isTruncated());
-        } catch (AmazonServiceException e) {
-            LOG.error(
-                    "Failed to list objects from the Amazon S3 bucket '{}'. "
-                            + "Error occurred while processing the request: {}",
-                    config.getAwsS3BucketName(),
-                    e
-            );
+        return filterObjects(summaries);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Objects are streamed page by page, unless incremental or sharded listing is enabled,
+     * and the filters are applied on each page of objects.
+     * </p>
+     */
+    @Override
+    public Stream<FileObjectMeta> streamObjects() {
+        if (config.isAwsS3ListingIncrementalEnabled() || shardedListing.isEnabled()) {
+            return listObjects().stream();
+        }
+        final ListingScope scope = listingScope();
+        final ListObjectsV2Pages pages = new ListObjectsV2Pages(
+            newListObjectsRequest(scope.prefix(), null, scope.delimiter()),
+            false
+        );
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+                .flatMap(page -> filterObjects(toFileObjectMetas(page, null)).stream());
+    }
+
+    private Collection<FileObjectMeta> filterObjects(final List<FileObjectMeta> summaries) {
+        Collection<FileObjectMeta> objects = summaryFilter.filterFiles(summaries);
+        if (config.isAwsS3ListingFetchMetadataEnabled()
+                || !objectFilter.requiredMetadata().isEmpty()
+                || !SUMMARY_METADATA.containsAll(offsetMetadata)) {
+            LOG.debug("Fetching metadata for {} objects out of {} listed objects", objects.size(), summaries.size());
+            objects = fetchObjectMetadata(objects);
+        }
+        return objectFilter.filterFiles(objects);
+    }
+
+    /**
+     * Moves the cursor after the listed objects that are settled, i.e. either completed or rejected by the filters
+     * only depending on the object key. Objects are listed in ascending key order, even when sharded, so the cursor
+     * stops on the first object that may still have to be processed.
+     *
+     * @param summaries the objects listed after the current cursor.
+     */
+    private void moveCursorForward(final List<FileObjectMeta> summaries) {
+        final Set<FileObjectMeta> acceptedByName = new HashSet<>(nameFilter.filterFiles(summaries));
+        int skipped = 0;
+        for (FileObjectMeta object : summaries) {
+            if (acceptedByName.contains(object) && !completedPredicate.test(object)) {
+                break;
+            }
+            cursor = object.name();
+            skipped++;
+        }
+        LOG.debug("Incremental listing cursor moved forward by {} objects to: {}", skipped, cursor);
+    }
+
+    private List<FileObjectMeta> listObjectSummaries(final String startAfter) {
+        return shardedListing.list(listingScope(), new S3PrefixLister(startAfter));
+    }
+
+    private ListingScope listingScope() {
+        final ListingScope scope = ListingScope.of(config.getAwsS3BucketPrefix(), filter);
+        LOG.debug("Listing objects from the Amazon S3 bucket '{}' using scope: {}", config.getAwsS3BucketName(), scope);
+        return scope;
+    }
+
+    private List<FileObjectMeta> fetchObjectMetadata(final Collection<FileObjectMeta> objects) {
+        final List<CompletableFuture<FileObjectMeta>> futures = objects.stream()
+                .map(object -> CompletableFuture.supplyAsync(() -> fetchObjectMetadata(object), metadataExecutor))
+                .collect(Collectors.toList());
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private FileObjectMeta fetchObjectMetadata(final FileObjectMeta object) {
+        try {
+            return s3Storage.getObjectMetadata(S3BucketKey.fromURI(object.uri()));
         } catch (SdkClientException e) {
-            LOG.error(
-                    "Failed to list objects from the Amazon S3 bucket '{}'. "
-                            + "Error occurred while making the request or handling the response: {}",
-                    config.getAwsS3BucketName(),
-                    e
-            );
+            // The error is already logged by the storage, the object will be listed again on next listing.
+            return null;
         }
-        return filter == null ? objectMetaList : filter.filterFiles(objectMetaList);
     }
 
     /**
@@ -133,7 +259,36 @@ public class AmazonS3FileSystemListing implements FileSystemListing<AmazonS3Stor
      */
     @Override
     public void setFilter(final FileListFilter filter) {
-        this.filter = filter;
+        final CompositeFileListFilter composite = CompositeFileListFilter.of(filter);
+        this.filter = composite;
+        this.summaryFilter = composite.onlyRequiring(SUMMARY_METADATA);
+        this.objectFilter = composite.notOnlyRequiring(SUMMARY_METADATA);
+        this.nameFilter = composite.onlyRequiring(EnumSet.of(Metadata.NAME));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setCompletedObjectPredicate(final Predicate<FileObjectMeta> predicate) {
+        this.completedPredicate = Objects.requireNonNull(predicate, "predicate should not be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setSourceOffsetPolicy(final SourceOffsetPolicy offsetPolicy) {
+        this.offsetMetadata = Set.copyOf(offsetPolicy.requiredMetadata());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean assignTask(final int taskId, final int taskCount) {
+        shardedListing.assign(new ShardAssignment(taskId, taskCount));
+        return true;
     }
 
     /**
@@ -143,4 +298,159 @@ public class AmazonS3FileSystemListing implements FileSystemListing<AmazonS3Stor
     public AmazonS3Storage storage() {
         return s3Storage;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (metadataExecutor != null) {
+            metadataExecutor.shutdownNow();
+        }
+        if (shardedListing != null) {
+            shardedListing.close();
+        }
+    }
+
+    private ListObjectsV2Request newListObjectsRequest(final String prefix,
+                                                       final String startAfter,
+                                                       final String delimiter) {
+        final ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(config.getAwsS3BucketName())
+                .withStartAfter(startAfter)
+                .withDelimiter(delimiter);
+
+        if (isNotBlank(prefix))
+            request.setPrefix(prefix);
+        return request;
+    }
+
+    private static List<FileObjectMeta> toFileObjectMetas(final ListObjectsV2Result result, final String startAfter) {
+        return result.getObjectSummaries()
+                .stream()
+                // Some S3-compatible services may not support the 'start-after' parameter.
+                .filter(summary -> startAfter == null || summary.getKey().compareTo(startAfter) > 0)
+                .map(AmazonS3Storage::createFileObjectMeta)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Iterates over the pages of a listing, sending a new ListObjectsV2 request only when the next page is consumed.
+     * The iteration either ends or fails on the first failed request.
+     */
+    private final class ListObjectsV2Pages implements Iterator<ListObjectsV2Result> {
+
+        private final ListObjectsV2Request request;
+        private final boolean failOnError;
+        private ListObjectsV2Result next;
+        private boolean done = false;
+
+        ListObjectsV2Pages(final ListObjectsV2Request request, final boolean failOnError) {
+            this.request = request;
+            this.failOnError = failOnError;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = fetchNextPage();
+                done = next == null || !next.isTruncated();
+            }
+            return next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ListObjectsV2Result next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final ListObjectsV2Result result = next;
+            next = null;
+            return result;
+        }
+
+        private ListObjectsV2Result fetchNextPage() {
+            try {
+                LOG.debug(
+                        "Sending new request for listing objects: bucketName={}, prefix={}, startAfter={}",
+                        request.getBucketName(),
+                        request.getPrefix(),
+                        request.getStartAfter()
+                );
+                final ListObjectsV2Result result = client.listObjectsV2(request);
+                if (result.isTruncated()) {
+                    LOG.debug("Object listing is truncated, listing next batch of objects");
+                }
+                request.setContinuationToken(result.getNextContinuationToken());
+                return result;
+            } catch (AmazonServiceException e) {
+                LOG.error(
+                        "Failed to list objects from the Amazon S3 bucket '{}'. "
+                                + "Error occurred while processing the request: {}",
+                        config.getAwsS3BucketName(),
+                        e
+                );
+                if (failOnError) {
+                    throw e;
+                }
+            } catch (SdkClientException e) {
+                LOG.error(
+                        "Failed to list objects from the Amazon S3 bucket '{}'. "
+                                + "Error occurred while making the request or handling the response: {}",
+                        config.getAwsS3BucketName(),
+                        e
+                );
+                if (failOnError) {
+                    throw e;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Lists the objects under a prefix, sending as many ListObjectsV2 requests as needed.
+     * The listing fails on the first failed request.
+     */
+    private final class S3PrefixLister implements PrefixLister {
+
+        private final String startAfter;
+
+        S3PrefixLister(final String startAfter) {
+            this.startAfter = startAfter;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<FileObjectMeta> list(final String prefix) {
+            return listWithDelimiter(prefix, null).objects();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DelimitedListing listWithDelimiter(final String prefix, final String delimiter) {
+            final ListObjectsV2Pages pages = new ListObjectsV2Pages(
+                newListObjectsRequest(prefix, startAfter, delimiter),
+                true
+            );
+            final List<FileObjectMeta> objectMetaList = new LinkedList<>();
+            final List<String> commonPrefixes = new LinkedList<>();
+            while (pages.hasNext()) {
+                final ListObjectsV2Result result = pages.next();
+                objectMetaList.addAll(toFileObjectMetas(result, startAfter));
+                commonPrefixes.addAll(result.getCommonPrefixes());
+            }
+            return new DelimitedListing(objectMetaList, commonPrefixes);
+        }
+    }
 }
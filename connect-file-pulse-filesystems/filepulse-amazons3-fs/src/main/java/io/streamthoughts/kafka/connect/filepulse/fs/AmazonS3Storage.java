@@ -22,9 +22,15 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3URI;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import io.streamthoughts.kafka.connect.filepulse.fs.stream.RangeReader;
+import io.streamthoughts.kafka.connect.filepulse.fs.stream.ReadAheadInputStream;
+import io.streamthoughts.kafka.connect.filepulse.fs.stream.ReadAheadOptions;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
 import org.slf4j.Logger;
@@ -34,23 +40,49 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The {@code AmazonS3Storage} can be used to interact with Amazon S3.
+ *
+ * The objects read ahead share a pool of {@link ReadAheadOptions#parallelism()} threads,
+ * which are released when the storage is closed.
  */
-public class AmazonS3Storage implements Storage {
+public class AmazonS3Storage implements Storage, AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(AmazonS3Storage.class);
 
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+
     private final AmazonS3 s3Client;
 
+    private final ReadAheadOptions readAheadOptions;
+
+    private volatile ExecutorService readAheadExecutor;
+
+    private volatile boolean closed = false;
+
     /**
      * Creates a new {@link AmazonS3Storage} instance.
      *
      * @param s3Client the Amazon S3 client.
      */
     public AmazonS3Storage(final AmazonS3 s3Client) {
+        this(s3Client, ReadAheadOptions.DISABLED);
+    }
+
+    /**
+     * Creates a new {@link AmazonS3Storage} instance.
+     *
+     * @param s3Client          the Amazon S3 client.
+     * @param readAheadOptions  the options used to read objects using concurrent ranged requests.
+     */
+    public AmazonS3Storage(final AmazonS3 s3Client,
+                           final ReadAheadOptions readAheadOptions) {
         this.s3Client = Objects.requireNonNull(s3Client, "s3Client should not be null");
+        this.readAheadOptions = Objects.requireNonNull(readAheadOptions, "readAheadOptions should not be null");
     }
 
     /**
@@ -99,9 +131,119 @@ public class AmazonS3Storage implements Storage {
      */
     @Override
     public InputStream getInputStream(final URI objectURI) {
+        return getInputStream(objectURI, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A HTTP Range request is used to only fetch the bytes of the object from the given position.
+     * If read-ahead is enabled, the object is fetched using multiple concurrent ranged requests.
+     */
+    @Override
+    public InputStream getInputStream(final URI objectURI, final long position) {
         final S3BucketKey s3Object = S3BucketKey.fromURI(objectURI);
+        if (readAheadOptions.isEnabled()) {
+            return getReadAheadInputStream(s3Object, position);
+        }
         final GetObjectRequest request = new GetObjectRequest(s3Object.bucketName(), s3Object.key());
-        return s3Client.getObject(request).getObjectContent();
+        if (position > 0) {
+            request.withRange(position);
+        }
+        try {
+            return s3Client.getObject(request).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HTTP_RANGE_NOT_SATISFIABLE) {
+                LOG.debug("No more bytes to read from object {} after position {}", s3Object.toURI(), position);
+                return InputStream.nullInputStream();
+            }
+            throw e;
+        }
+    }
+
+    private InputStream getReadAheadInputStream(final S3BucketKey s3Object, final long position) {
+        final long contentLength = s3Client
+            .getObjectMetadata(s3Object.bucketName(), s3Object.key())
+            .getContentLength();
+        if (position >= contentLength) {
+            LOG.debug("No more bytes to read from object {} after position {}", s3Object.toURI(), position);
+            return InputStream.nullInputStream();
+        }
+        return new ReadAheadInputStream(
+            s3Object.toURI().toString(),
+            new S3ObjectRangeReader(s3Object),
+            readAheadExecutor(),
+            position,
+            contentLength,
+            readAheadOptions
+        );
+    }
+
+    /**
+     * Fetches the ranges of an object using ranged GET requests, whose connections are aborted
+     * rather than drained when the ranges are no longer needed.
+     */
+    private final class S3ObjectRangeReader implements RangeReader {
+
+        private final S3BucketKey s3Object;
+
+        S3ObjectRangeReader(final S3BucketKey s3Object) {
+            this.s3Object = s3Object;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public InputStream open(final long position, final int length) {
+            final GetObjectRequest request = new GetObjectRequest(s3Object.bucketName(), s3Object.key())
+                .withRange(position, position + length - 1);
+            return s3Client.getObject(request).getObjectContent();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void abort(final InputStream stream) {
+            ((S3ObjectInputStream) stream).abort();
+        }
+    }
+
+    private ExecutorService readAheadExecutor() {
+        if (readAheadExecutor == null) {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("Cannot read ahead objects, the Amazon S3 storage is closed");
+                }
+                if (readAheadExecutor == null) {
+                    final AtomicInteger threadIds = new AtomicInteger(0);
+                    // Bounded, so that concurrently read objects do not exceed the connections of the client.
+                    readAheadExecutor = Executors.newFixedThreadPool(readAheadOptions.parallelism(), runnable -> {
+                        final String name = "amazon-s3-read-ahead-" + threadIds.incrementAndGet();
+                        final Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return readAheadExecutor;
+    }
+
+    /**
+     * Stops the threads used to read objects ahead. The read-ahead streams still open are failed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (readAheadExecutor != null) {
+            readAheadExecutor.shutdownNow();
+            readAheadExecutor = null;
+        }
     }
 
     /**
@@ -189,6 +331,31 @@ public class AmazonS3Storage implements Storage {
         return false;
     }
 
+    /**
+     * Creates a new {@link FileObjectMeta} from an object summary returned by a listing request.
+     * The user-defined metadata and the content digest of the object are not available in a summary.
+     *
+     * @param summary   the {@link S3ObjectSummary}.
+     * @return          a new {@link FileObjectMeta}.
+     */
+    static FileObjectMeta createFileObjectMeta(final S3ObjectSummary summary) {
+        final S3BucketKey s3Object = new S3BucketKey(summary.getBucketName(), summary.getKey());
+
+        final HashMap<String, Object> userDefinedMetadata = new HashMap<>();
+        userDefinedMetadata.put("s3.object.summary.bucketName", s3Object.bucketName());
+        userDefinedMetadata.put("s3.object.summary.key", s3Object.key());
+        userDefinedMetadata.put("s3.object.summary.etag", summary.getETag());
+        userDefinedMetadata.put("s3.object.summary.storageClass", summary.getStorageClass());
+
+        return new GenericFileObjectMeta.Builder()
+                .withUri(s3Object.toURI())
+                .withName(s3Object.key())
+                .withContentLength(summary.getSize())
+                .withLastModified(summary.getLastModified())
+                .withUserDefinedMetadata(userDefinedMetadata)
+                .build();
+    }
+
     private static FileObjectMeta createFileObjectMeta(final S3BucketKey s3Object,
                                                        final ObjectMetadata objectMetadata) {
 
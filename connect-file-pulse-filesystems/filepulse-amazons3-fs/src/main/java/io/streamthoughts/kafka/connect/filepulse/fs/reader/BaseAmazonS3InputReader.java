@@ -51,7 +51,7 @@ public abstract class BaseAmazonS3InputReader
             LOG.info("Create new Amazon S3 client from the properties passed through the connector's configuration ");
             final AmazonS3ClientConfig clientConfig = new AmazonS3ClientConfig(configs);
             s3Client = AmazonS3ClientUtils.createS3Client(clientConfig);
-            storage = new AmazonS3Storage(s3Client);
+            storage = new AmazonS3Storage(s3Client, clientConfig.getAwsS3ReadAheadOptions());
         }
     }
 
@@ -73,6 +73,9 @@ public abstract class BaseAmazonS3InputReader
      */
     @Override
     public void close() {
+        if (storage != null) {
+            storage.close();
+        }
         if (s3Client != null) {
             s3Client.shutdown();
         }
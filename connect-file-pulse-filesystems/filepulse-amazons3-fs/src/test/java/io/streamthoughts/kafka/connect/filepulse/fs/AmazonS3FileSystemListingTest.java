@@ -18,20 +18,34 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.fs;
 
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter.Metadata;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
 import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.connect.source.SourceTaskContext;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.streamthoughts.kafka.connect.filepulse.fs.AmazonS3ClientConfig.AWS_S3_BUCKET_NAME_CONFIG;
 import static io.streamthoughts.kafka.connect.filepulse.fs.AmazonS3ClientConfig.AWS_S3_BUCKET_PREFIX_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.fs.AmazonS3ClientConfig.AWS_S3_LISTING_FETCH_METADATA_ENABLED_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.fs.AmazonS3ClientConfig.AWS_S3_LISTING_INCREMENTAL_ENABLED_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig.FS_LISTING_SHARDS_PREFIXES_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig.FS_LISTING_SHARDS_STRATEGY_CONFIG;
 
 public class AmazonS3FileSystemListingTest extends BaseAmazonS3Test {
 
@@ -84,6 +98,243 @@ public class AmazonS3FileSystemListingTest extends BaseAmazonS3Test {
         filteredObjectKeys.forEach(key -> Assert.assertTrue(onlyNames.contains(key)));
     }
 
+    @Test
+    public void should_stream_all_objects_given_non_empty_bucket() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        OBJECT_KEYS.forEach(key -> client.putObject(S3_TEST_BUCKET, key, "contents"));
+        client.putObject(S3_TEST_BUCKET, "file/name/empty/", "");
+
+        var clientConfig = new AmazonS3ClientConfig(unmodifiableCommonsProperties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+        listing.setFilter(new CompositeFileListFilter(List.of(new PredicateFileListFilter() {
+            @Override
+            public boolean test(final FileObjectMeta meta) {
+                return meta.contentLength() > 0;
+            }
+
+            @Override
+            public Set<Metadata> requiredMetadata() {
+                return EnumSet.of(Metadata.CONTENT_LENGTH);
+            }
+        })));
+
+        // WHEN
+        final Set<String> onlyNames;
+        try (Stream<FileObjectMeta> objects = listing.streamObjects()) {
+            onlyNames = objects.map(FileObjectMeta::name).collect(Collectors.toSet());
+        }
+
+        // THEN
+        Assert.assertEquals(Set.copyOf(OBJECT_KEYS), onlyNames);
+        listing.close();
+    }
+
+    @Test
+    public void should_not_fetch_user_metadata_given_default_config() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        putObjectWithUserMetadata("file/name/foo/1");
+
+        var clientConfig = new AmazonS3ClientConfig(unmodifiableCommonsProperties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+
+        // WHEN
+        final Collection<FileObjectMeta> objects = listing.listObjects();
+
+        // THEN
+        Assert.assertEquals(1, objects.size());
+        final FileObjectMeta object = objects.iterator().next();
+        Assert.assertEquals(Long.valueOf("contents".length()), object.contentLength());
+        Assert.assertEquals("file/name/foo/1", object.userDefinedMetadata().get("s3.object.summary.key"));
+        Assert.assertFalse(object.userDefinedMetadata().containsKey("s3.object.user.metadata.owner"));
+        listing.close();
+    }
+
+    @Test
+    public void should_fetch_user_metadata_given_filter_requiring_it() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        OBJECT_KEYS.forEach(this::putObjectWithUserMetadata);
+
+        var clientConfig = new AmazonS3ClientConfig(unmodifiableCommonsProperties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+        listing.setFilter(new CompositeFileListFilter(List.of(
+            new PredicateFileListFilter() {
+                @Override
+                public boolean test(final FileObjectMeta meta) {
+                    return meta.name().contains("foo");
+                }
+
+                @Override
+                public Set<Metadata> requiredMetadata() {
+                    return EnumSet.of(Metadata.NAME);
+                }
+            },
+            new PredicateFileListFilter() {
+                @Override
+                public boolean test(final FileObjectMeta meta) {
+                    return "test".equals(meta.userDefinedMetadata().get("s3.object.user.metadata.owner"));
+                }
+            }
+        )));
+
+        // WHEN
+        final Collection<FileObjectMeta> objects = listing.listObjects();
+
+        // THEN
+        final Set<String> onlyNames = objects.stream().map(FileObjectMeta::name).collect(Collectors.toSet());
+        Assert.assertEquals(Set.of("file/name/foo/1", "file/name/foo/2"), onlyNames);
+        listing.close();
+    }
+
+    @Test
+    public void should_fetch_user_metadata_given_offset_policy_requiring_it() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        putObjectWithUserMetadata("file/name/foo/1");
+
+        var clientConfig = new AmazonS3ClientConfig(unmodifiableCommonsProperties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+        listing.setSourceOffsetPolicy(new SourceOffsetPolicy() {
+            @Override
+            public Optional<FileObjectOffset> getOffsetFor(final SourceTaskContext context,
+                                                           final FileObjectMeta source) {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, ?> toOffsetMap(final FileObjectOffset offset) {
+                return Map.of();
+            }
+
+            @Override
+            public Map<String, Object> toPartitionMap(final FileObjectMeta source) {
+                return Map.of("owner", source.userDefinedMetadata().get("s3.object.user.metadata.owner"));
+            }
+
+            @Override
+            public Set<Metadata> requiredMetadata() {
+                return EnumSet.of(Metadata.USER_DEFINED_METADATA);
+            }
+        });
+
+        // WHEN
+        final Collection<FileObjectMeta> objects = listing.listObjects();
+
+        // THEN
+        Assert.assertEquals(1, objects.size());
+        final FileObjectMeta object = objects.iterator().next();
+        Assert.assertEquals("test", object.userDefinedMetadata().get("s3.object.user.metadata.owner"));
+        listing.close();
+    }
+
+    @Test
+    public void should_fetch_user_metadata_given_fetch_metadata_enabled() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        putObjectWithUserMetadata("file/name/foo/1");
+
+        var properties = new HashMap<>(unmodifiableCommonsProperties);
+        properties.put(AWS_S3_LISTING_FETCH_METADATA_ENABLED_CONFIG, "true");
+        var clientConfig = new AmazonS3ClientConfig(properties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+
+        // WHEN
+        final Collection<FileObjectMeta> objects = listing.listObjects();
+
+        // THEN
+        Assert.assertEquals(1, objects.size());
+        final FileObjectMeta object = objects.iterator().next();
+        Assert.assertEquals("test", object.userDefinedMetadata().get("s3.object.user.metadata.owner"));
+        listing.close();
+    }
+
+    @Test
+    public void should_list_objects_after_last_completed_key_given_incremental_listing() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        List.of("key/1", "key/2", "key/3").forEach(key -> client.putObject(S3_TEST_BUCKET, key, "contents"));
+
+        var properties = new HashMap<>(unmodifiableCommonsProperties);
+        properties.put(AWS_S3_LISTING_INCREMENTAL_ENABLED_CONFIG, "true");
+        var clientConfig = new AmazonS3ClientConfig(properties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+        final Set<String> completed = Set.of("key/1", "key/2");
+        listing.setCompletedObjectPredicate(object -> completed.contains(object.name()));
+
+        // WHEN
+        final Collection<FileObjectMeta> first = listing.listObjects();
+        client.putObject(S3_TEST_BUCKET, "key/0", "contents"); // created with a lower key
+        client.putObject(S3_TEST_BUCKET, "key/4", "contents");
+        final Collection<FileObjectMeta> second = listing.listObjects();
+
+        // THEN
+        Assert.assertEquals(3, first.size());
+        final Set<String> onlyNames = second.stream().map(FileObjectMeta::name).collect(Collectors.toSet());
+        Assert.assertEquals(Set.of("key/3", "key/4"), onlyNames);
+        listing.close();
+    }
+
+    @Test
+    public void should_list_all_objects_given_shards_discovered_using_delimiter() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        OBJECT_KEYS.forEach(key -> client.putObject(S3_TEST_BUCKET, key, "contents"));
+        client.putObject(S3_TEST_BUCKET, "file/name/4", "contents");
+
+        var properties = new HashMap<>(unmodifiableCommonsProperties);
+        properties.put(AWS_S3_BUCKET_PREFIX_CONFIG, "file/name/");
+        properties.put(FS_LISTING_SHARDS_STRATEGY_CONFIG, "delimiter");
+        var clientConfig = new AmazonS3ClientConfig(properties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+
+        // WHEN
+        final Collection<FileObjectMeta> objects = listing.listObjects();
+
+        // THEN
+        final Set<String> onlyNames = objects.stream().map(FileObjectMeta::name).collect(Collectors.toSet());
+        Assert.assertEquals(Set.of("file/name/4", "file/name/bar/3", "file/name/foo/1", "file/name/foo/2"), onlyNames);
+        listing.close();
+    }
+
+    @Test
+    public void should_only_list_objects_under_configured_shards() {
+        // GIVEN
+        client.createBucket(S3_TEST_BUCKET);
+        OBJECT_KEYS.forEach(key -> client.putObject(S3_TEST_BUCKET, key, "contents"));
+
+        var properties = new HashMap<>(unmodifiableCommonsProperties);
+        properties.put(AWS_S3_BUCKET_PREFIX_CONFIG, "file/name/");
+        properties.put(FS_LISTING_SHARDS_STRATEGY_CONFIG, "list");
+        properties.put(FS_LISTING_SHARDS_PREFIXES_CONFIG, "foo/,foo/1");
+        var clientConfig = new AmazonS3ClientConfig(properties);
+        var listing = new AmazonS3FileSystemListing();
+        listing.configure(clientConfig, endpointConfiguration);
+
+        // WHEN
+        final Collection<FileObjectMeta> objects = listing.listObjects();
+
+        // THEN
+        final Set<String> onlyNames = objects.stream().map(FileObjectMeta::name).collect(Collectors.toSet());
+        Assert.assertEquals(Set.of("file/name/foo/1", "file/name/foo/2"), onlyNames);
+        listing.close();
+    }
+
+    private void putObjectWithUserMetadata(final String key) {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength("contents".length());
+        metadata.addUserMetadata("owner", "test");
+        client.putObject(S3_TEST_BUCKET, key, new ByteArrayInputStream("contents".getBytes()), metadata);
+    }
+
     @Test(expected = ConfigException.class)
     public void should_throw_error_given_non_existing_bucket_name() {
         // GIVEN
@@ -23,6 +23,7 @@ import io.streamthoughts.kafka.connect.filepulse.fs.AmazonS3Storage;
 import io.streamthoughts.kafka.connect.filepulse.fs.BaseAmazonS3Test;
 import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.fs.S3BucketKey;
@@ -36,6 +37,7 @@ import java.io.File;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Random;
 
 public class AmazonS3BytesArrayInputReaderTest extends BaseAmazonS3Test {
@@ -89,6 +91,37 @@ public class AmazonS3BytesArrayInputReaderTest extends BaseAmazonS3Test {
 
     }
 
+    @Test
+    public void should_read_remaining_bytes_given_committed_offset() {
+        client.createBucket(S3_TEST_BUCKET);
+        client.putObject(S3_TEST_BUCKET, "my-key", objectFile);
+
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(
+            new S3BucketKey(S3_TEST_BUCKET, "my-key").toURI()
+        );
+        iterator.seekTo(new FileObjectOffset(1024, 0, System.currentTimeMillis()));
+
+        Assert.assertTrue(iterator.hasNext());
+        final RecordsIterable<FileRecord<TypedStruct>> records = iterator.next();
+
+        Assert.assertEquals(1, records.size());
+        final byte[] actuals = records.last().value().get("message").value();
+        Assert.assertArrayEquals(Arrays.copyOfRange(content, 1024, content.length), actuals);
+    }
+
+    @Test
+    public void should_complete_given_committed_offset_at_end_of_object() {
+        client.createBucket(S3_TEST_BUCKET);
+        client.putObject(S3_TEST_BUCKET, "my-key", objectFile);
+
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(
+            new S3BucketKey(S3_TEST_BUCKET, "my-key").toURI()
+        );
+        iterator.seekTo(new FileObjectOffset(content.length, 0, System.currentTimeMillis()));
+
+        Assert.assertFalse(iterator.hasNext());
+    }
+
     private static byte[] getRandomByteArray() {
         int byteSize = 1024 * 4;
         final ByteBuffer bf = ByteBuffer.wrap(new byte[byteSize]);
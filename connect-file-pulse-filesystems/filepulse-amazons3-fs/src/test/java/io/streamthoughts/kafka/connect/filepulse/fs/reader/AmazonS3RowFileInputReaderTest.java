@@ -21,10 +21,13 @@ package io.streamthoughts.kafka.connect.filepulse.fs.reader;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.fs.AmazonS3Storage;
 import io.streamthoughts.kafka.connect.filepulse.fs.BaseAmazonS3Test;
+import io.streamthoughts.kafka.connect.filepulse.fs.stream.ReadAheadOptions;
 import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import io.streamthoughts.kafka.connect.filepulse.fs.S3BucketKey;
 import org.junit.Assert;
 import org.junit.Before;
@@ -35,6 +38,8 @@ import org.junit.rules.TemporaryFolder;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -89,6 +94,69 @@ public class AmazonS3RowFileInputReaderTest extends BaseAmazonS3Test {
         Assert.assertEquals(10, results.size());
     }
 
+    @Test
+    public void should_read_remaining_lines_given_committed_offset() {
+        client.createBucket(S3_TEST_BUCKET);
+        client.putObject(S3_TEST_BUCKET, "my-key", objectFile);
+
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(
+            new S3BucketKey(S3_TEST_BUCKET, "my-key").toURI()
+        );
+        // each line is 11 bytes length (including the line terminator).
+        iterator.seekTo(new FileObjectOffset(55, 5, System.currentTimeMillis()));
+
+        List<FileRecord<TypedStruct>> results = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+            results.addAll(next.collect());
+        }
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals("00000000-5", results.get(0).value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        Assert.assertEquals(objectFile.length(), iterator.context().offset().position());
+    }
+
+    @Test
+    public void should_read_remaining_lines_given_read_ahead_enabled() {
+        client.createBucket(S3_TEST_BUCKET);
+        client.putObject(S3_TEST_BUCKET, "my-key", objectFile);
+
+        reader = new AmazonS3RowFileInputReader();
+        reader.setStorage(new AmazonS3Storage(client, new ReadAheadOptions(16, 4, 1024)));
+        reader.configure(unmodifiableCommonsProperties);
+
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(
+            new S3BucketKey(S3_TEST_BUCKET, "my-key").toURI()
+        );
+        iterator.seekTo(new FileObjectOffset(55, 5, System.currentTimeMillis()));
+
+        List<FileRecord<TypedStruct>> results = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+            results.addAll(next.collect());
+        }
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals("00000000-9", results.get(4).value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void should_stop_read_ahead_given_closed_reader() throws Exception {
+        client.createBucket(S3_TEST_BUCKET);
+        client.putObject(S3_TEST_BUCKET, "my-key", objectFile);
+
+        final AmazonS3Storage storage = new AmazonS3Storage(client, new ReadAheadOptions(16, 4, 1024));
+        reader = new AmazonS3RowFileInputReader();
+        reader.setStorage(storage);
+        reader.configure(unmodifiableCommonsProperties);
+
+        final URI objectURI = new S3BucketKey(S3_TEST_BUCKET, "my-key").toURI();
+        try (InputStream stream = storage.getInputStream(objectURI, 0L)) {
+            Assert.assertEquals(objectFile.length(), stream.readAllBytes().length);
+        }
+        reader.close();
+
+        storage.getInputStream(objectURI, 0L);
+    }
+
     private void generateLines(final BufferedWriter writer) throws IOException {
 
         for (int i = 0; i < NLINES; i++) {
@@ -24,6 +24,8 @@ import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobClientBuilder;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.options.BlobInputStreamOptions;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
 import org.slf4j.Logger;
@@ -145,6 +147,20 @@ public class AzureBlobStorage implements Storage {
         return getBlobClient(uri).openInputStream();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The blob is opened with a {@link BlobRange} so that only the remaining bytes are downloaded.
+     */
+    @Override
+    public InputStream getInputStream(final URI uri, final long position) {
+        if (position <= 0) {
+            return getInputStream(uri);
+        }
+        final BlobInputStreamOptions options = new BlobInputStreamOptions().setRange(new BlobRange(position));
+        return getBlobClient(uri).openInputStream(options);
+    }
+
     private BlobClient getBlobClient(final URI uri) {
         final String blobName = new BlobClientBuilder()
                 .endpoint(uri.toString())
@@ -24,6 +24,11 @@ import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.models.BlobItem;
 import com.azure.storage.blob.models.BlobListDetails;
 import com.azure.storage.blob.models.ListBlobsOptions;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ListingScope;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.PrefixLister;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardAssignment;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedObjectListing;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
 import org.slf4j.Logger;
@@ -41,6 +46,9 @@ import static io.streamthoughts.kafka.connect.filepulse.internal.StringUtils.isN
 /**
  * The {@code AzureBlobStorageFileSystemListing} that can be used for listing objects
  * that exist in a specific Azure Blob Storage container.
+ *
+ * The container prefix is narrowed using the hints of the filters (see {@link ListingScope}), and can be split into
+ * sub-prefixes that are listed concurrently (see {@link ShardedObjectListing}).
  */
 public class AzureBlobStorageFileSystemListing implements FileSystemListing<AzureBlobStorage> {
 
@@ -51,6 +59,7 @@ public class AzureBlobStorageFileSystemListing implements FileSystemListing<Azur
     private FileListFilter filter;
     private AzureBlobStorage storage;
     private AzureBlobStorageConfig config;
+    private ShardedObjectListing shardedListing;
 
     /**
      * {@inheritDoc}
@@ -59,6 +68,7 @@ public class AzureBlobStorageFileSystemListing implements FileSystemListing<Azur
     public void configure(final Map<String, ?> configs) {
         this.config = new AzureBlobStorageConfig(configs);
         this.storage = new AzureBlobStorage(AzureBlobStorageClientUtils.createBlobContainerClient(config));
+        this.shardedListing = new ShardedObjectListing(new ShardedListingConfig(configs), "azure-blob-storage");
     }
 
     /**
@@ -66,37 +76,12 @@ public class AzureBlobStorageFileSystemListing implements FileSystemListing<Azur
      */
     @Override
     public Collection<FileObjectMeta> listObjects() {
-        LOG.debug("Listing objects in container '{}' using prefix '{}'",
+        final ListingScope scope = ListingScope.of(config.getPrefix(), filter);
+        LOG.debug("Listing objects in container '{}' using scope: {}",
                 config.getContainerName(),
-                config.getPrefix()
+                scope
         );
-        final BlobContainerClient blobContainerClient = storage.getBlobContainerClient();
-        final ListBlobsOptions options = new ListBlobsOptions()
-            .setDetails(new BlobListDetails()
-                .setRetrieveMetadata(true)
-            );
-
-        if (isNotBlank(config.getPrefix())) {
-            options.setPrefix(config.getPrefix());
-        }
-
-        final PagedIterable<BlobItem> blobItems = blobContainerClient.listBlobs(options, DEFAULT_TIME);
-        final List<FileObjectMeta> fileObjectMetaList = new LinkedList<>();
-        for (final BlobItem item : blobItems) {
-            LOG.debug("Find BlobItem with name '{}'", item.getName());
-            final Boolean prefix = item.isPrefix();
-            if (prefix != null && prefix) {
-                LOG.info("Ignored virtual directory prefix: '{}'", item.getName());
-            } else {
-                final BlobClient blobClient = blobContainerClient.getBlobClient(item.getName());
-                if (isDirectory(blobClient)) {
-                    LOG.info("Ignored virtual directory prefix: '{}'", item.getName());
-                } else {
-                    final GenericFileObjectMeta objectMetadata = storage.getObjectMetadata(blobClient);
-                    fileObjectMetaList.add(objectMetadata);
-                }
-            }
-        }
+        final List<FileObjectMeta> fileObjectMetaList = shardedListing.list(scope, new AzurePrefixLister());
         return filter == null ? fileObjectMetaList : filter.filterFiles(fileObjectMetaList);
     }
 
@@ -115,6 +100,15 @@ public class AzureBlobStorageFileSystemListing implements FileSystemListing<Azur
         this.filter = filter;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean assignTask(final int taskId, final int taskCount) {
+        shardedListing.assign(new ShardAssignment(taskId, taskCount));
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -122,4 +116,71 @@ public class AzureBlobStorageFileSystemListing implements FileSystemListing<Azur
     public AzureBlobStorage storage() {
         return storage;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (shardedListing != null) {
+            shardedListing.close();
+        }
+    }
+
+    /**
+     * Lists the blobs under a prefix.
+     */
+    private final class AzurePrefixLister implements PrefixLister {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<FileObjectMeta> list(final String prefix) {
+            return listWithDelimiter(prefix, null).objects();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DelimitedListing listWithDelimiter(final String prefix, final String delimiter) {
+            final BlobContainerClient blobContainerClient = storage.getBlobContainerClient();
+            final ListBlobsOptions options = new ListBlobsOptions()
+                .setDetails(new BlobListDetails()
+                    .setRetrieveMetadata(true)
+                );
+
+            if (isNotBlank(prefix)) {
+                options.setPrefix(prefix);
+            }
+
+            final PagedIterable<BlobItem> blobItems = delimiter == null ?
+                blobContainerClient.listBlobs(options, DEFAULT_TIME) :
+                blobContainerClient.listBlobsByHierarchy(delimiter, options, DEFAULT_TIME);
+
+            final List<FileObjectMeta> fileObjectMetaList = new LinkedList<>();
+            final List<String> commonPrefixes = new LinkedList<>();
+            for (final BlobItem item : blobItems) {
+                LOG.debug("Find BlobItem with name '{}'", item.getName());
+                final Boolean isPrefix = item.isPrefix();
+                if (isPrefix != null && isPrefix) {
+                    if (delimiter != null) {
+                        commonPrefixes.add(item.getName());
+                    } else {
+                        LOG.info("Ignored virtual directory prefix: '{}'", item.getName());
+                    }
+                } else {
+                    final BlobClient blobClient = blobContainerClient.getBlobClient(item.getName());
+                    if (isDirectory(blobClient)) {
+                        LOG.info("Ignored virtual directory prefix: '{}'", item.getName());
+                    } else {
+                        final GenericFileObjectMeta objectMetadata = storage.getObjectMetadata(blobClient);
+                        fileObjectMetaList.add(objectMetadata);
+                    }
+                }
+            }
+            return new DelimitedListing(fileObjectMetaList, commonPrefixes);
+        }
+    }
 }
@@ -18,6 +18,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.fs.reader;
 
+import io.streamthoughts.kafka.connect.filepulse.annotation.VisibleForTesting;
 import io.streamthoughts.kafka.connect.filepulse.fs.AzureBlobStorageClientUtils;
 import io.streamthoughts.kafka.connect.filepulse.fs.AzureBlobStorageConfig;
 import io.streamthoughts.kafka.connect.filepulse.fs.AzureBlobStorage;
@@ -50,6 +51,11 @@ public abstract class AzureBlobStorageInputReader extends AbstractFileInputReade
         }
     }
 
+    @VisibleForTesting
+    void setStorage(final AzureBlobStorage storage) {
+        this.storage = storage;
+    }
+
     @Override
     public AzureBlobStorage storage() {
         return storage;
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.reader;
+
+import com.azure.core.http.HttpClient;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobContainerClientBuilder;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.fs.AzureBlobStorage;
+import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+public class AzureBlobStorageRowFileInputReaderTest {
+
+    private static final String LF = "\n";
+
+    private static final String TEST_CONTAINER_ENDPOINT = "https://account.blob.core.windows.net/container";
+    private static final String TEST_BLOB_NAME = "test.csv";
+
+    private static final int NLINES = 10;
+
+    private InMemoryBlobHttpClient httpClient;
+
+    private AzureBlobStorageRowFileInputReader reader;
+
+    @Before
+    public void setUp() {
+        httpClient = new InMemoryBlobHttpClient(generateLines().getBytes(StandardCharsets.UTF_8));
+
+        final BlobContainerClient containerClient = new BlobContainerClientBuilder()
+                .endpoint(TEST_CONTAINER_ENDPOINT)
+                .httpClient(httpClient)
+                .buildClient();
+
+        reader = new AzureBlobStorageRowFileInputReader();
+        reader.setStorage(new AzureBlobStorage(containerClient));
+        reader.configure(new HashMap<>());
+    }
+
+    @After
+    public void tearDown() {
+        reader.close();
+    }
+
+    @Test
+    public void should_read_all_lines() {
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(blobURI());
+        List<FileRecord<TypedStruct>> results = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+            results.addAll(next.collect());
+        }
+        Assert.assertEquals(10, results.size());
+    }
+
+    @Test
+    public void should_read_remaining_lines_given_committed_offset() {
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(blobURI());
+        // each line is 11 bytes length (including the line terminator).
+        iterator.seekTo(new FileObjectOffset(55, 5, System.currentTimeMillis()));
+        List<FileRecord<TypedStruct>> results = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+            results.addAll(next.collect());
+        }
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals("00000000-5", results.get(0).value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        // the object must be read from the committed position, not from the beginning.
+        Assert.assertFalse(httpClient.ranges.isEmpty());
+        Assert.assertTrue(httpClient.ranges.stream().allMatch(range -> range.startsWith("bytes=55-")));
+    }
+
+    private static URI blobURI() {
+        return URI.create(TEST_CONTAINER_ENDPOINT + "/" + TEST_BLOB_NAME);
+    }
+
+    private static String generateLines() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < NLINES; i++) {
+            sb.append("00000000-").append(i);
+            if (i + 1 < NLINES) {
+                sb.append(LF);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A {@link HttpClient} serving a single block blob from memory, supporting ranged downloads.
+     */
+    private static final class InMemoryBlobHttpClient implements HttpClient {
+
+        private final byte[] content;
+
+        private final List<String> ranges = new ArrayList<>();
+
+        InMemoryBlobHttpClient(final byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public Mono<HttpResponse> send(final HttpRequest request) {
+            final HttpHeaders headers = new HttpHeaders()
+                    .set("ETag", "\"0x1\"")
+                    .set("Last-Modified", "Wed, 01 Jan 2020 00:00:00 GMT")
+                    .set("x-ms-blob-type", "BlockBlob")
+                    .set("Content-Type", "text/plain");
+
+            if (request.getHttpMethod() == HttpMethod.HEAD) {
+                headers.set("Content-Length", String.valueOf(content.length));
+                return Mono.just(new InMemoryHttpResponse(request, 200, headers, new byte[0]));
+            }
+
+            String range = request.getHeaders().getValue("x-ms-range");
+            if (range == null) {
+                range = request.getHeaders().getValue("Range");
+            }
+            int start = 0;
+            int end = content.length - 1;
+            if (range != null) {
+                ranges.add(range);
+                final String[] bounds = range.substring("bytes=".length()).split("-", -1);
+                start = Integer.parseInt(bounds[0]);
+                if (!bounds[1].isEmpty()) {
+                    end = Math.min(end, Integer.parseInt(bounds[1]));
+                }
+            }
+            final byte[] body = Arrays.copyOfRange(content, start, end + 1);
+            headers.set("Content-Length", String.valueOf(body.length));
+            headers.set("Content-Range", "bytes " + start + "-" + end + "/" + content.length);
+            return Mono.just(new InMemoryHttpResponse(request, range == null ? 200 : 206, headers, body));
+        }
+    }
+
+    private static final class InMemoryHttpResponse extends HttpResponse {
+
+        private final int statusCode;
+
+        private final HttpHeaders headers;
+
+        private final byte[] body;
+
+        InMemoryHttpResponse(final HttpRequest request,
+                             final int statusCode,
+                             final HttpHeaders headers,
+                             final byte[] body) {
+            super(request);
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(final String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.just(ByteBuffer.wrap(body));
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.just(body);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return getBodyAsString(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(final Charset charset) {
+            return Mono.just(new String(body, charset));
+        }
+    }
+}
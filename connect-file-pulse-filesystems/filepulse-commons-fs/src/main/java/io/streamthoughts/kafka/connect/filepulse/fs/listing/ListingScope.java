@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.listing;
+
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter;
+
+import java.util.Objects;
+
+/**
+ * A {@code ListingScope} is the prefix, and the optional delimiter, used to list the objects of an object storage.
+ *
+ * The scope is derived from the configured prefix and from the hints of the {@link FileListFilter} applied on the
+ * listed objects (see {@link FileListFilter#listingPrefix()} and {@link FileListFilter#listingDelimiter()}),
+ * so that the objects that can't be accepted by the filter are not listed.
+ */
+public final class ListingScope {
+
+    private final String prefix;
+
+    private final String delimiter;
+
+    /**
+     * Creates a new {@link ListingScope} for the given configured prefix and filter.
+     *
+     * @param configuredPrefix  the configured prefix, can be {@code null}.
+     * @param filter            the filter applied on listed objects, can be {@code null}.
+     * @return                  a new {@link ListingScope}.
+     */
+    public static ListingScope of(final String configuredPrefix, final FileListFilter filter) {
+        final String configured = configuredPrefix == null ? "" : configuredPrefix;
+        if (filter == null) {
+            return new ListingScope(configured, null);
+        }
+        final String filterPrefix = filter.listingPrefix();
+        if (filterPrefix.startsWith(configured)) {
+            return new ListingScope(filterPrefix, filter.listingDelimiter());
+        }
+        if (configured.startsWith(filterPrefix)) {
+            return new ListingScope(configured, filter.listingDelimiter());
+        }
+        // No object under the configured prefix can be accepted by the filter.
+        return new ListingScope(configured, null);
+    }
+
+    private ListingScope(final String prefix, final String delimiter) {
+        this.prefix = Objects.requireNonNull(prefix, "prefix can't be null");
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * @return the prefix of the objects to list, can be empty.
+     */
+    public String prefix() {
+        return prefix;
+    }
+
+    /**
+     * @return the delimiter that the listed objects do not contain after the prefix, or {@code null}.
+     */
+    public String delimiter() {
+        return delimiter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[prefix=" + prefix + ", delimiter=" + delimiter + "]";
+    }
+}
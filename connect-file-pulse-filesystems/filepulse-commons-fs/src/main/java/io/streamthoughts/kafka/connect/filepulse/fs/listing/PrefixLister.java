@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.listing;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@code PrefixLister} lists the objects of an object storage under a single prefix.
+ *
+ * Implementations must be thread-safe as prefixes are listed concurrently by a {@link ShardedObjectListing}.
+ * Implementations must throw an exception rather than return a partial listing when some objects cannot be listed.
+ */
+public interface PrefixLister {
+
+    /**
+     * Lists all the objects whose name starts with the given prefix.
+     *
+     * @param prefix    the prefix of the objects to list, can be empty.
+     * @return          the list of objects.
+     * @throws RuntimeException if the objects cannot be completely listed.
+     */
+    List<FileObjectMeta> list(final String prefix);
+
+    /**
+     * Lists the objects whose name starts with the given prefix and does not contain the delimiter after it,
+     * and the common prefixes of all the other objects, i.e. up to the first occurrence of the delimiter.
+     *
+     * @param prefix    the prefix of the objects to list, can be empty.
+     * @param delimiter the delimiter.
+     * @return          the {@link DelimitedListing}.
+     * @throws RuntimeException if the objects cannot be completely listed.
+     */
+    DelimitedListing listWithDelimiter(final String prefix, final String delimiter);
+
+    /**
+     * The result of a listing using a delimiter.
+     */
+    final class DelimitedListing {
+
+        private final List<FileObjectMeta> objects;
+        private final List<String> commonPrefixes;
+
+        /**
+         * Creates a new {@link DelimitedListing} instance.
+         *
+         * @param objects           the objects not contained in a common prefix.
+         * @param commonPrefixes    the common prefixes.
+         */
+        public DelimitedListing(final List<FileObjectMeta> objects,
+                                final List<String> commonPrefixes) {
+            this.objects = Collections.unmodifiableList(Objects.requireNonNull(objects, "objects can't be null"));
+            this.commonPrefixes = Collections.unmodifiableList(
+                Objects.requireNonNull(commonPrefixes, "commonPrefixes can't be null")
+            );
+        }
+
+        public List<FileObjectMeta> objects() {
+            return objects;
+        }
+
+        public List<String> commonPrefixes() {
+            return commonPrefixes;
+        }
+    }
+}
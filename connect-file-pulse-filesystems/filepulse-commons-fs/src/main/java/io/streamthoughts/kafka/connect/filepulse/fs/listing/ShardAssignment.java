@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.listing;
+
+import io.streamthoughts.kafka.connect.filepulse.annotation.VisibleForTesting;
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@code ShardAssignment} is the subset of listing shards owned by a task, among all the tasks of a connector.
+ *
+ * <p>
+ * Shards are assigned to tasks using a jump consistent hash of their prefix, so that every task can compute
+ * the assignment without coordination. When the number of tasks changes, only about {@code 1/n} of the shards
+ * are moved to another task, the other ones remain owned by the same task.
+ * </p>
+ */
+public final class ShardAssignment {
+
+    private final int taskId;
+
+    private final int taskCount;
+
+    /**
+     * Creates a new {@link ShardAssignment} instance.
+     *
+     * @param taskId    the task id.
+     * @param taskCount the total number of tasks.
+     */
+    public ShardAssignment(final int taskId, final int taskCount) {
+        if (taskCount < 1) {
+            throw new IllegalArgumentException("taskCount must be greater than 0, was: " + taskCount);
+        }
+        if (taskId < 0 || taskId >= taskCount) {
+            throw new IllegalArgumentException("taskId must be in [0, " + taskCount + "), was: " + taskId);
+        }
+        this.taskId = taskId;
+        this.taskCount = taskCount;
+    }
+
+    public int taskId() {
+        return taskId;
+    }
+
+    public int taskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Checks whether the given shard is assigned to this task.
+     *
+     * @param shard the shard prefix (or an object key).
+     * @return      {@code true} if the shard is owned by this task.
+     */
+    public boolean owns(final String shard) {
+        return taskFor(shard, taskCount) == taskId;
+    }
+
+    /**
+     * Gets the task owning the given shard.
+     *
+     * @param shard     the shard prefix (or an object key).
+     * @param taskCount the total number of tasks.
+     * @return          the task id.
+     */
+    public static int taskFor(final String shard, final int taskCount) {
+        final byte[] bytes = shard.getBytes(StandardCharsets.UTF_8);
+        return jumpConsistentHash(Utils.murmur2(bytes) & 0xFFFFFFFFL, taskCount);
+    }
+
+    /**
+     * Jump consistent hash (J. Lamping, E. Veach, 2014).
+     *
+     * @param key       the key to hash.
+     * @param buckets   the number of buckets.
+     * @return          the bucket in {@code [0, buckets)}.
+     */
+    @VisibleForTesting
+    static int jumpConsistentHash(final long key, final int buckets) {
+        long k = key;
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            k = k * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((k >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[taskId=" + taskId + ", taskCount=" + taskCount + "]";
+    }
+}
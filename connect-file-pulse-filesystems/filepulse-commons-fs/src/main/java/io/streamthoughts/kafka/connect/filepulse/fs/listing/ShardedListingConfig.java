@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.listing;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The configuration of the sharded listing of objects, shared by all object storage listings.
+ *
+ * @see ShardedObjectListing
+ */
+public class ShardedListingConfig extends AbstractConfig {
+
+    private static final String GROUP_SHARDED_LISTING = "Sharded Listing";
+
+    /**
+     * The strategies that can be used for resolving the prefixes listed in parallel.
+     */
+    public enum Strategy {
+        /** Objects are listed sequentially using a single listing. */
+        NONE,
+        /** Prefixes are discovered using a delimiter listing of the listing prefix. */
+        DELIMITER,
+        /** Prefixes are taken from a configured list. */
+        LIST,
+        /** Prefixes are generated from all the hexadecimal strings of a fixed length. */
+        HEX,
+        /** Prefixes are generated from a date pattern for the last days. */
+        DATE
+    }
+
+    public static final String FS_LISTING_SHARDS_STRATEGY_CONFIG = "fs.listing.shards.strategy";
+    private static final String FS_LISTING_SHARDS_STRATEGY_DOC = "The strategy used for resolving the prefixes "
+            + "under which objects are listed in parallel. Must be one of: "
+            + Arrays.toString(Strategy.values()) + " (default NONE).";
+
+    public static final String FS_LISTING_SHARDS_PARALLELISM_CONFIG = "fs.listing.shards.parallelism";
+    private static final String FS_LISTING_SHARDS_PARALLELISM_DOC = "The maximum number of prefixes listed "
+            + "concurrently (default 4).";
+
+    public static final String FS_LISTING_SHARDS_DELIMITER_CONFIG = "fs.listing.shards.delimiter";
+    private static final String FS_LISTING_SHARDS_DELIMITER_DOC = "The delimiter used for discovering the prefixes "
+            + "when using the DELIMITER strategy (default '/').";
+
+    public static final String FS_LISTING_SHARDS_PREFIXES_CONFIG = "fs.listing.shards.prefixes";
+    private static final String FS_LISTING_SHARDS_PREFIXES_DOC = "The comma-separated list of prefixes, relative to "
+            + "the listing prefix, when using the LIST strategy. Objects outside these prefixes are not listed.";
+
+    public static final String FS_LISTING_SHARDS_HEX_LENGTH_CONFIG = "fs.listing.shards.hex.length";
+    private static final String FS_LISTING_SHARDS_HEX_LENGTH_DOC = "The number of hexadecimal characters of the "
+            + "prefixes generated when using the HEX strategy, i.e. 16^length prefixes are listed (default 1).";
+
+    public static final String FS_LISTING_SHARDS_DATE_PATTERN_CONFIG = "fs.listing.shards.date.pattern";
+    private static final String FS_LISTING_SHARDS_DATE_PATTERN_DOC = "The date pattern, relative to the listing "
+            + "prefix, of the prefixes generated for each day when using the DATE strategy (default 'yyyy/MM/dd/').";
+
+    public static final String FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_CONFIG = "fs.listing.shards.date.lookback.days";
+    private static final String FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_DOC = "The number of days, including the "
+            + "current day in UTC, for which prefixes are generated when using the DATE strategy. "
+            + "Objects of older days are not listed (default 2).";
+
+    /**
+     * Creates a new {@link ShardedListingConfig} instance.
+     *
+     * @param originals the configuration.
+     */
+    public ShardedListingConfig(final Map<?, ?> originals) {
+        super(define(new ConfigDef()), originals, false);
+    }
+
+    /**
+     * Adds the sharded listing configuration to the given {@link ConfigDef}.
+     *
+     * @param configDef the {@link ConfigDef} to complete.
+     * @return          the {@link ConfigDef}.
+     */
+    public static ConfigDef define(final ConfigDef configDef) {
+        int groupCounter = 0;
+        return configDef
+                .define(
+                        FS_LISTING_SHARDS_STRATEGY_CONFIG,
+                        ConfigDef.Type.STRING,
+                        Strategy.NONE.name(),
+                        ConfigDef.CaseInsensitiveValidString.in(
+                            Arrays.stream(Strategy.values()).map(Enum::name).toArray(String[]::new)
+                        ),
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_SHARDS_STRATEGY_DOC,
+                        GROUP_SHARDED_LISTING,
+                        groupCounter++,
+                        ConfigDef.Width.NONE,
+                        FS_LISTING_SHARDS_STRATEGY_CONFIG
+                )
+
+                .define(
+                        FS_LISTING_SHARDS_PARALLELISM_CONFIG,
+                        ConfigDef.Type.INT,
+                        4,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_SHARDS_PARALLELISM_DOC,
+                        GROUP_SHARDED_LISTING,
+                        groupCounter++,
+                        ConfigDef.Width.NONE,
+                        FS_LISTING_SHARDS_PARALLELISM_CONFIG
+                )
+
+                .define(
+                        FS_LISTING_SHARDS_DELIMITER_CONFIG,
+                        ConfigDef.Type.STRING,
+                        "/",
+                        new ConfigDef.NonEmptyString(),
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_SHARDS_DELIMITER_DOC,
+                        GROUP_SHARDED_LISTING,
+                        groupCounter++,
+                        ConfigDef.Width.NONE,
+                        FS_LISTING_SHARDS_DELIMITER_CONFIG
+                )
+
+                .define(
+                        FS_LISTING_SHARDS_PREFIXES_CONFIG,
+                        ConfigDef.Type.LIST,
+                        "",
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_SHARDS_PREFIXES_DOC,
+                        GROUP_SHARDED_LISTING,
+                        groupCounter++,
+                        ConfigDef.Width.NONE,
+                        FS_LISTING_SHARDS_PREFIXES_CONFIG
+                )
+
+                .define(
+                        FS_LISTING_SHARDS_HEX_LENGTH_CONFIG,
+                        ConfigDef.Type.INT,
+                        1,
+                        ConfigDef.Range.between(1, 4),
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_SHARDS_HEX_LENGTH_DOC,
+                        GROUP_SHARDED_LISTING,
+                        groupCounter++,
+                        ConfigDef.Width.NONE,
+                        FS_LISTING_SHARDS_HEX_LENGTH_CONFIG
+                )
+
+                .define(
+                        FS_LISTING_SHARDS_DATE_PATTERN_CONFIG,
+                        ConfigDef.Type.STRING,
+                        "yyyy/MM/dd/",
+                        new ConfigDef.NonEmptyString(),
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_SHARDS_DATE_PATTERN_DOC,
+                        GROUP_SHARDED_LISTING,
+                        groupCounter++,
+                        ConfigDef.Width.NONE,
+                        FS_LISTING_SHARDS_DATE_PATTERN_CONFIG
+                )
+
+                .define(
+                        FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_CONFIG,
+                        ConfigDef.Type.INT,
+                        2,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_DOC,
+                        GROUP_SHARDED_LISTING,
+                        groupCounter++,
+                        ConfigDef.Width.NONE,
+                        FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_CONFIG
+                );
+    }
+
+    public Strategy getShardsStrategy() {
+        return Strategy.valueOf(getString(FS_LISTING_SHARDS_STRATEGY_CONFIG).toUpperCase(Locale.ROOT));
+    }
+
+    public int getShardsParallelism() {
+        return getInt(FS_LISTING_SHARDS_PARALLELISM_CONFIG);
+    }
+
+    public String getShardsDelimiter() {
+        return getString(FS_LISTING_SHARDS_DELIMITER_CONFIG);
+    }
+
+    public List<String> getShardsPrefixes() {
+        return getList(FS_LISTING_SHARDS_PREFIXES_CONFIG);
+    }
+
+    public int getShardsHexLength() {
+        return getInt(FS_LISTING_SHARDS_HEX_LENGTH_CONFIG);
+    }
+
+    public String getShardsDatePattern() {
+        return getString(FS_LISTING_SHARDS_DATE_PATTERN_CONFIG);
+    }
+
+    public int getShardsDateLookbackDays() {
+        return getInt(FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_CONFIG);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.listing;
+
+import io.streamthoughts.kafka.connect.filepulse.annotation.VisibleForTesting;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code ShardedObjectListing} lists the objects of an object storage by splitting the listing prefix into
+ * sub-prefixes (a.k.a shards) which are listed concurrently on a bounded thread pool.
+ *
+ * <p>
+ * Shards are either discovered using a delimiter listing, taken from a configured list, or generated from
+ * a hexadecimal or a date pattern (see {@link ShardedListingConfig.Strategy}). The objects listed for all shards
+ * are merged, de-duplicated and returned in ascending name order, as they would be by a single listing.
+ * </p>
+ *
+ * <p>
+ * When a {@link ShardAssignment} is set (see {@link #assign(ShardAssignment)}), only the shards owned by the task
+ * are listed, so that several tasks can share the listing of an object storage. If no sharding strategy is
+ * configured, shards are then discovered using a delimiter listing.
+ * </p>
+ */
+public class ShardedObjectListing implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedObjectListing.class);
+
+    private final ShardedListingConfig config;
+
+    private final Clock clock;
+
+    private final String name;
+
+    private ExecutorService executor;
+
+    private volatile ShardAssignment assignment;
+
+    /**
+     * Creates a new {@link ShardedObjectListing} instance.
+     *
+     * @param config    the {@link ShardedListingConfig}.
+     * @param name      the name used for the listing threads.
+     */
+    public ShardedObjectListing(final ShardedListingConfig config, final String name) {
+        this(config, name, Clock.systemUTC());
+    }
+
+    @VisibleForTesting
+    ShardedObjectListing(final ShardedListingConfig config, final String name, final Clock clock) {
+        this.config = Objects.requireNonNull(config, "config can't be null");
+        this.clock = Objects.requireNonNull(clock, "clock can't be null");
+        this.name = name;
+    }
+
+    /**
+     * Restricts this listing to the shards owned by a task.
+     *
+     * @param assignment    the {@link ShardAssignment}, or {@code null} to list all shards.
+     */
+    public void assign(final ShardAssignment assignment) {
+        if (assignment != null) {
+            LOG.info("Listing only the shards assigned to task {}", assignment);
+        }
+        this.assignment = assignment;
+    }
+
+    /**
+     * @return {@code true} if objects are listed using more than one listing.
+     */
+    public boolean isEnabled() {
+        return config.getShardsStrategy() != ShardedListingConfig.Strategy.NONE || assignment != null;
+    }
+
+    /**
+     * Lists all the objects in the given scope.
+     *
+     * If the scope defines a delimiter, only the objects not contained in a sub-prefix ending with the delimiter
+     * are listed, using a single listing. In that case, listed objects are assigned individually to tasks.
+     *
+     * @param scope     the {@link ListingScope}.
+     * @param lister    the {@link PrefixLister} used to list each shard.
+     * @return          the list of objects.
+     */
+    public List<FileObjectMeta> list(final ListingScope scope, final PrefixLister lister) {
+        if (scope.delimiter() != null) {
+            return ownedObjects(lister.listWithDelimiter(scope.prefix(), scope.delimiter()).objects());
+        }
+        return list(scope.prefix(), lister);
+    }
+
+    /**
+     * Lists all the objects under the given prefix.
+     *
+     * @param prefix    the listing prefix, can be {@code null}.
+     * @param lister    the {@link PrefixLister} used to list each shard.
+     * @return          the list of objects.
+     * @throws RuntimeException if any shard cannot be listed, so that no partial listing is ever returned.
+     */
+    public List<FileObjectMeta> list(final String prefix, final PrefixLister lister) {
+        final String listingPrefix = prefix == null ? "" : prefix;
+        if (!isEnabled()) {
+            return lister.list(listingPrefix);
+        }
+
+        final List<FileObjectMeta> objects = new ArrayList<>();
+        final List<String> shards;
+        final ShardedListingConfig.Strategy strategy = config.getShardsStrategy();
+        if (strategy == ShardedListingConfig.Strategy.DELIMITER || strategy == ShardedListingConfig.Strategy.NONE) {
+            final PrefixLister.DelimitedListing listing = lister.listWithDelimiter(
+                listingPrefix,
+                config.getShardsDelimiter()
+            );
+            // Objects that are not contained in a shard are assigned individually.
+            objects.addAll(ownedObjects(listing.objects()));
+            shards = listing.commonPrefixes();
+        } else {
+            shards = resolveShards(listingPrefix);
+        }
+        return merge(listShards(ownedShards(shards), lister, objects));
+    }
+
+    private List<FileObjectMeta> listShards(final List<String> shards,
+                                            final PrefixLister lister,
+                                            final List<FileObjectMeta> objects) {
+        final ExecutorService executor = executor();
+        LOG.debug("Listing objects under {} prefixes using {} threads", shards.size(), config.getShardsParallelism());
+        final List<CompletableFuture<List<FileObjectMeta>>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> lister.list(shard), executor))
+                .collect(Collectors.toList());
+        try {
+            for (CompletableFuture<List<FileObjectMeta>> future : futures) {
+                objects.addAll(join(future));
+            }
+        } catch (RuntimeException e) {
+            // The objects of the other shards must not be returned without the objects of the failed shard.
+            LOG.error("Failed to list objects under one of {} prefixes, the listing is aborted", shards.size());
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return objects;
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            final AtomicInteger threadIds = new AtomicInteger(0);
+            executor = Executors.newFixedThreadPool(config.getShardsParallelism(), runnable -> {
+                final Thread thread = new Thread(runnable, name + "-listing-shard-" + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    private List<String> ownedShards(final List<String> shards) {
+        final ShardAssignment current = assignment;
+        if (current == null) {
+            return shards;
+        }
+        return shards.stream().filter(current::owns).collect(Collectors.toList());
+    }
+
+    private List<FileObjectMeta> ownedObjects(final Collection<FileObjectMeta> objects) {
+        final ShardAssignment current = assignment;
+        if (current == null) {
+            return new ArrayList<>(objects);
+        }
+        return objects.stream().filter(object -> current.owns(object.stringURI())).collect(Collectors.toList());
+    }
+
+    /**
+     * Resolves the shards of the given prefix when prefixes are not discovered.
+     *
+     * @param prefix    the listing prefix.
+     * @return          the list of prefixes to list.
+     */
+    @VisibleForTesting
+    List<String> resolveShards(final String prefix) {
+        final Set<String> shards = new LinkedHashSet<>();
+        switch (config.getShardsStrategy()) {
+            case LIST:
+                config.getShardsPrefixes().forEach(shard -> shards.add(prefix + shard));
+                break;
+            case HEX:
+                final int length = config.getShardsHexLength();
+                final int count = 1 << (4 * length);
+                for (int i = 0; i < count; i++) {
+                    shards.add(prefix + String.format("%0" + length + "x", i));
+                }
+                break;
+            case DATE:
+                final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(config.getShardsDatePattern());
+                final LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+                for (int days = config.getShardsDateLookbackDays() - 1; days >= 0; days--) {
+                    shards.add(prefix + formatter.format(today.minusDays(days)));
+                }
+                break;
+            default:
+                shards.add(prefix);
+        }
+        return new ArrayList<>(shards);
+    }
+
+    private static List<FileObjectMeta> join(final CompletableFuture<List<FileObjectMeta>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static List<FileObjectMeta> merge(final List<FileObjectMeta> objects) {
+        // Configured prefixes may overlap.
+        final Map<URI, FileObjectMeta> distinct = new LinkedHashMap<>();
+        objects.forEach(object -> distinct.putIfAbsent(object.uri(), object));
+        final List<FileObjectMeta> merged = new ArrayList<>(distinct.values());
+        merged.sort(Comparator.comparing(FileObjectMeta::name));
+        return merged;
+    }
+
+    /**
+     * Stops the threads used to list shards.
+     */
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
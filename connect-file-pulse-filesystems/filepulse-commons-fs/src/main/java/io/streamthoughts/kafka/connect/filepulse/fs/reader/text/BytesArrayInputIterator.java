@@ -19,6 +19,7 @@
 package io.streamthoughts.kafka.connect.filepulse.fs.reader.text;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.fs.Storage;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.ManagedFileInputIterator;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.IteratorManager;
 import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
@@ -29,30 +30,41 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 
-import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 public class BytesArrayInputIterator extends ManagedFileInputIterator<TypedStruct> {
 
-    private final InputStream stream;
+    private final URI objectURI;
+
+    private final Storage storage;
 
     private boolean hasNext = true;
 
+    private long startPosition = 0L;
+
+    // The bytes read in advance by prefill(), if any.
+    private byte[] prefilled;
+
     private final FileContext context;
 
     /**
      * Creates a new {@link BytesArrayInputIterator} instance.
      *
+     * @param objectURI         the {@link URI} of the object file.
      * @param meta              the {@link FileObjectMeta meta}.
-     * @param stream            the {@link InputStream}.
+     * @param storage           the {@link Storage} used to open the object file.
      * @param iteratorManager   the {@link IteratorManager} instance used for managing this iterator.
      */
-    BytesArrayInputIterator(final FileObjectMeta meta,
-                            final InputStream stream,
+    BytesArrayInputIterator(final URI objectURI,
+                            final FileObjectMeta meta,
+                            final Storage storage,
                             final IteratorManager iteratorManager) {
         super(meta, iteratorManager);
-        this.stream = stream;
+        this.objectURI = Objects.requireNonNull(objectURI, "objectURI should not be null");
+        this.storage = Objects.requireNonNull(storage, "storage should not be null");
         this.context = new FileContext(meta);
     }
 
@@ -66,10 +78,31 @@ public class BytesArrayInputIterator extends ManagedFileInputIterator<TypedStruc
 
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * The object file is completed if the offset is at or beyond its end, i.e. all its bytes were already read.
+     * </p>
      */
     @Override
     public void seekTo(final FileObjectOffset offset) {
+        Objects.requireNonNull(offset, "offset can't be null");
+        if (offset.position() > 0) {
+            startPosition = offset.position();
+            final Long contentLength = context.metadata().contentLength();
+            if (contentLength != null && startPosition >= contentLength) {
+                hasNext = false;
+            }
+        }
+    }
 
+    /**
+     * Reads all the bytes of the object file in advance, as they are returned as a single record.
+     */
+    @Override
+    public void prefill() {
+        if (hasNext() && prefilled == null) {
+            prefilled = readAllBytes();
+        }
     }
 
     /**
@@ -81,17 +114,29 @@ public class BytesArrayInputIterator extends ManagedFileInputIterator<TypedStruc
             throw new NoSuchElementException();
         }
 
-        try (stream){
-            byte[] bytes =  stream.readAllBytes();
+        try {
+            final byte[] bytes = prefilled != null ? prefilled : readAllBytes();
+            if (bytes.length == 0 && startPosition > 0) {
+                // Object file already read to the end, but its size was unknown while seeking.
+                return RecordsIterable.empty();
+            }
             TypedStruct struct = TypedStruct.create().put(TypedFileRecord.DEFAULT_MESSAGE_FIELD, bytes);
-            return RecordsIterable.of(new TypedFileRecord(new BytesRecordOffset(0, bytes.length), struct));
-        } catch (IOException e) {
-            throw new ReaderException("Failed to read all bytes from:  " + context.metadata(), e);
+            final BytesRecordOffset offset = new BytesRecordOffset(startPosition, startPosition + bytes.length);
+            return RecordsIterable.of(new TypedFileRecord(offset, struct));
         } finally {
+            prefilled = null;
             hasNext = false;
         }
     }
 
+    private byte[] readAllBytes() {
+        try (InputStream stream = storage.getInputStream(objectURI, startPosition)) {
+            return stream.readAllBytes();
+        } catch (Exception e) {
+            throw new ReaderException("Failed to read all bytes from:  " + context.metadata(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
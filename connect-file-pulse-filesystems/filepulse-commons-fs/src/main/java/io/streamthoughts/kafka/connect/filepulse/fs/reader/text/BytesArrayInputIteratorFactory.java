@@ -53,8 +53,9 @@ public class BytesArrayInputIteratorFactory implements FileInputIteratorFactory
 
         try {
             return new BytesArrayInputIterator(
+                objectURI,
                 storage.getObjectMetadata(objectURI),
-                storage.getInputStream(objectURI),
+                storage,
                 iteratorManager
             );
         } catch (Exception e) {
@@ -81,6 +81,14 @@ public class BytesRecordOffset extends TimestampedRecordOffset {
         return this.endPosition;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long size() {
+        return startPosition < 0 || endPosition < startPosition ? -1L : endPosition - startPosition;
+    }
+
     public FileObjectOffset toSourceOffset() {
         return new FileObjectOffset(endPosition, -1, timestamp());
     }
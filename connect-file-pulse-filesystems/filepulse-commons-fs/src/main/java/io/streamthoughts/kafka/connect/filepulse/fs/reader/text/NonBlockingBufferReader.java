@@ -18,22 +18,22 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.fs.reader.text;
 
+import io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal.ByteLineScanner;
+import io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal.LineScanner;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal.TextBlock;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
- * A {@link BufferedReader} wrapper to read lines in non-blocking way.
+ * A {@link LineScanner} wrapper to read lines in non-blocking way.
  */
 public class NonBlockingBufferReader implements AutoCloseable {
 
@@ -43,20 +43,10 @@ public class NonBlockingBufferReader implements AutoCloseable {
 
     private final InputStream stream;
 
-    private final int initialCapacity;
-
     private final Charset charset;
 
-    private final BufferedReader reader;
-
-    // The current bytes position.
-    private Long offset = 0L;
-
-    // The buffer used to read extract lines from the iterator file.
-    private char[] buffer;
-
-    // The current buffer positions.
-    private int bufferOffset = 0;
+    // The scanner used to extract lines from the input stream.
+    private final LineScanner scanner;
 
     private boolean isAutoFlushOnEOF = true;
 
@@ -93,11 +83,38 @@ public class NonBlockingBufferReader implements AutoCloseable {
     public NonBlockingBufferReader(final InputStream stream,
                                    final int initialCapacity,
                                    final Charset charset) {
-        this.initialCapacity = initialCapacity;
-        this.buffer = new char[initialCapacity];
+        this(stream, initialCapacity, charset, 0L);
+    }
+
+    /**
+     * Creates a new {@link NonBlockingBufferReader} instance for a stream
+     * which is already positioned at the given byte position.
+     *
+     * @param stream          the input stream.
+     * @param initialCapacity the buffer initial capacity.
+     * @param charset         the input file charset.
+     * @param position        the byte position of the input stream.
+     *
+     * @see #isBytePositionSupported(Charset)
+     */
+    public NonBlockingBufferReader(final InputStream stream,
+                                   final int initialCapacity,
+                                   final Charset charset,
+                                   final long position) {
         this.charset = charset;
         this.stream = stream;
-        this.reader = new BufferedReader(new InputStreamReader(stream, charset));
+        this.scanner = LineScanner.create(stream, initialCapacity, charset, position);
+    }
+
+    /**
+     * Checks whether positions returned by a {@link NonBlockingBufferReader} are expressed in
+     * bytes for the given charset, i.e. a stream can be directly opened from a committed position.
+     *
+     * @param charset   the input file charset.
+     * @return          {@code true} if positions are byte positions, {@code false} otherwise.
+     */
+    public static boolean isBytePositionSupported(final Charset charset) {
+        return ByteLineScanner.isSupported(charset);
     }
 
     public Charset charset() {
@@ -105,7 +122,18 @@ public class NonBlockingBufferReader implements AutoCloseable {
     }
 
     public long position() {
-        return offset;
+        return scanner.position();
+    }
+
+    /**
+     * Reads more bytes from the underlying stream into the internal buffer, without extracting lines.
+     * This can be used to fill the buffer before the first lines are read.
+     *
+     * @return the number of units read, or {@code -1} if the end of the stream has been reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    public int fill() throws IOException {
+        return scanner.fill();
     }
 
     /**
@@ -142,15 +170,9 @@ public class NonBlockingBufferReader implements AutoCloseable {
         while ( !(isEOF = nread == -1) &&
                 (records.isEmpty() || records.size() < minRecords)
         ) {
-            nread = reader.read(buffer, bufferOffset, buffer.length - bufferOffset);
+            nread = scanner.fill();
             if (nread > 0) {
-                bufferOffset += nread;
                 maxNumRecordsNotReached = fillWithBufferedLinesUntil(records, minRecords, strict);
-                if (records.isEmpty() && bufferOffset == buffer.length) {
-                    char[] newbuf = new char[buffer.length * 2];
-                    System.arraycopy(buffer, 0, newbuf, 0, buffer.length);
-                    buffer = newbuf;
-                }
             }
         }
 
@@ -165,10 +187,7 @@ public class NonBlockingBufferReader implements AutoCloseable {
             if (!strict && remaining()){
                 LOG.debug("EOF - flushing remaining bytes from reader buffer ({}).", isAutoFlushOnEOF);
                 if (isAutoFlushOnEOF) {
-                    final String line = new String(buffer, 0, bufferOffset);
-                    records.add(new TextBlock(line, charset, offset, offset + bufferOffset, bufferOffset));
-                    offset += bufferOffset;
-                    bufferOffset = 0;
+                    records.add(scanner.flush());
                 }
             }
         }
@@ -190,7 +209,7 @@ public class NonBlockingBufferReader implements AutoCloseable {
         boolean maxNumRecordsNotReached;
         TextBlock line;
         do {
-            line = tryToExtractLine();
+            line = scanner.tryToExtractLine();
             if (line != null) {
                 records.add(line);
             }
@@ -206,13 +225,13 @@ public class NonBlockingBufferReader implements AutoCloseable {
      * @return  {@code true} if there is bytes already read.
      */
     public boolean remaining() {
-        return bufferOffset != 0;
+        return scanner.remaining();
     }
 
     public boolean hasNext() {
         try {
             if (!isEOF || stream.available() > 1) return true;
-            return remaining() && containsLine();
+            return remaining() && scanner.containsLine();
         } catch (IOException e) {
             LOG.error("Error while checking for remaining bytes to read: {}", e.getLocalizedMessage());
             return false;
@@ -221,71 +240,15 @@ public class NonBlockingBufferReader implements AutoCloseable {
 
     public void seekTo(final Long offset) {
         if (offset != null && offset > 0) {
-            buffer = new char[initialCapacity];
             LOG.debug("Trying to skip to file offset bytes {}", offset);
-            long skipLeft = offset;
-            while (skipLeft > 0) {
-                try {
-                    long skipped = reader.skip(skipLeft);
-                    skipLeft -= skipped;
-                } catch (IOException e) {
-                    LOG.error("Error while trying to seek to previous offset bytes in file: ", e);
-                    throw new ConnectException(e);
-                }
-            }
-            LOG.debug("Skipped to offset bytes {}", offset);
-            this.offset = offset;
-        } else {
-            this.offset = 0L;
-        }
-    }
-
-    /**
-     * @return {@code true} if the internal read-buffer contains a text line.
-     */
-    private boolean containsLine() {
-        for (int i = 0; i < bufferOffset; i++) {
-            if (buffer[i] == '\n') {
-                return true;
-            } else if (buffer[i] == '\r') {
-                // We need to check for \r\n, so we must skip this if we can't check the next char
-                return i + 1 < bufferOffset;
+            try {
+                scanner.seekTo(offset);
+            } catch (IOException e) {
+                LOG.error("Error while trying to seek to previous offset bytes in file: ", e);
+                throw new ConnectException(e);
             }
+            LOG.debug("Skipped to offset bytes {}", scanner.position());
         }
-        return false;
-    }
-
-    private TextBlock tryToExtractLine() {
-        int until = -1, newStart = -1;
-        for (int i = 0; i < bufferOffset; i++) {
-            if (buffer[i] == '\n') {
-                until = i;
-                newStart = i + 1;
-                break;
-            } else if (buffer[i] == '\r') {
-                // We need to check for \r\n, so we must skip this if we can't check the next char
-                if (i + 1 >= bufferOffset) {
-                    return null;
-                }
-
-                until = i;
-                newStart = (buffer[i + 1] == '\n') ? i + 2 : i + 1;
-                break;
-            }
-        }
-
-        TextBlock result = null;
-        if (until != -1) {
-            final String line = new String(buffer, 0, until);
-            result =  new TextBlock(line, charset,  offset, offset + newStart, until);
-            System.arraycopy(buffer, newStart, buffer, 0, buffer.length - newStart);
-            bufferOffset = bufferOffset - newStart;
-        }
-
-        if (newStart != -1) {
-            offset += newStart;
-        }
-        return result;
     }
 
     /**
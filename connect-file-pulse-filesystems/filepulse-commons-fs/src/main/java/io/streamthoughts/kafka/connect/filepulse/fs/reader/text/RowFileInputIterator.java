@@ -22,6 +22,7 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.IteratorManager;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.ManagedFileInputIterator;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal.TextBlock;
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
@@ -36,15 +37,26 @@ import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.LongFunction;
 
 public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RowFileInputIterator.class);
 
+    /**
+     * The function used to open a new buffer reader from a given position.
+     */
+    private final LongFunction<NonBlockingBufferReader> readerFactory;
+
     /**
      * The buffer reader.
      */
-    private final NonBlockingBufferReader reader;
+    private NonBlockingBufferReader reader;
+
+    /**
+     * The position from which the buffer reader will be opened.
+     */
+    private long startPosition = 0L;
 
     /**
      * The minimum number of lines to read before returning records.
@@ -58,7 +70,6 @@ public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct>
     private long lastObservedRecords;
 
     /**
-     /**
      * Creates a new {@link RowFileInputIterator} instance.
      *
      * @param meta              the {@link FileObjectMeta}.
@@ -70,6 +81,25 @@ public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct>
                                 final NonBlockingBufferReader reader) {
         super(meta, iteratorManager);
         this.reader = Objects.requireNonNull(reader, "reader can't be null");
+        this.readerFactory = null;
+        lastObservedRecords = Time.SYSTEM.milliseconds();
+    }
+
+    /**
+     * Creates a new {@link RowFileInputIterator} instance.
+     *
+     * The {@link NonBlockingBufferReader} is lazily opened on first read, so that the input stream
+     * can directly be opened from the position passed to {@link #seekTo(FileObjectOffset)}.
+     *
+     * @param meta              the {@link FileObjectMeta}.
+     * @param iteratorManager   the {@link IteratorManager}.
+     * @param readerFactory     the function to open a {@link NonBlockingBufferReader} from a byte position.
+     */
+    public RowFileInputIterator(final FileObjectMeta meta,
+                                final IteratorManager iteratorManager,
+                                final LongFunction<NonBlockingBufferReader> readerFactory) {
+        super(meta, iteratorManager);
+        this.readerFactory = Objects.requireNonNull(readerFactory, "readerFactory can't be null");
         lastObservedRecords = Time.SYSTEM.milliseconds();
     }
 
@@ -91,11 +121,34 @@ public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct>
         Objects.requireNonNull(offset, "offset can't be null");
         if (offset.position() != -1) {
             offsetLines = offset.rows();
-            reader.seekTo(offset.position());
+            if (reader == null) {
+                startPosition = Math.max(0L, offset.position());
+            } else {
+                reader.seekTo(offset.position());
+            }
         }
         updateContext();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prefill() {
+        try {
+            reader().fill();
+        } catch (IOException e) {
+            throw new ReaderException("Failed to read first bytes from: " + context.metadata(), e);
+        }
+    }
+
+    private NonBlockingBufferReader reader() {
+        if (reader == null) {
+            reader = readerFactory.apply(startPosition);
+        }
+        return reader;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -104,7 +157,7 @@ public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct>
         try {
             mayWaitForLinesToBeAvailable();
             List<FileRecord<TypedStruct>> records = new LinkedList<>();
-            List<TextBlock> lines = reader.readLines(minNumReadRecords, false);
+            List<TextBlock> lines = reader().readLines(minNumReadRecords, false);
             if (lines != null) {
                 for (TextBlock line : lines) {
                     offsetLines++;
@@ -133,6 +186,7 @@ public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct>
     }
 
     private void mayWaitForLinesToBeAvailable() {
+        final NonBlockingBufferReader reader = reader();
         if (!reader.hasNext()) {
             LOG.debug("Waiting for more bytes from file {} (timeout={}ms)", context.metadata(), maxWaitMs);
             final long timeout = lastObservedRecords + maxWaitMs;
@@ -156,7 +210,7 @@ public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct>
 
     private void updateContext() {
         final FileObjectOffset offset = new FileObjectOffset(
-            reader.position(),
+            reader != null ? reader.position() : startPosition,
             offsetLines,
             Time.SYSTEM.milliseconds());
         context = context.withOffset(offset);
@@ -167,6 +221,7 @@ public class RowFileInputIterator extends ManagedFileInputIterator<TypedStruct>
      */
     @Override
     public boolean hasNext() {
+        final NonBlockingBufferReader reader = reader();
         return reader.hasNext() ||
                reader.remaining() ||
                canWaitForMoreRecords();
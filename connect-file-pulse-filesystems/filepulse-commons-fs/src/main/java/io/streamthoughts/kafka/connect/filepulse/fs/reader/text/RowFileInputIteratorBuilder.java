@@ -27,6 +27,7 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import java.io.File;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 
 /**
@@ -42,12 +43,26 @@ public class RowFileInputIteratorBuilder {
     private int skipFooters = 0;
     private IteratorManager iteratorManager;
     private Supplier<NonBlockingBufferReader> readerSupplier;
+    private LongFunction<NonBlockingBufferReader> readerFactory;
 
     public RowFileInputIteratorBuilder withReaderSupplier(final Supplier<NonBlockingBufferReader> readerSupplier) {
         this.readerSupplier = readerSupplier;
         return this;
     }
 
+    /**
+     * Sets the function used to open a new {@link NonBlockingBufferReader} from a given byte position.
+     * If set, the reader will be lazily opened from the position the iterator is seeked to.
+     *
+     * @param readerFactory the function to open a reader.
+     * @return {@code this}
+     */
+    public RowFileInputIteratorBuilder withReaderFactory(final LongFunction<NonBlockingBufferReader> readerFactory) {
+        this.readerFactory = readerFactory;
+        this.readerSupplier = () -> readerFactory.apply(0L);
+        return this;
+    }
+
     public RowFileInputIteratorBuilder withMetadata(final FileObjectMeta metadata) {
         this.metadata = metadata;
         return this;
@@ -86,7 +101,11 @@ public class RowFileInputIteratorBuilder {
     public FileInputIterator<FileRecord<TypedStruct>> build() {
         FileInputIterator<FileRecord<TypedStruct>> iterator;
 
-        iterator = new RowFileInputIterator(metadata, iteratorManager, readerSupplier.get())
+        final RowFileInputIterator rowIterator = readerFactory != null ?
+            new RowFileInputIterator(metadata, iteratorManager, readerFactory) :
+            new RowFileInputIterator(metadata, iteratorManager, readerSupplier.get());
+
+        iterator = rowIterator
                 .setMinNumReadRecords(minNumReadRecords)
                 .setMaxWaitMs(waitMaxMs);
 
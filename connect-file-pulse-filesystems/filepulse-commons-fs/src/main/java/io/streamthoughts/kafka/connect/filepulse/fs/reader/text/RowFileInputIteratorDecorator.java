@@ -58,6 +58,14 @@ public abstract class RowFileInputIteratorDecorator implements FileInputIterator
         iterator.seekTo(offset);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prefill() {
+        iterator.prefill();
+    }
+
     /**
      * {@inheritDoc}
      */
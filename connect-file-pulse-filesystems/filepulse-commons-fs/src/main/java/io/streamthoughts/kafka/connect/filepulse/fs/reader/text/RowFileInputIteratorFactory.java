@@ -28,6 +28,7 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 
 import java.net.URI;
+import java.nio.charset.Charset;
 
 public class RowFileInputIteratorFactory implements FileInputIteratorFactory {
 
@@ -67,14 +68,23 @@ public class RowFileInputIteratorFactory implements FileInputIteratorFactory {
                 .withSkipFooters(configs.skipFooters())
                 .withMaxWaitMs(configs.maxWaitMs())
                 .withIteratorManager(iteratorManager)
-                .withReaderSupplier(() -> {
+                .withReaderFactory(position -> {
                     try {
+                        final Charset charset = configs.charset();
+                        // Positions are only expressed in bytes if the charset can be scanned byte per byte,
+                        // otherwise the stream must be read from the beginning.
+                        final long startPosition = NonBlockingBufferReader.isBytePositionSupported(charset) ?
+                            position : 0L;
                         var br = new NonBlockingBufferReader(
-                                storage.getInputStream(objectURI),
+                                storage.getInputStream(objectURI, startPosition),
                                 configs.bufferInitialBytesSize(),
-                                configs.charset()
+                                charset,
+                                startPosition
                         );
                         br.disableAutoFlush();
+                        if (startPosition != position) {
+                            br.seekTo(position);
+                        }
                         return br;
                     } catch (Exception e) {
                         throw new ReaderException("Failed to get InputStream for object: " + objectMetadata, e);
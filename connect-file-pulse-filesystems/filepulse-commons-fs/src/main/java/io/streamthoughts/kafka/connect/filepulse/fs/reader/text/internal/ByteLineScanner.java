@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.internal.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * A {@link LineScanner} which searches line terminators directly on raw bytes and only
+ * decodes the bytes of each extracted line.
+ *
+ * The internal buffer is managed using a read and a write cursor: extracting a line only moves
+ * the read cursor forward, and unread bytes are compacted to the beginning of the
+ * buffer only when more space is needed to read from the stream.
+ *
+ * This scanner must only be used for charsets in which the bytes {@code 0x0A} and {@code 0x0D}
+ * can never be part of a multi-bytes character (see {@link #isSupported(Charset)}).
+ */
+public class ByteLineScanner implements LineScanner {
+
+    private static final byte LF = 0x0A;
+    private static final byte CR = 0x0D;
+
+    private final InputStream stream;
+
+    private final Charset charset;
+
+    // The buffer used to read extract lines from the input stream.
+    private byte[] buffer;
+
+    // The position of the first unread byte in the buffer.
+    private int readPos = 0;
+
+    // The position of the next byte to be written in the buffer.
+    private int writePos = 0;
+
+    // The position from which to resume searching for a line terminator.
+    private int scanPos = 0;
+
+    // The stream position of the first unread byte in the buffer.
+    private long position = 0L;
+
+    /**
+     * Checks whether the given charset can be handled by a {@link ByteLineScanner}.
+     *
+     * @param charset   the charset to check.
+     * @return          {@code true} if line terminators can be searched directly on bytes.
+     */
+    public static boolean isSupported(final Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset) ||
+            StandardCharsets.US_ASCII.equals(charset) ||
+            StandardCharsets.ISO_8859_1.equals(charset)) {
+            return true;
+        }
+        final String name = charset.name();
+        return name.startsWith("ISO-8859-") || name.startsWith("windows-125");
+    }
+
+    /**
+     * Creates a new {@link ByteLineScanner} instance.
+     *
+     * @param stream          the input stream.
+     * @param initialCapacity the buffer initial capacity.
+     * @param charset         the input charset.
+     */
+    public ByteLineScanner(final InputStream stream,
+                           final int initialCapacity,
+                           final Charset charset) {
+        this(stream, initialCapacity, charset, 0L);
+    }
+
+    /**
+     * Creates a new {@link ByteLineScanner} instance.
+     *
+     * @param stream          the input stream.
+     * @param initialCapacity the buffer initial capacity.
+     * @param charset         the input charset.
+     * @param position        the byte position of the input stream.
+     */
+    public ByteLineScanner(final InputStream stream,
+                           final int initialCapacity,
+                           final Charset charset,
+                           final long position) {
+        if (!isSupported(charset)) {
+            throw new IllegalArgumentException("Unsupported charset for scanning bytes: " + charset);
+        }
+        this.stream = Objects.requireNonNull(stream, "stream can't be null");
+        this.charset = charset;
+        this.buffer = new byte[initialCapacity];
+        this.position = position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int fill() throws IOException {
+        if (writePos == buffer.length) {
+            if (readPos > 0) {
+                compact();
+            } else {
+                byte[] newbuf = new byte[buffer.length * 2];
+                System.arraycopy(buffer, 0, newbuf, 0, writePos);
+                buffer = newbuf;
+            }
+        }
+        final int nread = stream.read(buffer, writePos, buffer.length - writePos);
+        if (nread > 0) {
+            writePos += nread;
+        }
+        return nread;
+    }
+
+    private void compact() {
+        final int unread = writePos - readPos;
+        System.arraycopy(buffer, readPos, buffer, 0, unread);
+        scanPos -= readPos;
+        readPos = 0;
+        writePos = unread;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TextBlock tryToExtractLine() {
+        int until = -1, newStart = -1;
+        for (int i = scanPos; i < writePos; i++) {
+            final byte b = buffer[i];
+            if (b == LF) {
+                until = i;
+                newStart = i + 1;
+                break;
+            } else if (b == CR) {
+                // We need to check for \r\n, so we must skip this if we can't check the next byte
+                if (i + 1 >= writePos) {
+                    scanPos = i;
+                    return null;
+                }
+                until = i;
+                newStart = (buffer[i + 1] == LF) ? i + 2 : i + 1;
+                break;
+            }
+        }
+
+        if (until == -1) {
+            scanPos = writePos;
+            return null;
+        }
+
+        final int size = until - readPos;
+        final int consumed = newStart - readPos;
+        final String line = new String(buffer, readPos, size, charset);
+        final TextBlock result = new TextBlock(line, charset, position, position + consumed, size);
+        position += consumed;
+        advanceTo(newStart);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TextBlock flush() {
+        if (!remaining()) {
+            return null;
+        }
+        final int size = writePos - readPos;
+        final String line = new String(buffer, readPos, size, charset);
+        final TextBlock result = new TextBlock(line, charset, position, position + size, size);
+        position += size;
+        advanceTo(writePos);
+        return result;
+    }
+
+    private void advanceTo(final int pos) {
+        if (pos == writePos) {
+            // Buffer is fully consumed, there is no bytes to compact.
+            readPos = writePos = scanPos = 0;
+        } else {
+            readPos = scanPos = pos;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsLine() {
+        for (int i = scanPos; i < writePos; i++) {
+            if (buffer[i] == LF) {
+                return true;
+            } else if (buffer[i] == CR) {
+                // We need to check for \r\n, so we must skip this if we can't check the next byte
+                return i + 1 < writePos;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remaining() {
+        return writePos != readPos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final long position) throws IOException {
+        final long streamPosition = this.position + (writePos - readPos);
+        if (position < streamPosition) {
+            throw new IllegalArgumentException(
+                "Can't seek backward to position " + position + ", current stream position is " + streamPosition);
+        }
+        readPos = writePos = scanPos = 0;
+        this.position = streamPosition + IOUtils.skip(stream, position - streamPosition);
+    }
+}
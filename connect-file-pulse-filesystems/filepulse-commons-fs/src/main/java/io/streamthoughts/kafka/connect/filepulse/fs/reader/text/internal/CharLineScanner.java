@@ -0,0 +1,178 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+
+/**
+ * A {@link LineScanner} which decodes the whole input stream before searching for line terminators.
+ *
+ * This scanner is used for charsets that are not supported by the {@link ByteLineScanner}.
+ * Note that positions are expressed in number of characters.
+ */
+public class CharLineScanner implements LineScanner {
+
+    private final BufferedReader reader;
+
+    private final Charset charset;
+
+    // The buffer used to read extract lines from the input stream.
+    private char[] buffer;
+
+    // The current buffer positions.
+    private int bufferOffset = 0;
+
+    // The current characters position.
+    private long position = 0L;
+
+    /**
+     * Creates a new {@link CharLineScanner} instance.
+     *
+     * @param stream          the input stream.
+     * @param initialCapacity the buffer initial capacity.
+     * @param charset         the input charset.
+     */
+    public CharLineScanner(final InputStream stream,
+                           final int initialCapacity,
+                           final Charset charset) {
+        this.reader = new BufferedReader(new InputStreamReader(stream, charset));
+        this.charset = charset;
+        this.buffer = new char[initialCapacity];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int fill() throws IOException {
+        if (bufferOffset == buffer.length) {
+            char[] newbuf = new char[buffer.length * 2];
+            System.arraycopy(buffer, 0, newbuf, 0, buffer.length);
+            buffer = newbuf;
+        }
+        final int nread = reader.read(buffer, bufferOffset, buffer.length - bufferOffset);
+        if (nread > 0) {
+            bufferOffset += nread;
+        }
+        return nread;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TextBlock tryToExtractLine() {
+        int until = -1, newStart = -1;
+        for (int i = 0; i < bufferOffset; i++) {
+            if (buffer[i] == '\n') {
+                until = i;
+                newStart = i + 1;
+                break;
+            } else if (buffer[i] == '\r') {
+                // We need to check for \r\n, so we must skip this if we can't check the next char
+                if (i + 1 >= bufferOffset) {
+                    return null;
+                }
+
+                until = i;
+                newStart = (buffer[i + 1] == '\n') ? i + 2 : i + 1;
+                break;
+            }
+        }
+
+        TextBlock result = null;
+        if (until != -1) {
+            final String line = new String(buffer, 0, until);
+            result =  new TextBlock(line, charset, position, position + newStart, until);
+            System.arraycopy(buffer, newStart, buffer, 0, buffer.length - newStart);
+            bufferOffset = bufferOffset - newStart;
+        }
+
+        if (newStart != -1) {
+            position += newStart;
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TextBlock flush() {
+        if (!remaining()) {
+            return null;
+        }
+        final String line = new String(buffer, 0, bufferOffset);
+        final TextBlock result = new TextBlock(line, charset, position, position + bufferOffset, bufferOffset);
+        position += bufferOffset;
+        bufferOffset = 0;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsLine() {
+        for (int i = 0; i < bufferOffset; i++) {
+            if (buffer[i] == '\n') {
+                return true;
+            } else if (buffer[i] == '\r') {
+                // We need to check for \r\n, so we must skip this if we can't check the next char
+                return i + 1 < bufferOffset;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remaining() {
+        return bufferOffset != 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final long position) throws IOException {
+        bufferOffset = 0;
+        long skipLeft = position;
+        while (skipLeft > 0) {
+            long skipped = reader.skip(skipLeft);
+            if (skipped == 0) break;
+            skipLeft -= skipped;
+        }
+        this.position = position - skipLeft;
+    }
+}
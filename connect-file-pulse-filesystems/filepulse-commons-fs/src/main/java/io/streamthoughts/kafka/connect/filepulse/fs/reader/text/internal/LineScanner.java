@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * A {@code LineScanner} buffers data read from an input stream and splits it into text lines.
+ *
+ * @see ByteLineScanner
+ * @see CharLineScanner
+ */
+public interface LineScanner {
+
+    /**
+     * Creates a new {@link LineScanner} for the given stream and charset.
+     *
+     * A {@link ByteLineScanner} is returned for all charsets in which line terminators can be
+     * searched directly on raw bytes, otherwise a {@link CharLineScanner} is returned.
+     *
+     * @param stream          the input stream.
+     * @param initialCapacity the buffer initial capacity.
+     * @param charset         the input charset.
+     * @param position        the byte position of the input stream.
+     * @return                a new {@link LineScanner}.
+     *
+     * @throws IllegalArgumentException if the position is not zero and the charset is not supported
+     *                                  by the {@link ByteLineScanner}.
+     */
+    static LineScanner create(final InputStream stream,
+                              final int initialCapacity,
+                              final Charset charset,
+                              final long position) {
+        if (ByteLineScanner.isSupported(charset)) {
+            return new ByteLineScanner(stream, initialCapacity, charset, position);
+        }
+        if (position != 0) {
+            throw new IllegalArgumentException(
+                "Cannot read a stream from byte position " + position + " using charset " + charset);
+        }
+        return new CharLineScanner(stream, initialCapacity, charset);
+    }
+
+    /**
+     * Reads more data from the underlying stream into the internal buffer.
+     * The buffer is compacted or extended if there is no more free space.
+     *
+     * @return the number of units read, or {@code -1} if the end of the stream has been reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    int fill() throws IOException;
+
+    /**
+     * Extracts the next complete line from the internal buffer.
+     *
+     * @return the next {@link TextBlock}, or {@code null} if the buffer does not contain a complete line.
+     */
+    TextBlock tryToExtractLine();
+
+    /**
+     * Extracts all remaining buffered data as a single line.
+     *
+     * @return the {@link TextBlock}, or {@code null} if the buffer is empty.
+     */
+    TextBlock flush();
+
+    /**
+     * @return {@code true} if the internal buffer contains a complete line.
+     */
+    boolean containsLine();
+
+    /**
+     * @return {@code true} if there is still data in the internal buffer.
+     */
+    boolean remaining();
+
+    /**
+     * @return the position of the next line to be extracted.
+     */
+    long position();
+
+    /**
+     * Skips the underlying stream to the given position and clears the internal buffer.
+     *
+     * @param position the position to seek to.
+     * @throws IOException if an I/O error occurs.
+     */
+    void seekTo(final long position) throws IOException;
+}
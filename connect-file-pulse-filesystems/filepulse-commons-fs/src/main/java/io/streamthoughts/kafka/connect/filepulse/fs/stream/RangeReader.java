@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@code RangeReader} can be used to fetch a range of bytes from an object.
+ *
+ * @see ReadAheadInputStream
+ */
+@FunctionalInterface
+public interface RangeReader {
+
+    /**
+     * Opens a stream over the given range of bytes.
+     *
+     * @param position  the position of the first byte to read.
+     * @param length    the number of bytes to read.
+     * @return          the {@link InputStream} of the bytes, which may be less than the requested length
+     *                  only if the end of the object has been reached.
+     * @throws IOException if an I/O error occurs.
+     */
+    InputStream open(final long position, final int length) throws IOException;
+
+    /**
+     * Aborts a stream returned by {@link #open(long, int)} which may be concurrently read, so that the
+     * remaining bytes are not fetched. By default, the stream is closed.
+     *
+     * @param stream    the {@link InputStream} to abort.
+     */
+    default void abort(final InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException ignore) {
+            // The stream is no longer used.
+        }
+    }
+}
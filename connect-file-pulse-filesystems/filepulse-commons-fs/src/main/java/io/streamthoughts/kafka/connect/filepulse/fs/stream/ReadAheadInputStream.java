@@ -0,0 +1,301 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link InputStream} which concurrently fetches the successive parts of an object
+ * using ranged requests, and hands them out in order.
+ *
+ * At most {@link ReadAheadOptions#parallelism()} parts are fetched ahead of the current read position,
+ * while the number of bytes held in memory is bounded by {@link ReadAheadOptions#maxBufferedBytes()}.
+ * The parts fetched ahead are aborted when the stream is closed, including the parts being fetched.
+ *
+ * This class is not thread-safe.
+ */
+public class ReadAheadInputStream extends InputStream {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadAheadInputStream.class);
+
+    private final String name;
+
+    private final RangeReader reader;
+
+    private final Executor executor;
+
+    private final long contentLength;
+
+    private final int partSize;
+
+    private final int maxInFlightParts;
+
+    private final Deque<Part> parts = new ArrayDeque<>();
+
+    // The position of the next part to be fetched.
+    private long nextPartPosition;
+
+    // The part currently being read.
+    private byte[] current;
+
+    // The position of the next byte to be read in the current part.
+    private int currentPos;
+
+    private long stallTimeNs = 0L;
+
+    private int stallCount = 0;
+
+    private long bytesRead = 0L;
+
+    private boolean closed = false;
+
+    /**
+     * Creates a new {@link ReadAheadInputStream} instance.
+     *
+     * @param name          the name of the object to read, used for logging.
+     * @param reader        the {@link RangeReader} used to fetch each part.
+     * @param executor      the {@link Executor} used to fetch parts concurrently.
+     * @param position      the position of the first byte to read.
+     * @param contentLength the total length of the object.
+     * @param options       the {@link ReadAheadOptions}.
+     */
+    public ReadAheadInputStream(final String name,
+                                final RangeReader reader,
+                                final Executor executor,
+                                final long position,
+                                final long contentLength,
+                                final ReadAheadOptions options) {
+        this.name = name;
+        this.reader = Objects.requireNonNull(reader, "reader should not be null");
+        this.executor = Objects.requireNonNull(executor, "executor should not be null");
+        this.contentLength = contentLength;
+        this.partSize = options.partSize();
+        this.maxInFlightParts = options.maxInFlightParts();
+        this.nextPartPosition = Math.max(0L, position);
+        fetchAhead();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (!nextPartIfConsumed()) {
+            return -1;
+        }
+        bytesRead++;
+        return current[currentPos++] & 0xFF;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextPartIfConsumed()) {
+            return -1;
+        }
+        final int n = Math.min(len, current.length - currentPos);
+        System.arraycopy(current, currentPos, b, off, n);
+        currentPos += n;
+        bytesRead += n;
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return current == null ? 0 : current.length - currentPos;
+    }
+
+    private boolean nextPartIfConsumed() throws IOException {
+        ensureOpen();
+        if (current != null && currentPos < current.length) {
+            return true;
+        }
+        current = null;
+        final Part next = parts.pollFirst();
+        if (next == null) {
+            return false;
+        }
+
+        if (!next.future.isDone()) {
+            final long started = System.nanoTime();
+            current = await(next.future);
+            stallTimeNs += System.nanoTime() - started;
+            stallCount++;
+        } else {
+            current = await(next.future);
+        }
+        currentPos = 0;
+
+        if (current.length < partSize && nextPartPosition < contentLength) {
+            // The object is shorter than expected, all parts ahead can be discarded.
+            cancelAll();
+            nextPartPosition = contentLength;
+        }
+        fetchAhead();
+        return current.length > 0;
+    }
+
+    private void fetchAhead() {
+        while (parts.size() < maxInFlightParts && nextPartPosition < contentLength) {
+            final long position = nextPartPosition;
+            final int length = (int) Math.min(partSize, contentLength - position);
+            final Part part = new Part();
+            part.future = CompletableFuture.supplyAsync(() -> part.fetch(position, length), executor);
+            parts.addLast(part);
+            nextPartPosition += length;
+        }
+    }
+
+    private static byte[] await(final CompletableFuture<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the next part to be fetched");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException("Failed to fetch the next part", cause);
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private void cancelAll() {
+        parts.forEach(Part::cancel);
+        parts.clear();
+    }
+
+    /**
+     * @return the total time spent waiting for a part to be fetched, in milliseconds.
+     */
+    public long stallTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(stallTimeNs);
+    }
+
+    /**
+     * @return the number of times a read was blocked waiting for a part to be fetched.
+     */
+    public int stallCount() {
+        return stallCount;
+    }
+
+    /**
+     * @return the number of bytes read from this stream.
+     */
+    public long bytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * A part of the object, fetched asynchronously.
+     */
+    private final class Part {
+
+        private CompletableFuture<byte[]> future;
+
+        // The stream being read, if the part is being fetched.
+        private InputStream stream;
+
+        private boolean cancelled = false;
+
+        byte[] fetch(final long position, final int length) {
+            try {
+                final InputStream opened = reader.open(position, length);
+                synchronized (this) {
+                    if (cancelled) {
+                        reader.abort(opened);
+                        throw new CancellationException();
+                    }
+                    stream = opened;
+                }
+                try (opened) {
+                    return opened.readAllBytes();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                synchronized (this) {
+                    stream = null;
+                }
+            }
+        }
+
+        void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                if (stream != null) {
+                    // Completing the future does not interrupt the running fetch, the request must be aborted.
+                    reader.abort(stream);
+                }
+            }
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cancelAll();
+        current = null;
+        LOG.info(
+            "Closed read-ahead stream for {}: bytes-read={}, stall-count={}, stall-time-ms={}",
+            name,
+            bytesRead,
+            stallCount,
+            stallTimeMs()
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.stream;
+
+/**
+ * The options used to configure a {@link ReadAheadInputStream}.
+ */
+public class ReadAheadOptions {
+
+    public static final ReadAheadOptions DISABLED = new ReadAheadOptions(1, 1, 1);
+
+    private final int partSize;
+    private final int parallelism;
+    private final long maxBufferedBytes;
+
+    /**
+     * Creates a new {@link ReadAheadOptions} instance.
+     *
+     * @param partSize          the number of bytes to fetch per ranged request.
+     * @param parallelism       the maximum number of concurrent ranged requests.
+     * @param maxBufferedBytes  the maximum number of bytes to buffer in memory per stream.
+     */
+    public ReadAheadOptions(final int partSize,
+                            final int parallelism,
+                            final long maxBufferedBytes) {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("partSize must be strictly positive: " + partSize);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be strictly positive: " + parallelism);
+        }
+        this.partSize = partSize;
+        this.parallelism = parallelism;
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    public int partSize() {
+        return partSize;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public long maxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * @return {@code true} if more than one part can be fetched concurrently.
+     */
+    public boolean isEnabled() {
+        return maxInFlightParts() > 1;
+    }
+
+    /**
+     * @return the maximum number of parts that can be fetched or buffered at the same time.
+     */
+    int maxInFlightParts() {
+        final long maxBufferedParts = maxBufferedBytes / partSize;
+        return (int) Math.max(1, Math.min(parallelism, maxBufferedParts));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "partSize=" + partSize +
+                ", parallelism=" + parallelism +
+                ", maxBufferedBytes=" + maxBufferedBytes +
+                ']';
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.listing;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+public class ShardAssignmentTest {
+
+    @Test
+    public void should_assign_each_shard_to_exactly_one_task() {
+        final int taskCount = 4;
+        IntStream.range(0, 100).mapToObj(i -> "prefix-" + i + "/").forEach(shard -> {
+            final long owners = IntStream.range(0, taskCount)
+                .filter(taskId -> new ShardAssignment(taskId, taskCount).owns(shard))
+                .count();
+            Assert.assertEquals(1, owners);
+        });
+    }
+
+    @Test
+    public void should_only_move_shards_to_new_task_given_task_count_increased() {
+        int moved = 0;
+        for (int i = 0; i < 1000; i++) {
+            final String shard = "prefix-" + i + "/";
+            final int before = ShardAssignment.taskFor(shard, 4);
+            final int after = ShardAssignment.taskFor(shard, 5);
+            if (before != after) {
+                Assert.assertEquals(4, after);
+                moved++;
+            }
+        }
+        // About 1/5 of the shards are expected to be moved.
+        Assert.assertTrue("moved=" + moved, moved > 100 && moved < 300);
+    }
+
+    @Test
+    public void should_return_bucket_in_range_given_any_key() {
+        IntStream.range(0, 1000).forEach(key -> {
+            final int bucket = ShardAssignment.jumpConsistentHash(key * 31L, 7);
+            Assert.assertTrue(bucket >= 0 && bucket < 7);
+        });
+        Assert.assertEquals(0, ShardAssignment.jumpConsistentHash(42L, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_fail_given_task_id_out_of_range() {
+        new ShardAssignment(2, 2);
+    }
+}
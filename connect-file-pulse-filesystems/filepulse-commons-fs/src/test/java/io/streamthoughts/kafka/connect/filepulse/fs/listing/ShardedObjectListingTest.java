@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.listing;
+
+import io.streamthoughts.kafka.connect.filepulse.fs.CompositeFileListFilter;
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig.FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig.FS_LISTING_SHARDS_HEX_LENGTH_CONFIG;
+import static io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig.FS_LISTING_SHARDS_STRATEGY_CONFIG;
+
+public class ShardedObjectListingTest {
+
+    private static final List<String> KEYS = List.of("a/1", "a/2", "b/1", "c/1/1", "c/2/1", "root");
+
+    private final InMemoryPrefixLister lister = new InMemoryPrefixLister(KEYS);
+
+    private ShardedObjectListing listing;
+
+    @After
+    public void tearDown() {
+        if (listing != null) {
+            listing.close();
+        }
+    }
+
+    @Test
+    public void should_list_all_objects_using_single_listing_given_no_strategy() {
+        listing = new ShardedObjectListing(newConfig("none"), "test");
+
+        Assert.assertEquals(KEYS, names(listing.list("", lister)));
+        Assert.assertEquals(Set.of(""), lister.listedPrefixes);
+    }
+
+    @Test
+    public void should_list_all_objects_given_shards_discovered_using_delimiter() {
+        listing = new ShardedObjectListing(newConfig("delimiter"), "test");
+
+        Assert.assertEquals(KEYS, names(listing.list("", lister)));
+        Assert.assertEquals(Set.of("a/", "b/", "c/"), lister.listedPrefixes);
+    }
+
+    @Test
+    public void should_list_objects_under_configured_prefixes_given_list_strategy() {
+        final Map<String, Object> props = new HashMap<>();
+        props.put(FS_LISTING_SHARDS_STRATEGY_CONFIG, "list");
+        props.put(ShardedListingConfig.FS_LISTING_SHARDS_PREFIXES_CONFIG, "1/,2/,1/1");
+        listing = new ShardedObjectListing(new ShardedListingConfig(props), "test");
+
+        Assert.assertEquals(List.of("c/1/1", "c/2/1"), names(listing.list("c/", lister)));
+    }
+
+    @Test
+    public void should_generate_hex_prefixes_given_hex_strategy() {
+        final Map<String, Object> props = new HashMap<>();
+        props.put(FS_LISTING_SHARDS_STRATEGY_CONFIG, "hex");
+        props.put(FS_LISTING_SHARDS_HEX_LENGTH_CONFIG, "2");
+        listing = new ShardedObjectListing(new ShardedListingConfig(props), "test");
+
+        final List<String> shards = listing.resolveShards("p/");
+        Assert.assertEquals(256, shards.size());
+        Assert.assertEquals("p/00", shards.get(0));
+        Assert.assertEquals("p/a5", shards.get(165));
+        Assert.assertEquals("p/ff", shards.get(255));
+    }
+
+    @Test
+    public void should_generate_date_prefixes_given_date_strategy() {
+        final Map<String, Object> props = new HashMap<>();
+        props.put(FS_LISTING_SHARDS_STRATEGY_CONFIG, "date");
+        props.put(FS_LISTING_SHARDS_DATE_LOOKBACK_DAYS_CONFIG, "3");
+        final Clock clock = Clock.fixed(Instant.parse("2021-03-01T10:00:00Z"), ZoneOffset.UTC);
+        listing = new ShardedObjectListing(new ShardedListingConfig(props), "test", clock);
+
+        Assert.assertEquals(
+            List.of("logs/2021/02/27/", "logs/2021/02/28/", "logs/2021/03/01/"),
+            listing.resolveShards("logs/")
+        );
+    }
+
+    @Test
+    public void should_list_objects_using_delimiter_given_scope_with_delimiter() {
+        listing = new ShardedObjectListing(newConfig("hex"), "test");
+        final FileListFilter filter = new FileListFilter() {
+            @Override
+            public Collection<FileObjectMeta> filterFiles(final Collection<FileObjectMeta> files) {
+                return files;
+            }
+
+            @Override
+            public String listingPrefix() {
+                return "c/1";
+            }
+
+            @Override
+            public String listingDelimiter() {
+                return "/";
+            }
+        };
+
+        final ListingScope scope = ListingScope.of("c/", filter);
+        Assert.assertEquals("c/1", scope.prefix());
+        Assert.assertEquals(List.of(), names(listing.list(scope, lister)));
+        Assert.assertEquals(Set.of(), lister.listedPrefixes);
+    }
+
+    @Test
+    public void should_keep_configured_prefix_given_filter_prefix_not_matching() {
+        final ListingScope scope = ListingScope.of("c/", CompositeFileListFilter.of(null));
+
+        Assert.assertEquals("c/", scope.prefix());
+        Assert.assertNull(scope.delimiter());
+    }
+
+    @Test
+    public void should_list_each_object_once_given_shards_assigned_to_tasks() {
+        final int taskCount = 3;
+        final List<String> listed = new ArrayList<>();
+        for (int taskId = 0; taskId < taskCount; taskId++) {
+            final InMemoryPrefixLister taskLister = new InMemoryPrefixLister(KEYS);
+            try (ShardedObjectListing taskListing = new ShardedObjectListing(newConfig("none"), "test")) {
+                taskListing.assign(new ShardAssignment(taskId, taskCount));
+                listed.addAll(names(taskListing.list("", taskLister)));
+            }
+        }
+        listed.sort(String::compareTo);
+        Assert.assertEquals(KEYS, listed);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void should_fail_listing_given_any_shard_failing() {
+        final PrefixLister failing = new InMemoryPrefixLister(KEYS) {
+            @Override
+            public List<FileObjectMeta> list(final String prefix) {
+                if (prefix.equals("b/")) {
+                    throw new IllegalStateException("listing failed");
+                }
+                return super.list(prefix);
+            }
+        };
+        listing = new ShardedObjectListing(newConfig("delimiter"), "test");
+        listing.list("", failing);
+    }
+
+    private static ShardedListingConfig newConfig(final String strategy) {
+        return new ShardedListingConfig(Map.of(FS_LISTING_SHARDS_STRATEGY_CONFIG, strategy));
+    }
+
+    private static List<String> names(final List<FileObjectMeta> objects) {
+        return objects.stream().map(FileObjectMeta::name).collect(Collectors.toList());
+    }
+
+    private static class InMemoryPrefixLister implements PrefixLister {
+
+        private final TreeSet<String> keys;
+
+        private final Set<String> listedPrefixes = ConcurrentHashMap.newKeySet();
+
+        InMemoryPrefixLister(final List<String> keys) {
+            this.keys = new TreeSet<>(keys);
+        }
+
+        @Override
+        public List<FileObjectMeta> list(final String prefix) {
+            listedPrefixes.add(prefix);
+            return keys.stream()
+                .filter(key -> key.startsWith(prefix))
+                .map(InMemoryPrefixLister::newObject)
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public DelimitedListing listWithDelimiter(final String prefix, final String delimiter) {
+            final List<FileObjectMeta> objects = new ArrayList<>();
+            final Set<String> commonPrefixes = new TreeSet<>();
+            keys.stream().filter(key -> key.startsWith(prefix)).forEach(key -> {
+                final int index = key.indexOf(delimiter, prefix.length());
+                if (index < 0) {
+                    objects.add(newObject(key));
+                } else {
+                    commonPrefixes.add(key.substring(0, index + delimiter.length()));
+                }
+            });
+            return new DelimitedListing(objects, new ArrayList<>(commonPrefixes));
+        }
+
+        private static FileObjectMeta newObject(final String key) {
+            return new GenericFileObjectMeta.Builder()
+                .withUri(URI.create("test://bucket/" + key))
+                .withName(key)
+                .build();
+        }
+    }
+}
@@ -132,6 +132,47 @@ public class NonBlockingBufferReaderTest {
         readAllAndAssert(expected, reader, true);
     }
 
+    @Test
+    public void shouldReadAllLinesWithByteOffsetsGivenMultiBytesUTF8Characters() throws Exception {
+        final String line = "été-€";
+        final int size = line.getBytes(StandardCharsets.UTF_8).length;
+        Files.write(file.toPath(), (line + LF + line + CR + LF).getBytes(StandardCharsets.UTF_8));
+        try (NonBlockingBufferReader reader = new NonBlockingBufferReader(
+                new FileInputStream(file), 4, StandardCharsets.UTF_8)) {
+            List<TextBlock> records = reader.readLines(2, false);
+            Assert.assertEquals(2, records.size());
+            Assert.assertEquals(new TextBlock(line, StandardCharsets.UTF_8, 0, size + 1, size), records.get(0));
+            Assert.assertEquals(
+                new TextBlock(line, StandardCharsets.UTF_8, size + 1, 2L * size + 3, size), records.get(1));
+            Assert.assertEquals(file.length(), reader.position());
+        }
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenCharsetNotSupportingByteScanning() throws Exception {
+        Files.write(file.toPath(), ("line-1" + LF + "line-2" + CR + LF).getBytes(StandardCharsets.UTF_16LE));
+        try (NonBlockingBufferReader reader = new NonBlockingBufferReader(
+                new FileInputStream(file), 4, StandardCharsets.UTF_16LE)) {
+            List<TextBlock> records = reader.readLines(2, false);
+            Assert.assertEquals(2, records.size());
+            Assert.assertEquals("line-1", records.get(0).data());
+            Assert.assertEquals("line-2", records.get(1).data());
+        }
+    }
+
+    @Test
+    public void shouldReadRemainingLinesGivenSeekToByteOffset() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, LF);
+        try (NonBlockingBufferReader reader = createReaderWithCapacity(file, 16)) {
+            reader.seekTo(expected.get(5).startOffset());
+            final List<TextBlock> results = new ArrayList<>();
+            while (reader.hasNext()) {
+                results.addAll(reader.readLines(1, false));
+            }
+            assertResult(expected.subList(5, NLINES), results);
+        }
+    }
+
     private static NonBlockingBufferReader createReaderWithCapacity(final File file,
                                                                     final int defaultInitialCapacity) throws FileNotFoundException {
         return new NonBlockingBufferReader(
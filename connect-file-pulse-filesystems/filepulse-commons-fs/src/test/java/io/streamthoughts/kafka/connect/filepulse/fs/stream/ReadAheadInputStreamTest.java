@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class ReadAheadInputStreamTest {
+
+    private static final int CONTENT_LENGTH = 10_000;
+
+    private final byte[] content = new byte[CONTENT_LENGTH];
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        new Random(42).nextBytes(content);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_read_all_parts_in_order() throws IOException {
+        final ReadAheadOptions options = new ReadAheadOptions(128, 4, 1024);
+        try (InputStream stream = newStream(0, CONTENT_LENGTH, options)) {
+            Assert.assertArrayEquals(content, stream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void should_read_from_given_position() throws IOException {
+        final ReadAheadOptions options = new ReadAheadOptions(100, 3, 1024);
+        try (InputStream stream = newStream(4321, CONTENT_LENGTH, options)) {
+            Assert.assertEquals(content[4321] & 0xFF, stream.read());
+            Assert.assertArrayEquals(Arrays.copyOfRange(content, 4322, CONTENT_LENGTH), stream.readAllBytes());
+            Assert.assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void should_stop_reading_given_object_shorter_than_expected() throws IOException {
+        final ReadAheadOptions options = new ReadAheadOptions(1000, 2, 4000);
+        try (InputStream stream = newStream(0, CONTENT_LENGTH + 5000, options)) {
+            Assert.assertArrayEquals(content, stream.readAllBytes());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void should_propagate_io_exception_given_failed_part() throws IOException {
+        final RangeReader reader = (position, length) -> {
+            throw new IOException("failed");
+        };
+        final ReadAheadOptions options = new ReadAheadOptions(100, 2, 1024);
+        try (InputStream stream = new ReadAheadInputStream("test", reader, executor, 0, 1000, options)) {
+            stream.read();
+        }
+    }
+
+    @Test
+    public void should_abort_parts_being_fetched_given_closed_stream() throws Exception {
+        final CountDownLatch opened = new CountDownLatch(2);
+        final CountDownLatch aborted = new CountDownLatch(2);
+        final RangeReader reader = new RangeReader() {
+            @Override
+            public InputStream open(final long position, final int length) {
+                opened.countDown();
+                // A request which never completes unless aborted.
+                return new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        try {
+                            aborted.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new IOException("aborted");
+                    }
+                };
+            }
+
+            @Override
+            public void abort(final InputStream stream) {
+                aborted.countDown();
+            }
+        };
+        final ReadAheadOptions options = new ReadAheadOptions(100, 2, 1024);
+        final InputStream stream = new ReadAheadInputStream("test", reader, executor, 0, 1000, options);
+        Assert.assertTrue(opened.await(10, TimeUnit.SECONDS));
+
+        stream.close();
+        Assert.assertTrue(aborted.await(10, TimeUnit.SECONDS));
+    }
+
+    private InputStream newStream(final long position,
+                                  final long contentLength,
+                                  final ReadAheadOptions options) {
+        final RangeReader reader = (offset, length) -> {
+            final int from = (int) Math.min(offset, CONTENT_LENGTH);
+            final int to = (int) Math.min(offset + length, CONTENT_LENGTH);
+            return new ByteArrayInputStream(Arrays.copyOfRange(content, from, to));
+        };
+        return new ReadAheadInputStream("test", reader, executor, position, contentLength, options);
+    }
+}
@@ -22,15 +22,24 @@ import com.google.api.gax.paging.Page;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ListingScope;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.PrefixLister;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardAssignment;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedListingConfig;
+import io.streamthoughts.kafka.connect.filepulse.fs.listing.ShardedObjectListing;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static io.streamthoughts.kafka.connect.filepulse.internal.StringUtils.isNotBlank;
+
 public class GcsFileSystemListing implements FileSystemListing<GcsStorage> {
 
     private static final Logger LOG = LoggerFactory.getLogger(GcsFileSystemListing.class);
@@ -41,6 +50,8 @@ public class GcsFileSystemListing implements FileSystemListing<GcsStorage> {
 
     private FileListFilter filter;
 
+    private ShardedObjectListing shardedListing;
+
     /**
      * {@inheritDoc}
      */
@@ -48,6 +59,7 @@ public class GcsFileSystemListing implements FileSystemListing<GcsStorage> {
     public void configure(final Map<String, ?> configs) {
         config = new GcsClientConfig(configs);
         gcsClient = GcsClientUtils.createStorageService(config);
+        shardedListing = new ShardedObjectListing(new ShardedListingConfig(configs), "gcs");
     }
 
     /**
@@ -55,47 +67,26 @@ public class GcsFileSystemListing implements FileSystemListing<GcsStorage> {
      */
     @Override
     public Collection<FileObjectMeta> listObjects() {
-
-        final String blobsPrefix = config.getBlobsPrefix();
-        final String bucketName = config.getBucketName();
-
-        final List<FileObjectMeta> objectMetaList = new LinkedList<>();
-        try {
-            final Page<Blob> blobs;
-            if (blobsPrefix != null) {
-                LOG.info(
-                        "Listing the blobs in the bucket '{}' whose names begin with prefix '{}'",
-                        bucketName,
-                        blobsPrefix
-                );
-                blobs = gcsClient.list(bucketName, Storage.BlobListOption.prefix(blobsPrefix));
-            } else {
-                LOG.info(
-                        "Listing the blobs in the bucket '{}'",
-                        bucketName
-                );
-                blobs = gcsClient.list(bucketName);
-            }
-            for (Blob blob : blobs.iterateAll()) {
-                if (isBlobMustBeIgnored(blob)) {
-                    LOG.info("Ignored blob in bucket '{}' with name '{}' (is_directory={}, size={})",
-                            blob.getBucket(),
-                            blob.getName(),
-                            blob.isDirectory(),
-                            blob.getSize()
-                    );
-                } else{
-                    objectMetaList.add(GcsStorage.createFileObjectMeta(blob));
-                }
-            }
-        } catch (StorageException e) {
-            LOG.error(
-                    "Failed to list blobs from the Google Cloud Storage bucket '{}'. ",
+        final ListingScope scope = ListingScope.of(config.getBlobsPrefix(), filter);
+        if (!scope.prefix().isEmpty()) {
+            LOG.info(
+                    "Listing the blobs in the bucket '{}' whose names begin with prefix '{}'",
                     config.getBucketName(),
-                    e
+                    scope.prefix()
+            );
+        } else {
+            LOG.info(
+                    "Listing the blobs in the bucket '{}'",
+                    config.getBucketName()
             );
         }
-
+        final List<FileObjectMeta> objectMetaList;
+        try {
+            objectMetaList = shardedListing.list(scope, new GcsPrefixLister());
+        } catch (StorageException e) {
+            LOG.warn("Blobs could not be completely listed, blobs will be listed again on next listing");
+            return Collections.emptyList();
+        }
         return filter == null ? objectMetaList : filter.filterFiles(objectMetaList);
     }
 
@@ -113,6 +104,15 @@ public class GcsFileSystemListing implements FileSystemListing<GcsStorage> {
         this.filter = filter;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean assignTask(final int taskId, final int taskCount) {
+        shardedListing.assign(new ShardAssignment(taskId, taskCount));
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -120,4 +120,71 @@ public class GcsFileSystemListing implements FileSystemListing<GcsStorage> {
     public GcsStorage storage() {
         return new GcsStorage(gcsClient);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (shardedListing != null) {
+            shardedListing.close();
+        }
+    }
+
+    /**
+     * Lists the blobs under a prefix.
+     */
+    private final class GcsPrefixLister implements PrefixLister {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<FileObjectMeta> list(final String prefix) {
+            return listWithDelimiter(prefix, null).objects();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DelimitedListing listWithDelimiter(final String prefix, final String delimiter) {
+            final String bucketName = config.getBucketName();
+            final List<Storage.BlobListOption> options = new ArrayList<>();
+            if (isNotBlank(prefix)) {
+                options.add(Storage.BlobListOption.prefix(prefix));
+            }
+            if (delimiter != null) {
+                options.add(Storage.BlobListOption.delimiter(delimiter));
+            }
+
+            final List<FileObjectMeta> objectMetaList = new LinkedList<>();
+            final List<String> commonPrefixes = new LinkedList<>();
+            try {
+                final Page<Blob> blobs = gcsClient.list(bucketName, options.toArray(new Storage.BlobListOption[0]));
+                for (Blob blob : blobs.iterateAll()) {
+                    if (delimiter != null && blob.isDirectory()) {
+                        commonPrefixes.add(blob.getName());
+                    } else if (isBlobMustBeIgnored(blob)) {
+                        LOG.info("Ignored blob in bucket '{}' with name '{}' (is_directory={}, size={})",
+                                blob.getBucket(),
+                                blob.getName(),
+                                blob.isDirectory(),
+                                blob.getSize()
+                        );
+                    } else {
+                        objectMetaList.add(GcsStorage.createFileObjectMeta(blob));
+                    }
+                }
+            } catch (StorageException e) {
+                LOG.error(
+                        "Failed to list blobs from the Google Cloud Storage bucket '{}'. ",
+                        bucketName,
+                        e
+                );
+                throw e;
+            }
+            return new DelimitedListing(objectMetaList, commonPrefixes);
+        }
+    }
 }
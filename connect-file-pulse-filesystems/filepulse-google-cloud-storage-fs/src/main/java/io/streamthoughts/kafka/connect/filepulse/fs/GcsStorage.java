@@ -104,6 +104,17 @@ public class GcsStorage implements Storage {
      */
     @Override
     public InputStream getInputStream(final URI uri) {
+        return getInputStream(uri, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The {@link ReadChannel} is seeked to the given position so that only the remaining bytes
+     * of the blob are fetched.
+     */
+    @Override
+    public InputStream getInputStream(final URI uri, final long position) {
         final Blob blob;
         try {
             blob = getBlob(uri);
@@ -111,6 +122,15 @@ public class GcsStorage implements Storage {
             throw new ConnectFilePulseException("Failed to get Blob for uri: " + uri, e);
         }
         ReadChannel channel = blob.reader();
+        if (position > 0) {
+            try {
+                channel.seek(position);
+            } catch (IOException e) {
+                channel.close();
+                throw new ConnectFilePulseException(
+                    "Failed to seek Blob for uri: " + uri + " to position: " + position, e);
+            }
+        }
         return Channels.newInputStream(channel);
     }
 
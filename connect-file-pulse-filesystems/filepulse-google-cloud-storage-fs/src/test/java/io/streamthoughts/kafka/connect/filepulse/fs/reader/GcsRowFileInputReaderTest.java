@@ -27,7 +27,9 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import io.streamthoughts.kafka.connect.filepulse.fs.GcsStorage;
 import org.junit.After;
 import org.junit.Assert;
@@ -99,6 +101,24 @@ public class GcsRowFileInputReaderTest {
         Assert.assertEquals(10, results.size());
     }
 
+    @Test
+    public void should_read_remaining_lines_given_committed_offset() {
+        final GenericFileObjectMeta meta = new GenericFileObjectMeta.Builder()
+                .withUri(GcsStorage.createBlobURI(TEST_BUCKET_NAME, TEST_BLOB_NAME))
+                .build();
+
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(meta.uri());
+        // each line is 11 bytes length (including the line terminator).
+        iterator.seekTo(new FileObjectOffset(55, 5, System.currentTimeMillis()));
+        List<FileRecord<TypedStruct>> results = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+            results.addAll(next.collect());
+        }
+        Assert.assertEquals(5, results.size());
+        Assert.assertEquals("00000000-5", results.get(0).value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+    }
+
     private void generateLines(final BufferedWriter writer) throws IOException {
 
         for (int i = 0; i < NLINES; i++) {
@@ -19,28 +19,21 @@
 package io.streamthoughts.kafka.connect.filepulse.fs;
 
 import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
-import io.streamthoughts.kafka.connect.filepulse.fs.codec.CodecHandler;
 import io.streamthoughts.kafka.connect.filepulse.fs.codec.CodecManager;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.LocalFileStorage;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
-import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
-import org.apache.kafka.connect.errors.ConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * The {@code LocalFSDirectoryListing} can be used for listing files that exist in a local input directory.
@@ -49,12 +42,20 @@ public class LocalFSDirectoryListing implements FileSystemListing<LocalFileStora
 
     private static final Logger LOG = LoggerFactory.getLogger(LocalFSDirectoryListing.class);
 
-    private FileListFilter filter;
+    // The filters applied on files before reading their content digest.
+    private CompositeFileListFilter candidateFilter;
+
+    // The filters requiring the complete metadata of files.
+    private CompositeFileListFilter objectFilter;
 
     private final CodecManager codecs;
 
     private LocalFSDirectoryListingConfig config;
 
+    private LocalFSDirectoryWalker walker;
+
+    private LocalFileMetadataCache metadataCache;
+
     /**
      * Creates a new {@link LocalFSDirectoryListing} instance.
      * This no-arg constructor is required for the connector.
@@ -71,7 +72,7 @@ public class LocalFSDirectoryListing implements FileSystemListing<LocalFileStora
      */
     public LocalFSDirectoryListing(final List<FileListFilter> filters) {
         Objects.requireNonNull(filters, "filters can't be null");
-        this.filter = new CompositeFileListFilter(filters);
+        setFilter(new CompositeFileListFilter(filters));
         this.codecs = new CodecManager();
     }
 
@@ -80,111 +81,98 @@ public class LocalFSDirectoryListing implements FileSystemListing<LocalFileStora
      */
     @Override
     public void configure(final Map<String, ?> configs) {
-        config = new LocalFSDirectoryListingConfig(configs);
+        configure(new LocalFSDirectoryListingConfig(configs));
     }
 
     /**
-     * {@inheritDoc}
+     * Configures this listing with the given config.
+     *
+     * @param config    the {@link LocalFSDirectoryListingConfig}.
      */
-    @Override
-    public Collection<FileObjectMeta> listObjects() throws IllegalArgumentException {
-        List<File> files = listEligibleFiles(Path.of(config.listingDirectoryPath()));
-        return this.filter != null ? this.filter.filterFiles(toSourceObjects(files)) : toSourceObjects(files);
-    }
-
-    private Collection<FileObjectMeta> toSourceObjects(final Collection<File> allFiles) {
-        return allFiles.stream()
-                .map(f -> {
-                    try {
-                        return Optional.of(new LocalFileObjectMeta(f));
-                    } catch (ConnectFilePulseException e) {
-                        LOG.warn(
-                                "Failed to read metadata. Object file is ignored: {}",
-                                e.getMessage()
-                        );
-                        return Optional.<LocalFileObjectMeta>empty();
-                    }
-                })
-                .flatMap(Optional::stream)
-                .collect(Collectors.toList());
+    protected void configure(final LocalFSDirectoryListingConfig config) {
+        this.config = config;
+        this.walker = new LocalFSDirectoryWalker(
+            config.walkParallelism(),
+            codecs,
+            config.isRecursiveScanEnable()
+        );
+        final String cachePath = config.metadataCachePath();
+        this.metadataCache = new LocalFileMetadataCache(
+            config.metadataCacheMaxEntries(),
+            cachePath != null ? Path.of(cachePath) : null
+        );
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void setFilter(final FileListFilter filter) {
-        this.filter = filter;
+    public Collection<FileObjectMeta> listObjects() throws IllegalArgumentException {
+        return filterObjects(listAllObjects());
     }
 
-    private List<File> listEligibleFiles(final Path input) {
-        final List<File> listingLocalFiles = new LinkedList<>();
-        if (!Files.isReadable(input)) {
-            LOG.warn("Cannot get directory listing for '{}'. Input path is not readable.", input);
-            return listingLocalFiles;
-        }
+    /**
+     * Lists all files existing into the input directory, without applying the filter.
+     *
+     * @return the list of all files found.
+     */
+    Collection<LocalFileCandidate> listAllObjects() {
+        return walker.walk(Path.of(config.listingDirectoryPath()));
+    }
 
-        if (!Files.isDirectory(input)) {
-            LOG.warn("Cannot get directory listing for '{}'. Input path is not a directory.", input);
-            return listingLocalFiles;
+    /**
+     * Applies the filter on the given files.
+     *
+     * The filters only requiring the metadata available on the candidates are applied first, so that the
+     * complete metadata of a file are only read if it has not been filtered. The content digest of a file is
+     * not computed again if it is unchanged since a previous listing and the metadata cache is enabled.
+     *
+     * @param candidates    the files to filter.
+     * @return              the filtered files.
+     */
+    Collection<FileObjectMeta> filterObjects(final Collection<LocalFileCandidate> candidates) {
+        final Collection<FileObjectMeta> selected = candidateFilter.filterFiles(new ArrayList<>(candidates));
+        LOG.debug("Reading metadata for {} files out of {} listed files", selected.size(), candidates.size());
+        final List<FileObjectMeta> objects = new ArrayList<>(selected.size());
+        for (FileObjectMeta candidate : selected) {
+            try {
+                objects.add(((LocalFileCandidate) candidate).toFileObjectMeta(metadataCache));
+            } catch (ConnectFilePulseException e) {
+                LOG.warn(
+                        "Failed to read metadata. Object file is ignored: {}",
+                        e.getMessage()
+                );
+            }
         }
+        metadataCache.flush();
+        return objectFilter.filterFiles(objects);
+    }
 
-        if (isHidden(input)) {
-            return listingLocalFiles;
-        }
+    /**
+     * @return the {@link LocalFSDirectoryListingConfig}.
+     */
+    protected LocalFSDirectoryListingConfig config() {
+        return config;
+    }
 
-        final List<Path> decompressedDirs = new LinkedList<>();
-        final List<Path> directories = new LinkedList<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(input)) {
-            for (Path path : stream) {
-                if (Files.isDirectory(path)) {
-                    // A directory can be the result of a decompressed file.
-                    // Defer scan after all compressed files has been proceeded.
-                    directories.add(path);
-                    continue;
-                }
-
-                if (Files.isReadable(path)) {
-                    final File file = path.toFile();
-                    final CodecHandler codec = codecs.getCodecIfCompressedOrNull(file);
-                    if (codec != null) {
-                        LOG.debug("Detecting compressed file : {}", file.getCanonicalPath());
-                        try {
-                            final Path decompressed = codec.decompress(file).toPath();
-                            listingLocalFiles.addAll(listEligibleFiles(decompressed));
-                            decompressedDirs.add(decompressed);
-                        } catch (IOException e) {
-                            LOG.warn("Error while decompressing input file '{}'. Skip and continue.", path, e);
-                        }
-                    } else {
-                        // If no codec was found for the input file,
-                        // then we just naively consider it to be uncompressed.
-                        listingLocalFiles.add(file);
-                    }
-                } else {
-                    LOG.warn("Input file is not readable '{}'. Skip and continue.", path);
-                }
-            }
-        } catch (IOException e) {
-            LOG.error(
-                    "Error while getting directory listing for {}: {}",
-                    input,
-                    e.getLocalizedMessage()
-            );
-            throw new ConnectException(e);
-        }
+    /**
+     * @return the {@link CodecManager} used to detect compressed files.
+     */
+    protected CodecManager codecs() {
+        return codecs;
+    }
 
-        if (config.isRecursiveScanEnable() && !directories.isEmpty()) {
-            listingLocalFiles.addAll(directories.stream()
-                    .filter(f -> !decompressedDirs.contains(f))
-                    .flatMap(f -> listEligibleFiles(f).stream())
-                    .collect(Collectors.toList())
-            );
-        }
-        return listingLocalFiles;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFilter(final FileListFilter filter) {
+        final CompositeFileListFilter composite = CompositeFileListFilter.of(filter);
+        this.candidateFilter = composite.onlyRequiring(LocalFileCandidate.AVAILABLE_METADATA);
+        this.objectFilter = composite.notOnlyRequiring(LocalFileCandidate.AVAILABLE_METADATA);
     }
 
-    private boolean isHidden(final Path input) {
+    protected static boolean isHidden(final Path input) {
         try {
             return Files.isHidden(input);
         } catch (IOException e) {
@@ -197,6 +185,19 @@ public class LocalFSDirectoryListing implements FileSystemListing<LocalFileStora
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (walker != null) {
+            walker.close();
+        }
+        if (metadataCache != null) {
+            metadataCache.flush();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -34,6 +34,20 @@ public class LocalFSDirectoryListingConfig extends AbstractConfig {
     private static final String FS_RECURSIVE_SCAN_ENABLE_DOC    = "Boolean indicating whether local directory " +
                                                                   "should be recursively scanned (default true).";
 
+    public static final String FS_WALK_PARALLELISM_CONFIG  = "fs.listing.walk.parallelism";
+    private static final String FS_WALK_PARALLELISM_DOC    = "The number of threads used to scan sub-directories " +
+                                                             "in parallel (default 1).";
+
+    public static final String FS_METADATA_CACHE_MAX_ENTRIES_CONFIG = "fs.listing.metadata.cache.max.entries";
+    private static final String FS_METADATA_CACHE_MAX_ENTRIES_DOC   = "The maximum number of files for which the " +
+                                                                      "content digest is cached between two scans. " +
+                                                                      "The cache is disabled if set to 0 (default 0).";
+
+    public static final String FS_METADATA_CACHE_PATH_CONFIG = "fs.listing.metadata.cache.path";
+    private static final String FS_METADATA_CACHE_PATH_DOC   = "The local file used to persist the metadata cache " +
+                                                               "across restarts. If not set, the cache is only kept " +
+                                                               "in memory.";
+
     public static ConfigDef getConf() {
         return new ConfigDef()
             .define(
@@ -49,6 +63,29 @@ public class LocalFSDirectoryListingConfig extends AbstractConfig {
                     true,
                     ConfigDef.Importance.MEDIUM,
                     FS_RECURSIVE_SCAN_ENABLE_DOC
+            )
+            .define(
+                    FS_WALK_PARALLELISM_CONFIG,
+                    ConfigDef.Type.INT,
+                    1,
+                    ConfigDef.Range.atLeast(1),
+                    ConfigDef.Importance.LOW,
+                    FS_WALK_PARALLELISM_DOC
+            )
+            .define(
+                    FS_METADATA_CACHE_MAX_ENTRIES_CONFIG,
+                    ConfigDef.Type.INT,
+                    0,
+                    ConfigDef.Range.atLeast(0),
+                    ConfigDef.Importance.LOW,
+                    FS_METADATA_CACHE_MAX_ENTRIES_DOC
+            )
+            .define(
+                    FS_METADATA_CACHE_PATH_CONFIG,
+                    ConfigDef.Type.STRING,
+                    null,
+                    ConfigDef.Importance.LOW,
+                    FS_METADATA_CACHE_PATH_DOC
             );
     }
 
@@ -57,13 +94,34 @@ public class LocalFSDirectoryListingConfig extends AbstractConfig {
      * @param originals the configuration.
      */
     public LocalFSDirectoryListingConfig(final Map<?, ?> originals) {
-        super(getConf(), originals, false);
+        this(getConf(), originals);
+    }
+
+    /**
+     * Creates a new {@link LocalFSDirectoryListingConfig} instance.
+     * @param configDef the configuration definition.
+     * @param originals the configuration.
+     */
+    protected LocalFSDirectoryListingConfig(final ConfigDef configDef, final Map<?, ?> originals) {
+        super(configDef, originals, false);
     }
 
     public boolean isRecursiveScanEnable() {
         return getBoolean(FS_RECURSIVE_SCAN_ENABLE_CONFIG);
     }
 
+    public int walkParallelism() {
+        return getInt(FS_WALK_PARALLELISM_CONFIG);
+    }
+
+    public int metadataCacheMaxEntries() {
+        return getInt(FS_METADATA_CACHE_MAX_ENTRIES_CONFIG);
+    }
+
+    public String metadataCachePath() {
+        return getString(FS_METADATA_CACHE_PATH_CONFIG);
+    }
+
     public String listingDirectoryPath() {
         return this.getString(FS_LISTING_DIRECTORY_PATH);
     }
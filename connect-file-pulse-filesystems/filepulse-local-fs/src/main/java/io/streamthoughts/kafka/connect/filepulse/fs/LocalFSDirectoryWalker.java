@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.fs.codec.CodecHandler;
+import io.streamthoughts.kafka.connect.filepulse.fs.codec.CodecManager;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@code LocalFSDirectoryWalker} is used to list the files that exist in a local directory.
+ *
+ * <p>
+ * Sub-directories are walked in parallel using a {@link ForkJoinPool}, and the attributes of each entry
+ * are read only once to limit the number of file-system calls, e.g. on network file-systems.
+ * </p>
+ */
+final class LocalFSDirectoryWalker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalFSDirectoryWalker.class);
+
+    private final ForkJoinPool pool;
+
+    private final CodecManager codecs;
+
+    private final boolean recursive;
+
+    /**
+     * Creates a new {@link LocalFSDirectoryWalker} instance.
+     *
+     * @param parallelism   the number of threads used to walk directories.
+     * @param codecs        the {@link CodecManager} used to detect compressed files.
+     * @param recursive     {@code true} if sub-directories should be walked.
+     */
+    LocalFSDirectoryWalker(final int parallelism,
+                           final CodecManager codecs,
+                           final boolean recursive) {
+        this.pool = new ForkJoinPool(parallelism);
+        this.codecs = Objects.requireNonNull(codecs, "codecs can't be null");
+        this.recursive = recursive;
+    }
+
+    /**
+     * Lists all the files that exist in the given directory.
+     *
+     * The returned candidates only provide the metadata that are known without reading the files.
+     *
+     * @param input the input directory.
+     * @return      the list of all files found.
+     */
+    List<LocalFileCandidate> walk(final Path input) {
+        if (!Files.isReadable(input)) {
+            LOG.warn("Cannot get directory listing for '{}'. Input path is not readable.", input);
+            return Collections.emptyList();
+        }
+
+        if (!Files.isDirectory(input)) {
+            LOG.warn("Cannot get directory listing for '{}'. Input path is not a directory.", input);
+            return Collections.emptyList();
+        }
+        return pool.invoke(new WalkTask(input));
+    }
+
+    /**
+     * Stops the threads used to walk directories.
+     */
+    void close() {
+        pool.shutdown();
+    }
+
+    private final class WalkTask extends RecursiveTask<List<LocalFileCandidate>> {
+
+        private final Path input;
+
+        WalkTask(final Path input) {
+            this.input = input;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected List<LocalFileCandidate> compute() {
+            if (LocalFSDirectoryListing.isHidden(input)) {
+                return Collections.emptyList();
+            }
+
+            final List<LocalFileCandidate> files = new ArrayList<>();
+            final List<WalkTask> subtasks = new ArrayList<>();
+            final List<Path> decompressedDirs = new ArrayList<>();
+            final List<Path> directories = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(input)) {
+                for (Path path : stream) {
+                    visit(path, files, subtasks, decompressedDirs, directories);
+                }
+            } catch (AccessDeniedException e) {
+                LOG.warn("Cannot get directory listing for '{}'. Input path is not readable.", input);
+                return Collections.emptyList();
+            } catch (IOException e) {
+                LOG.error(
+                        "Error while getting directory listing for {}: {}",
+                        input,
+                        e.getLocalizedMessage()
+                );
+                throw new ConnectException(e);
+            }
+
+            if (recursive) {
+                directories.stream()
+                    .filter(dir -> !decompressedDirs.contains(dir))
+                    .forEach(dir -> subtasks.add(new WalkTask(dir)));
+            }
+
+            invokeAll(subtasks);
+            for (WalkTask subtask : subtasks) {
+                files.addAll(subtask.join());
+            }
+            return files;
+        }
+
+        private void visit(final Path path,
+                           final List<LocalFileCandidate> files,
+                           final List<WalkTask> subtasks,
+                           final List<Path> decompressedDirs,
+                           final List<Path> directories) {
+            final LocalFileAttributes attributes;
+            try {
+                attributes = LocalFileAttributes.read(path);
+            } catch (IOException e) {
+                LOG.warn("Failed to read attributes of input file '{}'. Skip and continue.", path);
+                return;
+            }
+
+            if (attributes.isDirectory()) {
+                // A directory can be the result of a decompressed file.
+                // Defer scan after all compressed files has been proceeded.
+                directories.add(path);
+                return;
+            }
+
+            final File file = path.toFile();
+            final CodecHandler codec = codecs.getCodecIfCompressedOrNull(file);
+            if (codec != null) {
+                final Path decompressed = decompress(codec, file);
+                if (decompressed != null) {
+                    subtasks.add(new WalkTask(decompressed));
+                    decompressedDirs.add(decompressed);
+                }
+            } else {
+                // If no codec was found for the input file,
+                // then we just naively consider it to be uncompressed.
+                addFile(files, path, attributes);
+            }
+        }
+
+        private Path decompress(final CodecHandler codec, final File file) {
+            LOG.debug("Detecting compressed file : {}", file);
+            try {
+                return codec.decompress(file).toPath();
+            } catch (IOException e) {
+                LOG.warn("Error while decompressing input file '{}'. Skip and continue.", file, e);
+                return null;
+            }
+        }
+
+        private void addFile(final List<LocalFileCandidate> files,
+                             final Path path,
+                             final LocalFileAttributes attributes) {
+            // Non-empty files are read for computing their digest, which fails if they are not readable.
+            if (attributes.size() == 0 && !Files.isReadable(path)) {
+                LOG.warn("Input file is not readable '{}'. Skip and continue.", path);
+                return;
+            }
+            files.add(new LocalFileCandidate(path, attributes));
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@code LocalFSWatchingDirectoryListing} can be used for listing files that exist in a local input directory
+ * without scanning the whole directory on each listing.
+ *
+ * <p>
+ * The files are tracked in an in-memory index which is updated from the events received through a
+ * {@link WatchService}. The input directory is still fully scanned on the first listing and then periodically,
+ * or when some events may have been lost, in order to reconcile the index with the actual directory content.
+ * </p>
+ */
+public class LocalFSWatchingDirectoryListing extends LocalFSDirectoryListing {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalFSWatchingDirectoryListing.class);
+
+    // The files found during the last listing, indexed by path.
+    // The complete metadata of a file are only read once, until the file is changed.
+    private final Map<Path, LocalFileCandidate> index = new HashMap<>();
+
+    // The paths for which an event was received since the last listing.
+    private final Set<Path> changed = ConcurrentHashMap.newKeySet();
+
+    // The directories currently watched.
+    private final Set<Path> watched = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean reconciliationRequested = new AtomicBoolean(false);
+
+    private final AtomicBoolean changeNotified = new AtomicBoolean(false);
+
+    private volatile ChangeListener changeListener;
+
+    private long reconciliationIntervalMs;
+
+    private long lastReconciliationMs = -1L;
+
+    private Path root;
+
+    private WatchService watchService;
+
+    private Thread watcher;
+
+    /**
+     * Creates a new {@link LocalFSWatchingDirectoryListing} instance.
+     * This no-arg constructor is required for the connector.
+     */
+    public LocalFSWatchingDirectoryListing() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Creates a new {@link LocalFSWatchingDirectoryListing} instance.
+     *
+     * @param filters the list of filters
+     */
+    public LocalFSWatchingDirectoryListing(final List<FileListFilter> filters) {
+        super(filters);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final LocalFSWatchingDirectoryListingConfig config = new LocalFSWatchingDirectoryListingConfig(configs);
+        configure(config);
+        this.reconciliationIntervalMs = config.reconciliationIntervalMs();
+        this.root = Path.of(config.listingDirectoryPath()).toAbsolutePath().normalize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setChangeListener(final ChangeListener listener) {
+        this.changeListener = listener;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Collection<FileObjectMeta> listObjects() {
+        if (watchService == null) {
+            startWatching();
+        }
+        // Reset the notification flag first, so that any event received from now is notified.
+        changeNotified.set(false);
+
+        final long now = Time.SYSTEM.milliseconds();
+        if (isReconciliationRequired(now)) {
+            reconcile(now);
+        } else if (!applyChanges()) {
+            // A compressed file was detected, it must be decompressed through a full scan.
+            reconcile(now);
+        }
+        return filterObjects(new ArrayList<>(index.values()));
+    }
+
+    private boolean isReconciliationRequired(final long now) {
+        return reconciliationRequested.getAndSet(false) ||
+               lastReconciliationMs < 0 ||
+               now - lastReconciliationMs >= reconciliationIntervalMs ||
+               // The input directory is not watched, thus events cannot be received.
+               !watched.contains(root);
+    }
+
+    private void reconcile(final long now) {
+        changed.clear();
+        // Watch any directory that may have been missed (e.g. after events overflow).
+        watchAll(root, false);
+        final Collection<LocalFileCandidate> objects = listAllObjects();
+        index.clear();
+        objects.forEach(object -> index.put(Path.of(object.uri()), object));
+        lastReconciliationMs = now;
+        LOG.info("Reconciled files index by scanning input directory '{}': {} files found", root, index.size());
+    }
+
+    /**
+     * Updates the index with the files for which an event was received since the last listing.
+     *
+     * @return {@code false} if a compressed file was detected, {@code true} otherwise.
+     */
+    private boolean applyChanges() {
+        int count = 0;
+        final Iterator<Path> iterator = changed.iterator();
+        while (iterator.hasNext()) {
+            final Path path = iterator.next();
+            iterator.remove();
+            count++;
+            final LocalFileAttributes attributes = readAttributesOrNull(path);
+            if (attributes == null) {
+                if (index.remove(path) == null) {
+                    // The path may be a directory which has been removed or moved.
+                    index.keySet().removeIf(p -> p.startsWith(path));
+                }
+            } else if (attributes.isRegularFile()) {
+                if (codecs().getCodecIfCompressedOrNull(path.toFile()) != null) {
+                    return false;
+                }
+                index.put(path, new LocalFileCandidate(path, attributes));
+            }
+            // Otherwise, the path is a directory that still exists, e.g. whose attributes have changed.
+        }
+        LOG.debug("Updated files index from {} file-system events", count);
+        return true;
+    }
+
+    private static LocalFileAttributes readAttributesOrNull(final Path path) {
+        try {
+            return LocalFileAttributes.read(path);
+        } catch (IOException e) {
+            // The file may have been removed.
+            return null;
+        }
+    }
+
+    private void startWatching() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new ConnectException("Failed to create WatchService for input directory: " + root, e);
+        }
+        watchAll(root, false);
+        watcher = new Thread(this::watch, "local-fs-watcher-" + root.getFileName());
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watch() {
+        LOG.info("Starting to watch input directory '{}'", root);
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                final Path dir = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    onEvent(dir, event);
+                }
+                if (!key.reset()) {
+                    watched.remove(dir);
+                }
+                notifyChange();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            LOG.info("Stopped watching input directory '{}'", root);
+        }
+    }
+
+    private void onEvent(final Path dir, final WatchEvent<?> event) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            LOG.warn("Some file-system events may have been lost for '{}'. Reconciliation required", dir);
+            reconciliationRequested.set(true);
+            return;
+        }
+        final Path path = dir.resolve((Path) event.context());
+        if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+            if (config().isRecursiveScanEnable()) {
+                // Files may have been created before the directory is watched.
+                watchAll(path, true);
+            }
+        } else {
+            changed.add(path);
+        }
+    }
+
+    private void notifyChange() {
+        final ChangeListener listener = changeListener;
+        final boolean hasChanges = !changed.isEmpty() || reconciliationRequested.get();
+        if (listener != null && hasChanges && changeNotified.compareAndSet(false, true)) {
+            listener.onChange();
+        }
+    }
+
+    private void watchAll(final Path start, final boolean addFiles) {
+        final int maxDepth = config().isRecursiveScanEnable() ? Integer.MAX_VALUE : 1;
+        try {
+            Files.walkFileTree(start, EnumSet.noneOf(FileVisitOption.class), maxDepth, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                    if (isHidden(dir)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    if (!watched.contains(dir) && register(dir)) {
+                        watched.add(dir);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    if (addFiles && attrs.isRegularFile()) {
+                        changed.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+                    LOG.warn("Failed to visit '{}' while watching input directory: {}", file, e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOG.warn("Failed to watch directory '{}': {}", start, e.getMessage());
+        }
+    }
+
+    private boolean register(final Path dir) {
+        try {
+            dir.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE
+            );
+            return true;
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOG.warn(
+                "Failed to watch directory '{}', new files will only be detected by reconciliation: {}",
+                dir,
+                e.getMessage()
+            );
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOG.warn("Error while closing WatchService for input directory '{}'", root, e);
+            }
+            watcher.interrupt();
+            watchService = null;
+            watched.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[directory.path=" + root + ", watching=true]";
+    }
+}
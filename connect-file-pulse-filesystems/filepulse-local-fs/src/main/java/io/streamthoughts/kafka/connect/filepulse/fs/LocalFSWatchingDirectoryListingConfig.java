@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+public class LocalFSWatchingDirectoryListingConfig extends LocalFSDirectoryListingConfig {
+
+    public static final String FS_WATCH_RECONCILIATION_INTERVAL_MS_CONFIG = "fs.listing.watch.reconciliation.interval.ms";
+    private static final String FS_WATCH_RECONCILIATION_INTERVAL_MS_DOC = "The interval in milliseconds between two full " +
+                                                                          "scans of the input directory used to reconcile " +
+                                                                          "the files tracked from file-system events " +
+                                                                          "(default 300000).";
+
+    public static ConfigDef getConf() {
+        return LocalFSDirectoryListingConfig.getConf()
+            .define(
+                    FS_WATCH_RECONCILIATION_INTERVAL_MS_CONFIG,
+                    ConfigDef.Type.LONG,
+                    300_000L,
+                    ConfigDef.Range.atLeast(0),
+                    ConfigDef.Importance.LOW,
+                    FS_WATCH_RECONCILIATION_INTERVAL_MS_DOC
+            );
+    }
+
+    /**
+     * Creates a new {@link LocalFSWatchingDirectoryListingConfig} instance.
+     * @param originals the configuration.
+     */
+    public LocalFSWatchingDirectoryListingConfig(final Map<?, ?> originals) {
+        super(getConf(), originals);
+    }
+
+    public long reconciliationIntervalMs() {
+        return getLong(FS_WATCH_RECONCILIATION_INTERVAL_MS_CONFIG);
+    }
+}
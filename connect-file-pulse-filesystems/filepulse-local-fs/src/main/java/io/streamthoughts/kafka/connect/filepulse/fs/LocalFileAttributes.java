@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta.ContentDigest;
+import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+/**
+ * The attributes of a local file, read using a single file-system call.
+ */
+final class LocalFileAttributes {
+
+    // Only request the needed attributes, i.e. "unix:*" would also resolve owner and group names.
+    private static final String UNIX_ATTRIBUTES = "unix:size,lastModifiedTime,isRegularFile,isDirectory,ino";
+
+    private static volatile boolean unixViewSupported = true;
+
+    private final boolean isDirectory;
+    private final boolean isRegularFile;
+    private final long size;
+    private final long lastModified;
+    private final Long inode;
+
+    /**
+     * Reads the attributes of the given path. The unix inode is only available on file-systems
+     * supporting the {@code unix} attribute view.
+     *
+     * @param path  the file path.
+     * @return      a new {@link LocalFileAttributes}.
+     * @throws IOException if an I/O error occurs.
+     */
+    static LocalFileAttributes read(final Path path) throws IOException {
+        if (unixViewSupported) {
+            try {
+                final Map<String, Object> attributes = Files.readAttributes(path, UNIX_ATTRIBUTES);
+                return new LocalFileAttributes(
+                    (Boolean) attributes.get("isDirectory"),
+                    (Boolean) attributes.get("isRegularFile"),
+                    (Long) attributes.get("size"),
+                    ((FileTime) attributes.get("lastModifiedTime")).toMillis(),
+                    (Long) attributes.get("ino")
+                );
+            } catch (UnsupportedOperationException | IllegalArgumentException e) {
+                unixViewSupported = false;
+            }
+        }
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        return new LocalFileAttributes(
+            attributes.isDirectory(),
+            attributes.isRegularFile(),
+            attributes.size(),
+            attributes.lastModifiedTime().toMillis(),
+            null
+        );
+    }
+
+    private LocalFileAttributes(final boolean isDirectory,
+                                final boolean isRegularFile,
+                                final long size,
+                                final long lastModified,
+                                final Long inode) {
+        this.isDirectory = isDirectory;
+        this.isRegularFile = isRegularFile;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.inode = inode;
+    }
+
+    boolean isDirectory() {
+        return isDirectory;
+    }
+
+    boolean isRegularFile() {
+        return isRegularFile;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long lastModified() {
+        return lastModified;
+    }
+
+    Long inode() {
+        return inode;
+    }
+
+    /**
+     * Creates a new {@link LocalFileObjectMeta} for the given path using these attributes.
+     *
+     * @param path  the file path.
+     * @return      a new {@link LocalFileObjectMeta}.
+     */
+    LocalFileObjectMeta toFileObjectMeta(final Path path) {
+        return new LocalFileObjectMeta(path.toFile(), size, lastModified, inode);
+    }
+
+    /**
+     * Creates a new {@link LocalFileObjectMeta} for the given path using these attributes
+     * and a content digest that was already computed.
+     *
+     * @param path          the file path.
+     * @param contentDigest the content digest.
+     * @return              a new {@link LocalFileObjectMeta}.
+     */
+    LocalFileObjectMeta toFileObjectMeta(final Path path, final ContentDigest contentDigest) {
+        return new LocalFileObjectMeta(path.toFile(), size, lastModified, inode, contentDigest);
+    }
+}
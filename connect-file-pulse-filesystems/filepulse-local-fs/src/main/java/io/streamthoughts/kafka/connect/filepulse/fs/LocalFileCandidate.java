@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter.Metadata;
+import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A {@code LocalFileCandidate} only provides the metadata of a local file that are known without reading it,
+ * i.e. its URI, name, size and last-modified time.
+ *
+ * <p>
+ * The complete {@link LocalFileObjectMeta}, which may require reading the first bytes of the file to compute
+ * its content digest, is only created on demand and then kept.
+ * </p>
+ */
+final class LocalFileCandidate extends GenericFileObjectMeta {
+
+    /**
+     * The metadata available on a {@link LocalFileCandidate}.
+     */
+    static final Set<Metadata> AVAILABLE_METADATA = Collections.unmodifiableSet(EnumSet.of(
+        Metadata.NAME,
+        Metadata.CONTENT_LENGTH,
+        Metadata.LAST_MODIFIED
+    ));
+
+    private final transient Path path;
+
+    private final transient LocalFileAttributes attributes;
+
+    private transient volatile LocalFileObjectMeta meta;
+
+    /**
+     * Creates a new {@link LocalFileCandidate} instance.
+     *
+     * @param path          the file path.
+     * @param attributes    the file attributes.
+     */
+    LocalFileCandidate(final Path path, final LocalFileAttributes attributes) {
+        super(
+            path.toUri(),
+            path.getFileName().toString(),
+            attributes.size(),
+            attributes.lastModified(),
+            null,
+            null
+        );
+        this.path = path;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Gets the complete metadata of this file.
+     *
+     * @param cache the {@link LocalFileMetadataCache} used to retrieve the content digest of unchanged files.
+     * @return      the {@link LocalFileObjectMeta}.
+     * @throws io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException
+     *         if the content digest cannot be computed.
+     */
+    LocalFileObjectMeta toFileObjectMeta(final LocalFileMetadataCache cache) {
+        if (meta == null) {
+            meta = cache.getOrCreate(path, attributes);
+        }
+        return meta;
+    }
+}
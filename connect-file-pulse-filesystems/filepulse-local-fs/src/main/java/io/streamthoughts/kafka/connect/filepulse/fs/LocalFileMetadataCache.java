@@ -0,0 +1,218 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta.ContentDigest;
+import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@code LocalFileMetadataCache} is used to keep the content digest of the files listed during previous scans,
+ * so that unchanged files are recognized without reading their content.
+ *
+ * <p>
+ * A file is considered unchanged if its path, inode, size and last-modified time are the same. The cache is bounded
+ * and the least recently used entries are evicted first. The cache can be persisted to a local file, in which case
+ * it is loaded on creation and written after each listing for which it has been modified.
+ * </p>
+ */
+final class LocalFileMetadataCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalFileMetadataCache.class);
+
+    private static final String SEPARATOR = "\t";
+
+    private static final int FIELDS = 6;
+
+    private final int maxEntries;
+
+    private final Path file;
+
+    private final LinkedHashMap<Key, ContentDigest> entries;
+
+    private boolean modified = false;
+
+    /**
+     * Creates a new {@link LocalFileMetadataCache} instance.
+     *
+     * @param maxEntries    the maximum number of cached files, or {@code 0} to disable the cache.
+     * @param file          the file used to persist the cache, or {@code null}.
+     */
+    LocalFileMetadataCache(final int maxEntries, final Path file) {
+        this.maxEntries = maxEntries;
+        this.file = file;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, ContentDigest> eldest) {
+                return size() > LocalFileMetadataCache.this.maxEntries;
+            }
+        };
+        if (isEnabled() && file != null && Files.exists(file)) {
+            load();
+        }
+    }
+
+    private boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * Gets the metadata of the given file, using the cached content digest if the file is unchanged.
+     *
+     * @param path          the file path.
+     * @param attributes    the file attributes.
+     * @return              the {@link LocalFileObjectMeta}.
+     */
+    synchronized LocalFileObjectMeta getOrCreate(final Path path, final LocalFileAttributes attributes) {
+        if (!isEnabled()) {
+            return attributes.toFileObjectMeta(path);
+        }
+        final Key key = new Key(path, attributes);
+        final ContentDigest digest = entries.get(key);
+        if (digest != null) {
+            return attributes.toFileObjectMeta(path, digest);
+        }
+        final LocalFileObjectMeta meta = attributes.toFileObjectMeta(path);
+        entries.put(key, meta.contentDigest());
+        modified = true;
+        return meta;
+    }
+
+    /**
+     * Writes this cache to the local file, if configured and if it has been modified since it was last written.
+     */
+    synchronized void flush() {
+        if (file == null || !modified) {
+            return;
+        }
+        final Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<Key, ContentDigest> entry : entries.entrySet()) {
+                    final String line = entry.getKey().format(entry.getValue());
+                    if (line != null) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            modified = false;
+        } catch (IOException e) {
+            LOG.warn("Failed to write metadata cache to '{}': {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] fields = line.split(SEPARATOR, FIELDS);
+                if (fields.length != FIELDS) {
+                    continue;
+                }
+                try {
+                    final Key key = new Key(
+                        fields[5],
+                        fields[0].isEmpty() ? null : Long.parseLong(fields[0]),
+                        Long.parseLong(fields[1]),
+                        Long.parseLong(fields[2])
+                    );
+                    entries.put(key, new ContentDigest(fields[4], fields[3]));
+                } catch (NumberFormatException e) {
+                    LOG.debug("Ignoring invalid metadata cache entry: {}", line);
+                }
+            }
+            LOG.info("Loaded {} entries from metadata cache '{}'", entries.size(), file);
+        } catch (IOException e) {
+            LOG.warn("Failed to load metadata cache from '{}', starting with an empty cache: {}", file, e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached files.
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Key {
+
+        private final String path;
+        private final Long inode;
+        private final long size;
+        private final long lastModified;
+
+        Key(final Path path, final LocalFileAttributes attributes) {
+            this(path.toAbsolutePath().toString(), attributes.inode(), attributes.size(), attributes.lastModified());
+        }
+
+        Key(final String path, final Long inode, final long size, final long lastModified) {
+            this.path = path;
+            this.inode = inode;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        String format(final ContentDigest digest) {
+            if (path.contains("\n") || path.contains("\r")) {
+                // Such a path cannot be persisted line by line.
+                return null;
+            }
+            return String.join(
+                SEPARATOR,
+                inode == null ? "" : String.valueOf(inode),
+                String.valueOf(size),
+                String.valueOf(lastModified),
+                digest.algorithm(),
+                digest.digest(),
+                path
+            );
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            final Key that = (Key) o;
+            return size == that.size &&
+                   lastModified == that.lastModified &&
+                   Objects.equals(inode, that.inode) &&
+                   Objects.equals(path, that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, inode, size, lastModified);
+        }
+    }
+}
@@ -26,6 +26,8 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  *
@@ -48,4 +50,13 @@ public class IgnoreHiddenFileListFilter extends PredicateFileListFilter {
     }
     return true;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<Metadata> requiredMetadata() {
+    // Only the URI of the file is required.
+    return EnumSet.noneOf(Metadata.class);
+  }
 }
@@ -112,4 +112,24 @@ public class LocalFileStorage implements Storage {
         return new FileInputStream(new File(uri));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The underlying {@link java.nio.channels.FileChannel} is directly positioned
+     * to the given position, so no bytes need to be read before.
+     */
+    @Override
+    public FileInputStream getInputStream(final URI uri, final long position) throws IOException {
+        final FileInputStream stream = getInputStream(uri);
+        if (position > 0) {
+            try {
+                stream.getChannel().position(position);
+            } catch (IOException e) {
+                stream.close();
+                throw e;
+            }
+        }
+        return stream;
+    }
+
 }
@@ -19,6 +19,7 @@
 package io.streamthoughts.kafka.connect.filepulse.fs;
 
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,10 +29,16 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -99,6 +106,70 @@ public class LocalFSDirectoryListingTest {
         Assert.assertTrue(scanned.contains(file2.getCanonicalPath()));
     }
 
+    @Test
+    public void shouldListFilesWithSameMetadataGivenParallelWalk() throws IOException {
+        final List<File> files = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            folder.newFolder(TEST_SCAN_DIRECTORY, "dir-" + i, "sub-dir");
+            files.add(folder.newFile(TEST_SCAN_DIRECTORY + "/dir-" + i + "/test-file.txt"));
+            final File nested = folder.newFile(TEST_SCAN_DIRECTORY + "/dir-" + i + "/sub-dir/test-file.txt");
+            Files.writeString(nested.toPath(), "dummy-" + i);
+            files.add(nested);
+        }
+
+        scanner.configure(new HashMap<String, Object>(){{
+            put(LocalFSDirectoryListingConfig.FS_RECURSIVE_SCAN_ENABLE_CONFIG, true);
+            put(LocalFSDirectoryListingConfig.FS_WALK_PARALLELISM_CONFIG, 4);
+            put(LocalFSDirectoryListingConfig.FS_LISTING_DIRECTORY_PATH, inputDirectory.getAbsolutePath());
+        }});
+
+        final Collection<FileObjectMeta> scanned = scanner.listObjects();
+        scanner.close();
+
+        final Set<FileObjectMeta> expected = files.stream()
+                .map(LocalFileObjectMeta::new)
+                .collect(Collectors.toSet());
+        Assert.assertEquals(expected, new HashSet<>(scanned));
+    }
+
+    @Test
+    public void shouldOnlyReadMetadataOfFilesAcceptedByNameFilters() throws IOException {
+        final File accepted = folder.newFile(TEST_SCAN_DIRECTORY + "/test-file.txt");
+        Files.writeString(accepted.toPath(), "dummy");
+        Files.writeString(folder.newFile(TEST_SCAN_DIRECTORY + "/test-file.log").toPath(), "dummy");
+
+        final PredicateFileListFilter nameFilter = new PredicateFileListFilter() {
+            @Override
+            public boolean test(final FileObjectMeta meta) {
+                return meta.name().endsWith(".txt");
+            }
+
+            @Override
+            public Set<Metadata> requiredMetadata() {
+                return EnumSet.of(Metadata.NAME);
+            }
+        };
+        final List<FileObjectMeta> filtered = new ArrayList<>();
+        final PredicateFileListFilter digestFilter = new PredicateFileListFilter() {
+            @Override
+            public boolean test(final FileObjectMeta meta) {
+                filtered.add(meta);
+                return meta.contentDigest() != null;
+            }
+        };
+
+        scanner = new LocalFSDirectoryListing(List.of(nameFilter, digestFilter));
+        scanner.configure(new HashMap<String, Object>(){{
+            put(LocalFSDirectoryListingConfig.FS_LISTING_DIRECTORY_PATH, inputDirectory.getAbsolutePath());
+        }});
+
+        final Collection<FileObjectMeta> scanned = scanner.listObjects();
+
+        final LocalFileObjectMeta expected = new LocalFileObjectMeta(accepted);
+        Assert.assertEquals(Collections.singletonList(expected), filtered);
+        Assert.assertEquals(Collections.singleton(expected), new HashSet<>(scanned));
+    }
+
     private String getCanonicalPath(final FileObjectMeta s) {
         try {
             return new File(s.uri()).getCanonicalPath();
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class LocalFSWatchingDirectoryListingTest {
+
+    private static final String TEST_SCAN_DIRECTORY = "test-scan";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private File inputDirectory;
+
+    private LocalFSWatchingDirectoryListing listing;
+
+    @Before
+    public void setUp() throws IOException {
+        inputDirectory = folder.newFolder(TEST_SCAN_DIRECTORY);
+        listing = new LocalFSWatchingDirectoryListing(Collections.emptyList());
+        listing.configure(new HashMap<String, Object>(){{
+            put(LocalFSDirectoryListingConfig.FS_RECURSIVE_SCAN_ENABLE_CONFIG, true);
+            put(LocalFSDirectoryListingConfig.FS_LISTING_DIRECTORY_PATH, inputDirectory.getAbsolutePath());
+        }});
+    }
+
+    @After
+    public void tearDown() {
+        listing.close();
+    }
+
+    @Test
+    public void should_list_new_files_given_watched_directory_events() throws Exception {
+        final File existing = folder.newFile(TEST_SCAN_DIRECTORY + "/test-file1.txt");
+        Assert.assertEquals(Set.of(existing.getCanonicalPath()), listCanonicalPaths());
+
+        final CountDownLatch changed = new CountDownLatch(1);
+        listing.setChangeListener(changed::countDown);
+
+        final File subDirectory = new File(inputDirectory, "sub-directory");
+        Assert.assertTrue(subDirectory.mkdir());
+        final File created = new File(subDirectory, "test-file2.txt");
+        Files.writeString(created.toPath(), "dummy");
+
+        Assert.assertTrue(changed.await(10, TimeUnit.SECONDS));
+        assertEventually(Set.of(existing.getCanonicalPath(), created.getCanonicalPath()));
+
+        Assert.assertTrue(existing.delete());
+        assertEventually(Set.of(created.getCanonicalPath()));
+    }
+
+    @Test
+    public void should_keep_listing_files_given_modified_sub_directory() throws Exception {
+        final File subDirectory = folder.newFolder(TEST_SCAN_DIRECTORY, "sub-directory");
+        final File nested = folder.newFile(TEST_SCAN_DIRECTORY + "/sub-directory/test-file1.txt");
+        Assert.assertEquals(Set.of(nested.getCanonicalPath()), listCanonicalPaths());
+
+        final CountDownLatch changed = new CountDownLatch(1);
+        listing.setChangeListener(changed::countDown);
+
+        Assert.assertTrue(subDirectory.setLastModified(System.currentTimeMillis() - 60_000));
+        // Files created after the directory is modified are listed once all the previous events are applied.
+        final File created = folder.newFile(TEST_SCAN_DIRECTORY + "/test-file2.txt");
+
+        Assert.assertTrue(changed.await(10, TimeUnit.SECONDS));
+        assertEventually(Set.of(nested.getCanonicalPath(), created.getCanonicalPath()));
+    }
+
+    private void assertEventually(final Set<String> expected) throws Exception {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        Set<String> listed = listCanonicalPaths();
+        while (!expected.equals(listed) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            listed = listCanonicalPaths();
+        }
+        Assert.assertEquals(expected, listed);
+    }
+
+    private Set<String> listCanonicalPaths() {
+        final Collection<FileObjectMeta> objects = listing.listObjects();
+        return objects.stream().map(this::getCanonicalPath).collect(Collectors.toSet());
+    }
+
+    private String getCanonicalPath(final FileObjectMeta s) {
+        try {
+            return new File(s.uri()).getCanonicalPath();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
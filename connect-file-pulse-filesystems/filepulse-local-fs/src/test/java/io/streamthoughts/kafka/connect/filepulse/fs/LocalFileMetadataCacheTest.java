@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+public class LocalFileMetadataCacheTest {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_not_read_content_given_unchanged_file() throws IOException {
+        final Path file = newFile("test-file.txt", "content-1");
+        final LocalFileMetadataCache cache = new LocalFileMetadataCache(10, null);
+
+        final LocalFileObjectMeta first = cache.getOrCreate(file, LocalFileAttributes.read(file));
+        overwriteKeepingAttributes(file, "content-2");
+        final LocalFileObjectMeta second = cache.getOrCreate(file, LocalFileAttributes.read(file));
+
+        Assert.assertEquals(first, second);
+        Assert.assertNotEquals(new LocalFileObjectMeta(file.toFile()).contentDigest(), second.contentDigest());
+    }
+
+    @Test
+    public void should_compute_digest_given_modified_file() throws IOException {
+        final Path file = newFile("test-file.txt", "content-1");
+        final LocalFileMetadataCache cache = new LocalFileMetadataCache(10, null);
+
+        cache.getOrCreate(file, LocalFileAttributes.read(file));
+        Files.writeString(file, "modified-content");
+        final LocalFileObjectMeta meta = cache.getOrCreate(file, LocalFileAttributes.read(file));
+
+        Assert.assertEquals(new LocalFileObjectMeta(file.toFile()), meta);
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void should_evict_least_recently_used_entries_given_max_entries() throws IOException {
+        final LocalFileMetadataCache cache = new LocalFileMetadataCache(2, null);
+        for (int i = 0; i < 3; i++) {
+            final Path file = newFile("test-file-" + i + ".txt", "content-" + i);
+            cache.getOrCreate(file, LocalFileAttributes.read(file));
+        }
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void should_load_persisted_entries_given_cache_file() throws IOException {
+        final Path cacheFile = folder.getRoot().toPath().resolve("metadata.cache");
+        final Path file = newFile("test-file.txt", "content-1");
+
+        final LocalFileMetadataCache cache = new LocalFileMetadataCache(10, cacheFile);
+        final LocalFileObjectMeta expected = cache.getOrCreate(file, LocalFileAttributes.read(file));
+        cache.flush();
+        overwriteKeepingAttributes(file, "content-2");
+
+        final LocalFileMetadataCache reloaded = new LocalFileMetadataCache(10, cacheFile);
+        Assert.assertEquals(1, reloaded.size());
+        Assert.assertEquals(expected, reloaded.getOrCreate(file, LocalFileAttributes.read(file)));
+    }
+
+    private Path newFile(final String name, final String content) throws IOException {
+        final Path file = folder.newFile(name).toPath();
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static void overwriteKeepingAttributes(final Path file, final String content) throws IOException {
+        final FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, lastModified);
+    }
+}
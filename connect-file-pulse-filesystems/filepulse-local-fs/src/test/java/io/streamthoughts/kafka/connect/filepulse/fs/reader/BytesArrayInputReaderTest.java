@@ -23,6 +23,7 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
@@ -81,4 +82,12 @@ public class BytesArrayInputReaderTest {
         Assert.assertTrue( Arrays.equals(TEST_VALUE.getBytes(), typedValue.getBytes()));
         Assert.assertFalse(iterator.hasNext());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_complete_given_committed_offset_at_end_of_file() {
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(file.toURI());
+        iterator.seekTo(new FileObjectOffset(TEST_VALUE.getBytes().length, -1, System.currentTimeMillis()));
+
+        Assert.assertFalse(iterator.hasNext());
+    }
+}
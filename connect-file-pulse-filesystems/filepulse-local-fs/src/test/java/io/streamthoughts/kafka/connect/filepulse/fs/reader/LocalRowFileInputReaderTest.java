@@ -19,11 +19,14 @@
 package io.streamthoughts.kafka.connect.filepulse.fs.reader;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.fs.reader.text.RowFileRecordOffset;
 import io.streamthoughts.kafka.connect.filepulse.fs.reader.text.internal.TextBlock;
 import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,6 +37,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -82,6 +86,27 @@ public class LocalRowFileInputReaderTest {
         Assert.assertEquals(10, results.size());
     }
 
+    @Test
+    public void should_read_remaining_lines_given_committed_byte_offset() throws IOException {
+        final File file = testFolder.newFile();
+        Files.write(file.toPath(), "ligne-é-1\nligne-é-2\nligne-é-3\n".getBytes(StandardCharsets.UTF_8));
+
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(file.toURI());
+        // each line is 11 bytes length (including the line terminator) but only 10 characters.
+        iterator.seekTo(new FileObjectOffset(11, 1, System.currentTimeMillis()));
+
+        List<FileRecord<TypedStruct>> results = new ArrayList<>();
+        while (iterator.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+            results.addAll(next.collect());
+        }
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("ligne-é-2", results.get(0).value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        Assert.assertEquals(2, ((RowFileRecordOffset) results.get(0).offset()).rows());
+        Assert.assertEquals(file.length(), iterator.context().offset().position());
+        iterator.close();
+    }
+
     private void generateLines(final BufferedWriter writer) throws IOException {
 
         for (int i = 0; i < NLINES; i++) {
@@ -19,10 +19,14 @@
 package io.streamthoughts.kafka.connect.filepulse.config;
 
 import io.streamthoughts.kafka.connect.filepulse.clean.FileCleanupPolicy;
+import io.streamthoughts.kafka.connect.filepulse.fs.FileObjectSchedulingOrder;
+import io.streamthoughts.kafka.connect.filepulse.fs.FileSchedulingBudget;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectStatus;
 import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -39,6 +43,18 @@ public class SourceConnectorConfig extends CommonSourceConfig {
     public static final String FS_CLEANUP_POLICY_EXECUTE_CONFIG = "fs.cleanup.policy.triggered.on";
     private static final String FS_CLEANUP_POLICY_EXECUTE_DOC = "Specify the status when a file get cleanup. Valid values are: " + Arrays.toString(FS_CLEANUP_POLICY_EXECUTE_VALID_VALUES);
 
+    public static final String FS_LISTING_MAX_CANDIDATES_CONFIG = "fs.listing.max.candidates";
+    private static final String FS_LISTING_MAX_CANDIDATES_DOC = "The maximum number of object files retained as candidates for scheduling after each filesystem listing. Remaining object files are considered on next listings. This bounds the memory used by the connector for listing large file-systems.";
+
+    public static final String[] FS_SCHEDULING_ORDER_VALID_VALUES = Arrays.stream(FileObjectSchedulingOrder.values())
+            .map(Enum::name)
+            .toArray(String[]::new);
+    public static final String FS_SCHEDULING_ORDER_CONFIG = "fs.scheduling.order";
+    private static final String FS_SCHEDULING_ORDER_DOC = "The order in which the files found during a filesystem listing are scheduled, i.e. which files are scheduled first when more than 'max.scheduled.files' files are found. Valid values are: " + Arrays.toString(FS_SCHEDULING_ORDER_VALID_VALUES);
+
+    public static final String FS_SCHEDULING_ORDER_EXPRESSION_CONFIG = "fs.scheduling.order.expression";
+    private static final String FS_SCHEDULING_ORDER_EXPRESSION_DOC = "The ScEL expression evaluated against the file metadata (e.g. '{{ $metadata.name }}') used to sort files in ascending order, when the scheduling order is EXPRESSION.";
+
     /* Settings for FileSystemMonitorThread */
     public static final String FS_LISTING_INTERVAL_MS_CONFIG  = "fs.listing.interval.ms";
     private static final String FS_LISTING_INTERVAL_MS_DOC    = "The time interval, in milliseconds, in which the connector invokes the scan of the filesystem.";
@@ -49,9 +65,30 @@ public class SourceConnectorConfig extends CommonSourceConfig {
     private static final String MAX_SCHEDULED_FILES_DOC       = "Maximum number of files that can be schedules to tasks.";
     private static final int MAX_SCHEDULED_FILES_DEFAULT      = 1000;
 
+    public static final String MAX_SCHEDULED_BYTES_CONFIG = "max.scheduled.bytes";
+    private static final String MAX_SCHEDULED_BYTES_DOC = "Maximum cumulative size in bytes of the files scheduled to tasks, including the files still being processed. At least one file is always scheduled. A value of 0 means no limit.";
+
+    public static final String MAX_SCHEDULED_RECORDS_CONFIG = "max.scheduled.records";
+    private static final String MAX_SCHEDULED_RECORDS_DOC = "Maximum number of records, estimated from the file sizes, of the files scheduled to tasks, including the files still being processed. At least one file is always scheduled. A value of 0 means no limit.";
+
+    public static final String SCHEDULED_RECORDS_ESTIMATED_SIZE_BYTES_CONFIG = "scheduled.records.estimated.size.bytes";
+    private static final String SCHEDULED_RECORDS_ESTIMATED_SIZE_BYTES_DOC = "The estimated size in bytes of a record, used to estimate the number of records of a file for '" + MAX_SCHEDULED_RECORDS_CONFIG + "'.";
+
+    public static final String TASK_MAX_INFLIGHT_BYTES_CONFIG = "task.max.inflight.bytes";
+    private static final String TASK_MAX_INFLIGHT_BYTES_DOC = "Maximum cumulative size in bytes of the files scheduled per task. The files that cannot be assigned by the task partitioner within this limit are scheduled later. A task is always assigned at least one file. A value of 0 means no limit.";
+
     public static final String FS_LISTING_TASK_DELEGATION_ENABLED_CONFIG = "fs.listing.task.delegation.enabled";
     private static final String FS_LISTING_TASK_DELEGATION_ENABLED_DOC = "Boolean indicating whether the file listing process should be delegated to tasks.";
 
+    public static final String TASKS_WORK_QUEUE_ENABLED_CONFIG = "tasks.work.queue.enabled";
+    private static final String TASKS_WORK_QUEUE_ENABLED_DOC = "Boolean indicating whether new files should be continuously assigned to running tasks through the status storage topic, instead of reconfiguring tasks.";
+
+    public static final String TASKS_WORK_QUEUE_MAX_INFLIGHT_FILES_CONFIG = "tasks.work.queue.max.inflight.files";
+    private static final String TASKS_WORK_QUEUE_MAX_INFLIGHT_FILES_DOC = "The maximum number of files assigned to a task and not yet completed when the work-queue mode is enabled.";
+
+    public static final String TASKS_WORK_QUEUE_LEASE_MS_CONFIG = "tasks.work.queue.lease.ms";
+    private static final String TASKS_WORK_QUEUE_LEASE_MS_DOC = "The time (in milliseconds) for a task to start processing an assigned file before the file is assigned to another task, when the work-queue mode is enabled.";
+
     /**
      * Creates a new {@link SourceConnectorConfig} instance.
      * @param originals the originals configuration.
@@ -93,6 +130,38 @@ public class SourceConnectorConfig extends CommonSourceConfig {
                         MAX_SCHEDULED_FILES_DOC
                 )
 
+                .define(
+                        MAX_SCHEDULED_BYTES_CONFIG,
+                        ConfigDef.Type.LONG,
+                        0L,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        MAX_SCHEDULED_BYTES_DOC
+                )
+                .define(
+                        MAX_SCHEDULED_RECORDS_CONFIG,
+                        ConfigDef.Type.LONG,
+                        0L,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        MAX_SCHEDULED_RECORDS_DOC
+                )
+                .define(
+                        SCHEDULED_RECORDS_ESTIMATED_SIZE_BYTES_CONFIG,
+                        ConfigDef.Type.LONG,
+                        1024L,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        SCHEDULED_RECORDS_ESTIMATED_SIZE_BYTES_DOC
+                )
+                .define(
+                        TASK_MAX_INFLIGHT_BYTES_CONFIG,
+                        ConfigDef.Type.LONG,
+                        0L,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        TASK_MAX_INFLIGHT_BYTES_DOC
+                )
                 .define(
                         FS_LISTING_TASK_DELEGATION_ENABLED_CONFIG,
                         ConfigDef.Type.BOOLEAN,
@@ -100,6 +169,52 @@ public class SourceConnectorConfig extends CommonSourceConfig {
                         ConfigDef.Importance.LOW,
                         FS_LISTING_TASK_DELEGATION_ENABLED_DOC
                 )
+                .define(
+                        FS_LISTING_MAX_CANDIDATES_CONFIG,
+                        ConfigDef.Type.INT,
+                        Integer.MAX_VALUE,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        FS_LISTING_MAX_CANDIDATES_DOC
+                )
+                .define(
+                        FS_SCHEDULING_ORDER_CONFIG,
+                        ConfigDef.Type.STRING,
+                        FileObjectSchedulingOrder.OLDEST_FIRST.name(),
+                        ConfigDef.ValidString.in(FS_SCHEDULING_ORDER_VALID_VALUES),
+                        ConfigDef.Importance.LOW,
+                        FS_SCHEDULING_ORDER_DOC
+                )
+                .define(
+                        FS_SCHEDULING_ORDER_EXPRESSION_CONFIG,
+                        ConfigDef.Type.STRING,
+                        null,
+                        ConfigDef.Importance.LOW,
+                        FS_SCHEDULING_ORDER_EXPRESSION_DOC
+                )
+                .define(
+                        TASKS_WORK_QUEUE_ENABLED_CONFIG,
+                        ConfigDef.Type.BOOLEAN,
+                        false,
+                        ConfigDef.Importance.LOW,
+                        TASKS_WORK_QUEUE_ENABLED_DOC
+                )
+                .define(
+                        TASKS_WORK_QUEUE_MAX_INFLIGHT_FILES_CONFIG,
+                        ConfigDef.Type.INT,
+                        2,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        TASKS_WORK_QUEUE_MAX_INFLIGHT_FILES_DOC
+                )
+                .define(
+                        TASKS_WORK_QUEUE_LEASE_MS_CONFIG,
+                        ConfigDef.Type.LONG,
+                        300000L,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        TASKS_WORK_QUEUE_LEASE_MS_DOC
+                )
                 .define(
                         FS_CLEANUP_POLICY_EXECUTE_CONFIG,
                         ConfigDef.Type.STRING,
@@ -118,6 +233,24 @@ public class SourceConnectorConfig extends CommonSourceConfig {
         return getInt(MAX_SCHEDULED_FILES_CONFIG);
     }
 
+    public FileSchedulingBudget getSchedulingBudget() {
+        return new FileSchedulingBudget(
+                getLong(MAX_SCHEDULED_BYTES_CONFIG),
+                getLong(MAX_SCHEDULED_RECORDS_CONFIG),
+                getLong(SCHEDULED_RECORDS_ESTIMATED_SIZE_BYTES_CONFIG),
+                getLong(TASK_MAX_INFLIGHT_BYTES_CONFIG)
+        );
+    }
+
+    public int getMaxListingCandidates() {
+        return getInt(FS_LISTING_MAX_CANDIDATES_CONFIG);
+    }
+
+    public Comparator<FileObjectMeta> getSchedulingOrder() {
+        final FileObjectSchedulingOrder order = FileObjectSchedulingOrder.valueOf(getString(FS_SCHEDULING_ORDER_CONFIG));
+        return order.newComparator(getString(FS_SCHEDULING_ORDER_EXPRESSION_CONFIG));
+    }
+
     public FileCleanupPolicy getFsCleanupPolicy() {
         return getConfiguredInstance(FS_CLEANUP_POLICY_CLASS_CONFIG, FileCleanupPolicy.class);
     }
@@ -134,6 +267,18 @@ public class SourceConnectorConfig extends CommonSourceConfig {
         return this.getLong(FS_LISTING_INTERVAL_MS_CONFIG);
     }
 
+    public boolean isTaskWorkQueueEnabled() {
+        return getBoolean(TASKS_WORK_QUEUE_ENABLED_CONFIG);
+    }
+
+    public int getTaskWorkQueueMaxInFlightFiles() {
+        return getInt(TASKS_WORK_QUEUE_MAX_INFLIGHT_FILES_CONFIG);
+    }
+
+    public long getTaskWorkQueueLeaseMs() {
+        return getLong(TASKS_WORK_QUEUE_LEASE_MS_CONFIG);
+    }
+
     public boolean isFileListingTaskDelegationEnabled() {
         return getBoolean(FS_LISTING_TASK_DELEGATION_ENABLED_CONFIG);
     }
@@ -47,6 +47,32 @@ public class SourceTaskConfig extends CommonSourceConfig {
     private static final String OMIT_READ_COMMITTED_FILE_CONFIG = "ignore.committed.offsets";
     private static final String OMIT_READ_COMMITTED_FILE_DOC = "Should a task ignore committed offsets while scheduling a file (default : false).";
 
+    public static final String TASKS_READER_PIPELINED_ENABLED_CONFIG = "tasks.reader.pipelined.enabled";
+    private static final String TASKS_READER_PIPELINED_ENABLED_DOC = "Should a task read and filter records using a background thread, "
+            + "so that polling records does not wait for file I/Os (default : false).";
+
+    public static final String TASKS_READER_PIPELINED_MAX_BUFFERED_BATCHES_CONFIG = "tasks.reader.pipelined.max.buffered.batches";
+    private static final String TASKS_READER_PIPELINED_MAX_BUFFERED_BATCHES_DOC = "The maximum number of record batches that can be "
+            + "read ahead by a task when pipelined mode is enabled (default : 4).";
+
+    public static final String TASKS_READER_MAX_CONCURRENT_FILES_CONFIG = "tasks.reader.max.concurrent.files";
+    private static final String TASKS_READER_MAX_CONCURRENT_FILES_DOC = "The maximum number of files that can be read concurrently "
+            + "by a task. A value greater than 1 implies the pipelined mode (default : 1).";
+
+    public static final String TASKS_READER_LOOK_AHEAD_FILES_CONFIG = "tasks.reader.look.ahead.files";
+    private static final String TASKS_READER_LOOK_AHEAD_FILES_DOC = "The number of queued files to be asynchronously opened "
+            + "by a task while the current one is read, i.e. metadata and committed offsets are resolved and the file "
+            + "is opened from the committed offset in advance (default : 0).";
+
+    public static final String TASKS_POLL_MAX_RECORDS_CONFIG = "tasks.poll.max.records";
+    private static final String TASKS_POLL_MAX_RECORDS_DOC = "The target number of records to be returned by a single poll. "
+            + "If greater than 0, a poll keeps reading records from successive files until this target is reached "
+            + "(default : 0, a poll returns records from a single file).";
+
+    public static final String TASKS_POLL_MAX_BYTES_CONFIG = "tasks.poll.max.bytes";
+    private static final String TASKS_POLL_MAX_BYTES_DOC = "The maximum cumulative size in bytes of the records "
+            + "returned by a single poll, when '" + TASKS_POLL_MAX_RECORDS_CONFIG + "' is set (default : 0, no limit).";
+
     private final EnrichedConnectorConfig enrichedConfig;
 
     static ConfigDef getConf() {
@@ -64,6 +90,53 @@ public class SourceTaskConfig extends CommonSourceConfig {
                         false,
                         ConfigDef.Importance.LOW,
                         OMIT_READ_COMMITTED_FILE_DOC
+                )
+                .define(
+                        TASKS_READER_PIPELINED_ENABLED_CONFIG,
+                        ConfigDef.Type.BOOLEAN,
+                        false,
+                        ConfigDef.Importance.LOW,
+                        TASKS_READER_PIPELINED_ENABLED_DOC
+                )
+                .define(
+                        TASKS_READER_PIPELINED_MAX_BUFFERED_BATCHES_CONFIG,
+                        ConfigDef.Type.INT,
+                        4,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        TASKS_READER_PIPELINED_MAX_BUFFERED_BATCHES_DOC
+                )
+                .define(
+                        TASKS_READER_MAX_CONCURRENT_FILES_CONFIG,
+                        ConfigDef.Type.INT,
+                        1,
+                        ConfigDef.Range.atLeast(1),
+                        ConfigDef.Importance.LOW,
+                        TASKS_READER_MAX_CONCURRENT_FILES_DOC
+                )
+                .define(
+                        TASKS_READER_LOOK_AHEAD_FILES_CONFIG,
+                        ConfigDef.Type.INT,
+                        0,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        TASKS_READER_LOOK_AHEAD_FILES_DOC
+                )
+                .define(
+                        TASKS_POLL_MAX_RECORDS_CONFIG,
+                        ConfigDef.Type.INT,
+                        0,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        TASKS_POLL_MAX_RECORDS_DOC
+                )
+                .define(
+                        TASKS_POLL_MAX_BYTES_CONFIG,
+                        ConfigDef.Type.LONG,
+                        0L,
+                        ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.LOW,
+                        TASKS_POLL_MAX_BYTES_DOC
                 );
     }
 
@@ -170,6 +243,30 @@ public class SourceTaskConfig extends CommonSourceConfig {
         return this.getBoolean(OMIT_READ_COMMITTED_FILE_CONFIG);
     }
 
+    public boolean isReaderPipelinedEnabled() {
+        return this.getBoolean(TASKS_READER_PIPELINED_ENABLED_CONFIG);
+    }
+
+    public int getReaderPipelinedMaxBufferedBatches() {
+        return this.getInt(TASKS_READER_PIPELINED_MAX_BUFFERED_BATCHES_CONFIG);
+    }
+
+    public int getReaderMaxConcurrentFiles() {
+        return this.getInt(TASKS_READER_MAX_CONCURRENT_FILES_CONFIG);
+    }
+
+    public int getReaderLookAheadFiles() {
+        return this.getInt(TASKS_READER_LOOK_AHEAD_FILES_CONFIG);
+    }
+
+    public int getTaskPollMaxRecords() {
+        return this.getInt(TASKS_POLL_MAX_RECORDS_CONFIG);
+    }
+
+    public long getTaskPollMaxBytes() {
+        return this.getLong(TASKS_POLL_MAX_BYTES_CONFIG);
+    }
+
     public String topic() {
         return this.getString(CommonSourceConfig.OUTPUT_TOPIC_CONFIG);
     }
@@ -29,6 +29,7 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileObjectKey;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectStatus;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
+import io.streamthoughts.kafka.connect.filepulse.source.TaskPartitioner;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
 import org.apache.kafka.common.utils.Time;
@@ -41,11 +42,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -53,6 +54,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A default {@link FileSystemMonitor} that can be used to trigger file
@@ -68,9 +70,6 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
     private static final Duration DEFAULT_READ_END_LOG_TIMEOUT = Duration.ofSeconds(5);
     private static final int MAX_SCHEDULE_ATTEMPTS = 3;
 
-    private final static Comparator<FileObjectMeta> BY_LAST_MODIFIED =
-            Comparator.comparingLong(FileObjectMeta::lastModified);
-
     private final FileSystemListing<?> fsListing;
 
     private final StateBackingStore<FileObject> store;
@@ -104,6 +103,14 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
 
     private final Predicate<FileObjectStatus> cleanablePredicate;
 
+    private final int maxListingCandidates;
+
+    private volatile WorkQueueCoordinator workQueue;
+
+    private Comparator<FileObjectMeta> schedulingOrder = FileObjectSchedulingOrder.OLDEST_FIRST.newComparator(null);
+
+    private FileSchedulingBudget schedulingBudget = FileSchedulingBudget.unlimited();
+
     /**
      * Creates a new {@link DefaultFileSystemMonitor} instance.
      *
@@ -119,6 +126,34 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
                                     final Predicate<FileObjectStatus> cleanablePredicate,
                                     final SourceOffsetPolicy offsetPolicy,
                                     final StateBackingStore<FileObject> store) {
+        this(
+            allowTasksReconfigurationAfterTimeoutMs,
+            fsListening,
+            cleanPolicy,
+            cleanablePredicate,
+            offsetPolicy,
+            store,
+            Integer.MAX_VALUE
+        );
+    }
+
+    /**
+     * Creates a new {@link DefaultFileSystemMonitor} instance.
+     *
+     * @param allowTasksReconfigurationAfterTimeoutMs {@code true} to allow tasks reconfiguration after a timeout.
+     * @param fsListening                             the {@link FileSystemListing} to be used for listing object files.
+     * @param cleanPolicy                             the {@link GenericFileCleanupPolicy} to be used for cleaning object files.
+     * @param offsetPolicy                            the {@link SourceOffsetPolicy} to be used computing offset for object fileS.
+     * @param store                                   the {@link StateBackingStore} used for storing object file cursor.
+     * @param maxListingCandidates                    the maximum number of object files retained after each listing.
+     */
+    public DefaultFileSystemMonitor(final Long allowTasksReconfigurationAfterTimeoutMs,
+                                    final FileSystemListing<?> fsListening,
+                                    final GenericFileCleanupPolicy cleanPolicy,
+                                    final Predicate<FileObjectStatus> cleanablePredicate,
+                                    final SourceOffsetPolicy offsetPolicy,
+                                    final StateBackingStore<FileObject> store,
+                                    final int maxListingCandidates) {
         Objects.requireNonNull(fsListening, "'fsListening' should not be null");
         Objects.requireNonNull(cleanPolicy, "'cleanPolicy' should not be null");
         Objects.requireNonNull(offsetPolicy, "'offsetPolicy' should not be null");
@@ -128,6 +163,7 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
         this.fsListing = fsListening;
         this.allowTasksReconfigurationAfterTimeoutMs = allowTasksReconfigurationAfterTimeoutMs;
         this.cleanablePredicate = cleanablePredicate;
+        this.maxListingCandidates = maxListingCandidates;
 
         if (cleanPolicy instanceof FileCleanupPolicy) {
             this.cleaner = new DelegateBatchFileCleanupPolicy((FileCleanupPolicy) cleanPolicy);
@@ -140,6 +176,8 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
         this.cleaner.setStorage(fsListening.storage());
         this.offsetPolicy = offsetPolicy;
         this.store = store;
+        this.fsListing.setCompletedObjectPredicate(this::isCompleted);
+        this.fsListing.setSourceOffsetPolicy(offsetPolicy);
         LOG.info("Initializing FileSystemMonitor");
         // The listener is not call until the store is fully STARTED.
         this.store.setUpdateListener(new StateBackingStore.UpdateListener<>() {
@@ -153,6 +191,10 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
                 final FileObjectKey objectId = FileObjectKey.of(key);
                 final FileObjectStatus status = object.status();
                 LOG.debug("Received status '{} 'for: {}", status, object);
+                final WorkQueueCoordinator coordinator = workQueue;
+                if (coordinator != null) {
+                    coordinator.onStateUpdate(status);
+                }
                 if (cleanablePredicate.test(status)) {
                     cleanable.add(object.withKey(objectId));
                     // We should always try to remove the object key from the list
@@ -219,6 +261,10 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
     public void invoke(final ConnectorContext context) {
         // It seems to be OK to always run cleanup even if connector is not yet started or is being shut down.
         cleanUpCompletedFiles();
+        if (workQueue != null) {
+            distributeFiles();
+            return;
+        }
         if (running.get() && fileSystemListingEnabled.get()) {
             if (!taskReconfigurationRequested.get()) {
                 if (updateFiles()) {
@@ -234,6 +280,50 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
         }
     }
 
+    /**
+     * Enables the work-queue mode, in which new object files are assigned to running tasks
+     * using the given {@link WorkQueueCoordinator} instead of requesting a task reconfiguration.
+     *
+     * @param coordinator   the {@link WorkQueueCoordinator} to be used.
+     */
+    public void setWorkQueueCoordinator(final WorkQueueCoordinator coordinator) {
+        this.workQueue = coordinator;
+        // Tasks are never reconfigured for scheduling object files, hence the monitor is immediately running.
+        running.set(true);
+    }
+
+    /**
+     * Sets the order in which object files are scheduled. When more object files are found than can be scheduled,
+     * the first object files according to that order are scheduled.
+     *
+     * @param schedulingOrder   the {@link Comparator} used to sort object files.
+     */
+    public void setSchedulingOrder(final Comparator<FileObjectMeta> schedulingOrder) {
+        this.schedulingOrder = Objects.requireNonNull(schedulingOrder, "'schedulingOrder' should not be null");
+    }
+
+    /**
+     * Sets the maximum amount of work, in bytes and estimated records, of the object files being processed by tasks.
+     * Object files are scheduled in the scheduling order until the budget is reached.
+     *
+     * @param schedulingBudget  the {@link FileSchedulingBudget} to be used.
+     */
+    public void setSchedulingBudget(final FileSchedulingBudget schedulingBudget) {
+        this.schedulingBudget = Objects.requireNonNull(schedulingBudget, "'schedulingBudget' should not be null");
+    }
+
+    private void distributeFiles() {
+        // Object files are only listed again once all the queued object files have been assigned.
+        if (!workQueue.hasPending() && fileSystemListingEnabled.get()) {
+            updateFiles();
+            workQueue.offer(sortedBySchedulingOrder(scanned.values()));
+            scanned.clear();
+        } else {
+            readStatesToEnd(DEFAULT_READ_END_LOG_TIMEOUT);
+        }
+        workQueue.assign(store.snapshot());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -265,6 +355,21 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
         LOG.info("Finished cleaning all completed object files");
     }
 
+    /**
+     * Checks whether the given object file is completed, i.e. it will not be scheduled again.
+     *
+     * @param object    the object file to check.
+     * @return          {@code true} if the object file is done or cleanable.
+     */
+    private boolean isCompleted(final FileObjectMeta object) {
+        final FileObject fileObject = store.snapshot().getForKey(offsetPolicy.toPartitionJson(object));
+        return fileObject != null && isDoneOrCleanable(fileObject.status());
+    }
+
+    private boolean isDoneOrCleanable(final FileObjectStatus status) {
+        return cleanablePredicate.test(status) || status.isDone();
+    }
+
     private synchronized boolean updateFiles() {
         final boolean noScheduledFiles = scheduled.isEmpty();
         if (!noScheduledFiles && allowTasksReconfigurationAfterTimeoutMs == Long.MAX_VALUE) {
@@ -283,22 +388,23 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
 
         LOG.info("Starting to list object files using: {}", fsListing.getClass().getSimpleName());
         long started = Time.SYSTEM.milliseconds();
-        final Collection<FileObjectMeta> objects = fsListing.listObjects();
-        long took = Time.SYSTEM.milliseconds() - started;
-        LOG.info("Completed object files listing. '{}' object files found in {}ms", objects.size(), took);
-
         final StateSnapshot<FileObject> snapshot = store.snapshot();
-        final Map<FileObjectKey, FileObjectMeta> toScheduled = FileObjectCandidatesFilter.filter(
+        final FileObjectCandidatesFilter candidatesFilter = new FileObjectCandidatesFilter(
                 offsetPolicy,
                 fileObjectKey -> {
                     final FileObject fileObject = snapshot.getForKey(fileObjectKey.original());
                     if (fileObject == null) return true;
 
-                    final FileObjectStatus status = fileObject.status();
-                    return !(cleanablePredicate.test(status) || status.isDone());
-                },
-                objects
+                    return !isDoneOrCleanable(fileObject.status());
+                }
         );
+        // Objects are consumed while being listed so that only candidates are retained in memory.
+        final Map<FileObjectKey, FileObjectMeta> toScheduled;
+        try (Stream<FileObjectMeta> objects = fsListing.streamObjects()) {
+            toScheduled = candidatesFilter.filter(objects.iterator(), maxListingCandidates);
+        }
+        long took = Time.SYSTEM.milliseconds() - started;
+        LOG.info("Completed object files listing. '{}' candidate object files found in {}ms", toScheduled.size(), took);
 
         // Some scheduled files are still being processed, but new files are detected
         if (!noScheduledFiles) {
@@ -341,6 +447,14 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
      */
     @Override
     public List<FileObjectMeta> listFilesToSchedule(final int maxFilesToSchedule) {
+        return listFilesToSchedule(maxFilesToSchedule, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FileObjectMeta> listFilesToSchedule(final int maxFilesToSchedule, final int taskCount) {
 
         if (!running.get()) {
             // This is the first call of partitionFilesAndGet, hence the connector is starting or restarting after
@@ -385,14 +499,10 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
                     }
 
                     // Check if all scanned object-files can be schedule.
-                    if (scanned.size() <= maxFilesToSchedule) {
+                    if (scanned.size() <= maxFilesToSchedule && schedulingBudget.isUnlimited()) {
                         scheduled.putAll(scanned);
                     } else {
-                        final Iterator<Map.Entry<FileObjectKey, FileObjectMeta>> it = scanned.entrySet().iterator();
-                        while (scheduled.size() < maxFilesToSchedule && it.hasNext()) {
-                            final Map.Entry<FileObjectKey, FileObjectMeta> next = it.next();
-                            scheduled.put(next.getKey(), next.getValue());
-                        }
+                        scheduleFirstFiles(maxFilesToSchedule - scheduled.size(), taskCount);
                     }
 
                     partitions = new ArrayList<>(scheduled.values());
@@ -421,17 +531,100 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
                 );
             }
 
-            // Sort all object files by the last-modified date before returning
-            return partitions
-                    .stream()
-                    .sorted(BY_LAST_MODIFIED)
-                    .collect(Collectors.toList());
+            // Sort all object files by the scheduling order before returning
+            return sortedBySchedulingOrder(partitions);
         } finally {
             scanned.clear();
             taskReconfigurationRequested.set(false);
         }
     }
 
+    /**
+     * Schedules the first scanned object files according to the scheduling order, using a bounded priority queue
+     * which retains the first object files while iterating over all scanned object files.
+     *
+     * @param maxFiles  the maximum number of object files to schedule.
+     * @param taskCount the number of tasks to which object files are scheduled, or {@code 0} if unknown.
+     */
+    private void scheduleFirstFiles(final int maxFiles, final int taskCount) {
+        if (maxFiles <= 0) {
+            return;
+        }
+        // The head of the queue is the last object file, according to the scheduling order, of the retained files.
+        final Comparator<Map.Entry<FileObjectKey, FileObjectMeta>> order =
+                Map.Entry.comparingByValue(FileObjectSchedulingOrder.withCachedSortKeys(schedulingOrder));
+        final PriorityQueue<Map.Entry<FileObjectKey, FileObjectMeta>> queue =
+                new PriorityQueue<>(maxFiles + 1, order.reversed());
+        for (Map.Entry<FileObjectKey, FileObjectMeta> entry : scanned.entrySet()) {
+            if (scheduled.containsKey(entry.getKey())) {
+                continue;
+            }
+            queue.add(entry);
+            if (queue.size() > maxFiles) {
+                queue.poll();
+            }
+        }
+        if (schedulingBudget.isUnlimited()) {
+            queue.forEach(entry -> scheduled.put(entry.getKey(), entry.getValue()));
+            return;
+        }
+        final List<Map.Entry<FileObjectKey, FileObjectMeta>> candidates = new ArrayList<>(queue);
+        candidates.sort(order);
+        scheduleWithinBudget(candidates, taskCount);
+    }
+
+    /**
+     * Schedules the given object files in order, until the scheduling budget is reached.
+     * The object files still being processed consume the budget, and at least one object file is always scheduled.
+     *
+     * @param candidates    the object files to schedule, sorted by the scheduling order.
+     * @param taskCount     the number of tasks to which object files are scheduled, or {@code 0} if unknown.
+     */
+    private void scheduleWithinBudget(final List<Map.Entry<FileObjectKey, FileObjectMeta>> candidates,
+                                      final int taskCount) {
+        final long maxBytes = schedulingBudget.maxBytes(taskCount);
+        final long maxRecords = schedulingBudget.maxRecords();
+        long bytes = 0;
+        long records = 0;
+        for (FileObjectMeta inFlight : scheduled.values()) {
+            bytes += TaskPartitioner.bytesOf(inFlight);
+            records += schedulingBudget.estimateRecords(inFlight);
+        }
+        for (Map.Entry<FileObjectKey, FileObjectMeta> candidate : candidates) {
+            final long fileBytes = TaskPartitioner.bytesOf(candidate.getValue());
+            final long fileRecords = schedulingBudget.estimateRecords(candidate.getValue());
+            if (!scheduled.isEmpty() && (bytes + fileBytes > maxBytes || records + fileRecords > maxRecords)) {
+                LOG.info(
+                    "Scheduling budget reached with {} object files, {} bytes and ~{} records (budget={}).",
+                    scheduled.size(),
+                    bytes,
+                    records,
+                    schedulingBudget
+                );
+                return;
+            }
+            scheduled.put(candidate.getKey(), candidate.getValue());
+            bytes += fileBytes;
+            records += fileRecords;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unschedule(final Collection<FileObjectMeta> files) {
+        // Unscheduled object files will be found again during the next filesystem scans.
+        files.forEach(file -> scheduled.remove(FileObjectKey.of(offsetPolicy.toPartitionJson(file))));
+        LOG.info("Unscheduled '{}' object files, '{}' object files still scheduled", files.size(), scheduled.size());
+    }
+
+    private List<FileObjectMeta> sortedBySchedulingOrder(final Collection<FileObjectMeta> objects) {
+        return objects.stream()
+                .sorted(FileObjectSchedulingOrder.withCachedSortKeys(schedulingOrder))
+                .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -442,6 +635,7 @@ public class DefaultFileSystemMonitor implements FileSystemMonitor {
                 LOG.info("Closing FileSystemMonitor resources");
                 readStatesToEnd(DEFAULT_READ_END_LOG_TIMEOUT);
                 cleanUpCompletedFiles();
+                fsListing.close();
                 LOG.info("Closed FileSystemMonitor resources");
             } catch (final Exception e) {
                 LOG.warn("Unexpected error while closing FileSystemMonitor.", e);
@@ -38,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 public class DelegateTaskFileURIProvider implements TaskFileURIProvider {
 
@@ -58,6 +59,8 @@ public class DelegateTaskFileURIProvider implements TaskFileURIProvider {
 
     private boolean isFirstCall = true;
 
+    private boolean isListingAssigned = false;
+
     /**
      * Creates a new {@link DelegateTaskFileURIProvider} instance.
      */
@@ -80,6 +83,17 @@ public class DelegateTaskFileURIProvider implements TaskFileURIProvider {
         fileSystemListing = config.getFileSystemListing();
         sourceOffsetPolicy = config.getSourceOffsetPolicy();
         fileSystemListing.setFilter(new CompositeFileListFilter(config.getFileSystemListingFilter()));
+        fileSystemListing.setSourceOffsetPolicy(sourceOffsetPolicy);
+        if (config.isListingShardingEnabled()) {
+            // The assignment is computed again from the task count each time tasks are reconfigured.
+            isListingAssigned = fileSystemListing.assignTask(config.getTaskId(), config.getTaskCount());
+            if (!isListingAssigned) {
+                LOG.warn(
+                    "The FileSystemListing '{}' does not support task sharding. All object files will be listed.",
+                    fileSystemListing.getClass().getName()
+                );
+            }
+        }
     }
 
     /**
@@ -110,6 +124,10 @@ public class DelegateTaskFileURIProvider implements TaskFileURIProvider {
         ).values();
 
         isFirstCall = false;
+        if (isListingAssigned) {
+            // All the listed object files are owned by this task.
+            return filtered.stream().map(FileObjectMeta::uri).collect(Collectors.toList());
+        }
         return partitioner.partitionForTask(filtered, config.getTaskCount(), config.getTaskId());
     }
 
@@ -139,6 +157,13 @@ public class DelegateTaskFileURIProvider implements TaskFileURIProvider {
         public static final String TASK_COUNT_CONFIG = "task.count";
         private static final String TASK_COUNT_DOC = "The total number tasks assigned.";
 
+        public static final String FS_LISTING_TASK_DELEGATION_SHARDING_ENABLED_CONFIG =
+                "fs.listing.task.delegation.sharding.enabled";
+        private static final String FS_LISTING_TASK_DELEGATION_SHARDING_ENABLED_DOC =
+                "Boolean indicating whether each task should only list its own subset of the file-system " +
+                "(e.g. the sub-prefixes of an object storage assigned to the task by consistent hashing), " +
+                "instead of listing the whole file-system and partitioning the listed object files.";
+
         /**
          * Creates a new {@link Config} instance.
          *
@@ -161,6 +186,13 @@ public class DelegateTaskFileURIProvider implements TaskFileURIProvider {
                             ConfigDef.Type.INT,
                             ConfigDef.Importance.HIGH,
                             TASK_COUNT_DOC
+                    )
+                    .define(
+                            FS_LISTING_TASK_DELEGATION_SHARDING_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            false,
+                            ConfigDef.Importance.LOW,
+                            FS_LISTING_TASK_DELEGATION_SHARDING_ENABLED_DOC
                     );
         }
 
@@ -171,6 +203,10 @@ public class DelegateTaskFileURIProvider implements TaskFileURIProvider {
         public int getTaskCount() {
             return this.getInt(TASK_COUNT_CONFIG);
         }
+
+        public boolean isListingShardingEnabled() {
+            return this.getBoolean(FS_LISTING_TASK_DELEGATION_SHARDING_ENABLED_CONFIG);
+        }
     }
 
     /**
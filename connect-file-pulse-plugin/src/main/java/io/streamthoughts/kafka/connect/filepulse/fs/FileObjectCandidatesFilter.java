@@ -19,21 +19,23 @@
 package io.streamthoughts.kafka.connect.filepulse.fs;
 
 import io.streamthoughts.kafka.connect.filepulse.config.SourceConnectorConfig;
-import io.streamthoughts.kafka.connect.filepulse.internal.KeyValuePair;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectKey;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Class which is used to determinate if a list of file can be processed.
@@ -64,25 +66,43 @@ public class FileObjectCandidatesFilter {
     }
 
     public Map<FileObjectKey, FileObjectMeta> filter(final Collection<FileObjectMeta> candidates) {
+        return filter(candidates.iterator(), Integer.MAX_VALUE);
+    }
 
-        final List<KeyValuePair<String, FileObjectMeta>> toScheduled = candidates.stream()
-                .map(source -> KeyValuePair.of(offsetPolicy.toPartitionJson(source), source))
-                .filter(kv -> predicate.test(FileObjectKey.of(kv.key)))
-                .collect(Collectors.toList());
-
+    /**
+     * Filters the candidates returned by the given iterator, which is consumed lazily.
+     *
+     * At most {@code maxCandidates} object files are retained, the remaining candidates are not consumed
+     * from the iterator, i.e. they are expected to be listed again during a next cycle.
+     *
+     * @param candidates    the iterator over the candidate object files.
+     * @param maxCandidates the maximum number of object files to retain.
+     * @return              the object files that can be processed, in iteration order.
+     */
+    public Map<FileObjectKey, FileObjectMeta> filter(final Iterator<FileObjectMeta> candidates,
+                                                     final int maxCandidates) {
+        final Map<String, FileObjectMeta> toScheduled = new LinkedHashMap<>();
         // Looking for duplicates in object files, i.e., the OffsetPolicy generates two identical offsets for two files.
-        final Stream<Map.Entry<String, List<KeyValuePair<String, FileObjectMeta>>>> entryStream = toScheduled
-                .stream()
-                .collect(Collectors.groupingBy(kv -> kv.key))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().size() > 1);
+        final Map<String, List<String>> duplicates = new HashMap<>();
+        while (candidates.hasNext()) {
+            final FileObjectMeta source = candidates.next();
+            final String key = offsetPolicy.toPartitionJson(source);
+            if (!predicate.test(FileObjectKey.of(key))) {
+                continue;
+            }
 
-        final Map<String, List<String>> duplicates = entryStream
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().stream().map(m -> m.value.stringURI()).collect(Collectors.toList()))
-                );
+            final FileObjectMeta existing = toScheduled.get(key);
+            if (existing != null) {
+                duplicates.computeIfAbsent(key, k -> new ArrayList<>(List.of(existing.stringURI())))
+                        .add(source.stringURI());
+            } else if (toScheduled.size() < maxCandidates) {
+                toScheduled.put(key, source);
+            } else {
+                LOG.info("Maximum number of candidate object files reached ({}). " +
+                        "Remaining object files will be considered on next listing", maxCandidates);
+                break;
+            }
+        }
 
         if (!duplicates.isEmpty()) {
             final String formatted = duplicates
@@ -100,6 +120,8 @@ public class FileObjectCandidatesFilter {
             return Collections.emptyMap(); // ignore all sources files
         }
 
-        return toScheduled.stream().collect(Collectors.toMap(kv -> FileObjectKey.of(kv.key), kv -> kv.value));
+        final Map<FileObjectKey, FileObjectMeta> results = new LinkedHashMap<>();
+        toScheduled.forEach((key, source) -> results.put(FileObjectKey.of(key), source));
+        return results;
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
+import io.streamthoughts.kafka.connect.filepulse.expression.Expression;
+import io.streamthoughts.kafka.connect.filepulse.expression.StandardEvaluationContext;
+import io.streamthoughts.kafka.connect.filepulse.expression.parser.ExpressionParsers;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import org.apache.kafka.common.config.ConfigException;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The order in which the object files found during a filesystem listing are scheduled.
+ *
+ * When the number of object files to be scheduled exceeds the maximum allowed, the first object files
+ * according to that order are scheduled and the remaining ones are considered on next listings.
+ */
+public enum FileObjectSchedulingOrder {
+
+    /**
+     * Schedules the least recently modified object files first.
+     */
+    OLDEST_FIRST {
+        @Override
+        SortKeyComparator<?> comparator(final String expression) {
+            return new SortKeyComparator<>(
+                    FileObjectMeta::lastModified,
+                    Comparator.nullsLast(Comparator.naturalOrder())
+            );
+        }
+    },
+
+    /**
+     * Schedules the most recently modified object files first.
+     */
+    NEWEST_FIRST {
+        @Override
+        SortKeyComparator<?> comparator(final String expression) {
+            return new SortKeyComparator<>(
+                    FileObjectMeta::lastModified,
+                    Comparator.nullsLast(Comparator.reverseOrder())
+            );
+        }
+    },
+
+    /**
+     * Schedules the smallest object files first.
+     */
+    SMALLEST_FIRST {
+        @Override
+        SortKeyComparator<?> comparator(final String expression) {
+            return new SortKeyComparator<>(
+                    FileObjectMeta::contentLength,
+                    Comparator.nullsLast(Comparator.naturalOrder())
+            );
+        }
+    },
+
+    /**
+     * Schedules the largest object files first.
+     */
+    LARGEST_FIRST {
+        @Override
+        SortKeyComparator<?> comparator(final String expression) {
+            return new SortKeyComparator<>(
+                    FileObjectMeta::contentLength,
+                    Comparator.nullsLast(Comparator.reverseOrder())
+            );
+        }
+    },
+
+    /**
+     * Schedules the object files in the ascending order of the values returned by an expression
+     * evaluated against the object file metadata, e.g. {@code {{ if(starts_with($metadata.name, 'urgent'), 0, 1) }}}.
+     */
+    EXPRESSION {
+        @Override
+        SortKeyComparator<?> comparator(final String expression) {
+            if (expression == null || expression.isBlank()) {
+                throw new ConfigException("An expression must be configured for the scheduling order: " + name());
+            }
+            final Expression parsed = ExpressionParsers.parseExpression(expression);
+            return new SortKeyComparator<>(evaluate(parsed), Comparator.nullsLast(VALUE_ORDER));
+        }
+    };
+
+    private static final Comparator<Object> VALUE_ORDER = (o1, o2) -> {
+        if (o1 instanceof Number && o2 instanceof Number) {
+            return Double.compare(((Number) o1).doubleValue(), ((Number) o2).doubleValue());
+        }
+        return o1.toString().compareTo(o2.toString());
+    };
+
+    /**
+     * Gets the {@link Comparator} used to sort object files according to this order.
+     *
+     * Object files that are equal according to this order are sorted by URI, so that
+     * the object files are always scheduled in a deterministic order.
+     *
+     * @param expression    the expression used to sort object files, only for {@link #EXPRESSION}.
+     * @return              a new {@link Comparator} instance.
+     */
+    public Comparator<FileObjectMeta> newComparator(final String expression) {
+        return comparator(expression);
+    }
+
+    abstract SortKeyComparator<?> comparator(final String expression);
+
+    /**
+     * Gets a {@link Comparator} computing the sort key of each object file only once, e.g. evaluating
+     * the expression of {@link #EXPRESSION} once per object file rather than on each comparison.
+     * The returned {@link Comparator} retains the sort keys, and should only be used for a single sort.
+     *
+     * @param comparator    the {@link Comparator} used to sort object files.
+     * @return              a new {@link Comparator}, or the given one if it is not a scheduling order.
+     */
+    static Comparator<FileObjectMeta> withCachedSortKeys(final Comparator<FileObjectMeta> comparator) {
+        if (comparator instanceof SortKeyComparator) {
+            return ((SortKeyComparator<?>) comparator).withCachedSortKeys();
+        }
+        return comparator;
+    }
+
+    private static Function<FileObjectMeta, Object> evaluate(final Expression expression) {
+        return metadata -> {
+            final Object value = expression.readValue(new StandardEvaluationContext(new MetadataContext(metadata)));
+            return value instanceof TypedValue ? ((TypedValue) value).value() : value;
+        };
+    }
+
+    /**
+     * A {@link Comparator} sorting object files by a sort key computed from the object file metadata,
+     * and then by URI.
+     *
+     * @param <K>   the type of the sort key.
+     */
+    static final class SortKeyComparator<K> implements Comparator<FileObjectMeta> {
+
+        private final Function<FileObjectMeta, K> sortKey;
+
+        private final Comparator<K> keyOrder;
+
+        SortKeyComparator(final Function<FileObjectMeta, K> sortKey, final Comparator<K> keyOrder) {
+            this.sortKey = sortKey;
+            this.keyOrder = keyOrder;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compare(final FileObjectMeta o1, final FileObjectMeta o2) {
+            return compare(o1, sortKey.apply(o1), o2, sortKey.apply(o2));
+        }
+
+        private int compare(final FileObjectMeta o1, final K key1, final FileObjectMeta o2, final K key2) {
+            final int result = keyOrder.compare(key1, key2);
+            return result != 0 ? result : o1.stringURI().compareTo(o2.stringURI());
+        }
+
+        Comparator<FileObjectMeta> withCachedSortKeys() {
+            final Map<FileObjectMeta, K> keys = new IdentityHashMap<>();
+            final Function<FileObjectMeta, K> cachedSortKey = metadata -> {
+                if (!keys.containsKey(metadata)) {
+                    // Sort keys may be null, which Map#computeIfAbsent does not retain.
+                    keys.put(metadata, sortKey.apply(metadata));
+                }
+                return keys.get(metadata);
+            };
+            return (o1, o2) -> compare(o1, cachedSortKey.apply(o1), o2, cachedSortKey.apply(o2));
+        }
+    }
+
+    /**
+     * The root object used for evaluating expressions, i.e. only the scope {@code $metadata} is available.
+     */
+    private static final class MetadataContext {
+
+        private final FileObjectMeta metadata;
+
+        MetadataContext(final FileObjectMeta metadata) {
+            this.metadata = metadata;
+        }
+
+        public FileObjectMeta metadata() {
+            return metadata;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.TaskPartitioner;
+
+/**
+ * The maximum amount of work that can be scheduled to tasks during a single scheduling generation,
+ * i.e. the maximum number of bytes and estimated records of the object files being processed.
+ *
+ * A limit of {@code 0} means that there is no limit.
+ */
+public final class FileSchedulingBudget {
+
+    private static final FileSchedulingBudget UNLIMITED = new FileSchedulingBudget(0, 0, 1, 0);
+
+    private final long maxBytes;
+
+    private final long maxRecords;
+
+    private final long estimatedRecordSize;
+
+    private final long maxBytesPerTask;
+
+    /**
+     * @return a {@link FileSchedulingBudget} without any limit.
+     */
+    public static FileSchedulingBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Creates a new {@link FileSchedulingBudget} instance.
+     *
+     * @param maxBytes              the maximum number of bytes of the object files being processed.
+     * @param maxRecords            the maximum number of estimated records of the object files being processed.
+     * @param estimatedRecordSize   the estimated size in bytes of a record, used to estimate the records of a file.
+     * @param maxBytesPerTask       the maximum number of bytes of the object files being processed by a single task.
+     */
+    public FileSchedulingBudget(final long maxBytes,
+                                final long maxRecords,
+                                final long estimatedRecordSize,
+                                final long maxBytesPerTask) {
+        if (maxBytes < 0 || maxRecords < 0 || maxBytesPerTask < 0) {
+            throw new IllegalArgumentException("Scheduling budget limits must be positive or zero");
+        }
+        if (estimatedRecordSize <= 0) {
+            throw new IllegalArgumentException("Estimated record size must be positive: " + estimatedRecordSize);
+        }
+        this.maxBytes = maxBytes;
+        this.maxRecords = maxRecords;
+        this.estimatedRecordSize = estimatedRecordSize;
+        this.maxBytesPerTask = maxBytesPerTask;
+    }
+
+    /**
+     * @return {@code true} if this budget has no limit.
+     */
+    public boolean isUnlimited() {
+        return maxBytes == 0 && maxRecords == 0 && maxBytesPerTask == 0;
+    }
+
+    /**
+     * Gets the maximum number of bytes that can be scheduled to the given number of tasks.
+     *
+     * @param taskCount the number of tasks, or {@code 0} if unknown.
+     * @return          the maximum number of bytes, or {@link Long#MAX_VALUE} if there is no limit.
+     */
+    public long maxBytes(final int taskCount) {
+        long limit = maxBytes == 0 ? Long.MAX_VALUE : maxBytes;
+        if (maxBytesPerTask > 0 && taskCount > 0 && maxBytesPerTask <= Long.MAX_VALUE / taskCount) {
+            limit = Math.min(limit, maxBytesPerTask * taskCount);
+        }
+        return limit;
+    }
+
+    /**
+     * @return the maximum number of estimated records, or {@link Long#MAX_VALUE} if there is no limit.
+     */
+    public long maxRecords() {
+        return maxRecords == 0 ? Long.MAX_VALUE : maxRecords;
+    }
+
+    /**
+     * @return the maximum number of bytes per task, or {@code 0} if there is no limit.
+     */
+    public long maxBytesPerTask() {
+        return maxBytesPerTask;
+    }
+
+    /**
+     * Estimates the number of records of the given object file from its size.
+     *
+     * @param object    the object file.
+     * @return          the estimated number of records, at least {@code 1}.
+     */
+    public long estimateRecords(final FileObjectMeta object) {
+        return Math.max(1, (TaskPartitioner.bytesOf(object) + estimatedRecordSize - 1) / estimatedRecordSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "maxBytes=" + maxBytes +
+                ", maxRecords=" + maxRecords +
+                ", estimatedRecordSize=" + estimatedRecordSize +
+                ", maxBytesPerTask=" + maxBytesPerTask +
+                ']';
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObject;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectStatus;
+import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
+import io.streamthoughts.kafka.connect.filepulse.state.FileAssignment;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
+import org.apache.kafka.common.utils.Time;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The {@code WorkQueueCoordinator} distributes object files to running tasks without reconfiguring them.
+ *
+ * <p>
+ * Object files found by the connector are queued, and then assigned to the task that has the fewest
+ * object files in progress, up to a maximum number of in-flight object files per task. Assignments are
+ * published into a {@link StateBackingStore} which is consumed by tasks (see {@link WorkQueueTaskFileURIProvider}).
+ * When a task completes an object file, its assignment is released, and more object files can be assigned to it.
+ * </p>
+ *
+ * <p>
+ * An assignment is leased: if the task has not acknowledged the object file before the lease expires,
+ * or if the task no longer exists, the object file is assigned to another task. An object file is acknowledged
+ * as soon as the task reports it as scheduled, because the task cannot give back an object file once queued.
+ * </p>
+ */
+public class WorkQueueCoordinator implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkQueueCoordinator.class);
+
+    private static final Duration DEFAULT_READ_END_LOG_TIMEOUT = Duration.ofSeconds(5);
+
+    private final StateBackingStore<FileAssignment> assignments;
+
+    private final SourceOffsetPolicy offsetPolicy;
+
+    private final int maxInFlightFilesPerTask;
+
+    private final long leaseMs;
+
+    private final Time time;
+
+    // List of files to be assigned, in the order they have been found.
+    private final Map<String, FileObjectMeta> pending = new LinkedHashMap<>();
+
+    private volatile int taskCount = 0;
+
+    private volatile Runnable releaseListener;
+
+    /**
+     * Creates a new {@link WorkQueueCoordinator} instance.
+     *
+     * @param assignments               the {@link StateBackingStore} used to publish assignments.
+     * @param offsetPolicy              the {@link SourceOffsetPolicy} used to compute object file keys.
+     * @param maxInFlightFilesPerTask   the maximum number of object files assigned to a task and not completed.
+     * @param leaseMs                   the time for a task to start processing an assigned object file.
+     * @param time                      the {@link Time} instance.
+     */
+    public WorkQueueCoordinator(final StateBackingStore<FileAssignment> assignments,
+                                final SourceOffsetPolicy offsetPolicy,
+                                final int maxInFlightFilesPerTask,
+                                final long leaseMs,
+                                final Time time) {
+        this.assignments = Objects.requireNonNull(assignments, "assignments can't be null");
+        this.offsetPolicy = Objects.requireNonNull(offsetPolicy, "offsetPolicy can't be null");
+        this.maxInFlightFilesPerTask = maxInFlightFilesPerTask;
+        this.leaseMs = leaseMs;
+        this.time = Objects.requireNonNull(time, "time can't be null");
+        if (!assignments.isStarted()) {
+            assignments.start();
+        }
+    }
+
+    /**
+     * Sets the number of tasks to which object files can be assigned.
+     *
+     * @param taskCount the total number of tasks.
+     */
+    public void setTaskCount(final int taskCount) {
+        LOG.info("Assigning object files to {} tasks", taskCount);
+        this.taskCount = taskCount;
+    }
+
+    /**
+     * Sets the listener to be notified when an object file is completed while object files are waiting
+     * to be assigned, i.e. when more object files can be assigned.
+     *
+     * @param listener  the {@link Runnable} to invoke.
+     */
+    public void setReleaseListener(final Runnable listener) {
+        this.releaseListener = listener;
+    }
+
+    /**
+     * Adds the given object files to the queue of object files to be assigned.
+     *
+     * @param files the object files.
+     */
+    public synchronized void offer(final Collection<FileObjectMeta> files) {
+        files.forEach(file -> pending.putIfAbsent(offsetPolicy.toPartitionJson(file), file));
+    }
+
+    /**
+     * @return {@code true} if some object files are waiting to be assigned.
+     */
+    public synchronized boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Notifies that the state of an object file has changed.
+     *
+     * @param status    the new status of the object file.
+     */
+    void onStateUpdate(final FileObjectStatus status) {
+        final Runnable listener = releaseListener;
+        if (status.isDone() && listener != null && hasPending()) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Releases the assignments of completed object files, re-queues the assignments that are orphaned or expired,
+     * and assigns queued object files to the tasks with the fewest object files in progress.
+     *
+     * @param states    the current states of object files.
+     * @return          the number of object files newly assigned.
+     */
+    public synchronized int assign(final StateSnapshot<FileObject> states) {
+        final int tasks = taskCount;
+        if (tasks <= 0) {
+            LOG.debug("Skip object files assignment. No task configured yet.");
+            return 0;
+        }
+
+        try {
+            // Make sure that the assignments published during the previous call are visible.
+            assignments.refresh(DEFAULT_READ_END_LOG_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOG.warn("Failed to read assignments to end of log. Skip object files assignment.");
+            return 0;
+        }
+
+        final long now = time.milliseconds();
+        final int[] inFlight = new int[tasks];
+        // Tasks which did not start an assigned object file before the lease expired.
+        final Map<String, Integer> expired = new HashMap<>();
+        releaseAssignments(states, now, inFlight, expired);
+
+        int assigned = 0;
+        final Iterator<Map.Entry<String, FileObjectMeta>> it = pending.entrySet().iterator();
+        while (it.hasNext() && inFlight[leastLoaded(inFlight, -1)] < maxInFlightFilesPerTask) {
+            final Map.Entry<String, FileObjectMeta> next = it.next();
+            final int taskId = leastLoaded(inFlight, expired.getOrDefault(next.getKey(), -1));
+            final FileObjectMeta file = next.getValue();
+            final Long contentLength = file.contentLength();
+            assignments.putAsync(next.getKey(), new FileAssignment(
+                    file.stringURI(),
+                    taskId,
+                    contentLength == null ? -1 : contentLength,
+                    now + leaseMs
+            ));
+            inFlight[taskId]++;
+            assigned++;
+            it.remove();
+        }
+        LOG.info("Assigned {} object files to tasks, {} object files waiting to be assigned", assigned, pending.size());
+        return assigned;
+    }
+
+    private void releaseAssignments(final StateSnapshot<FileObject> states,
+                                    final long now,
+                                    final int[] inFlight,
+                                    final Map<String, Integer> expired) {
+        final int tasks = inFlight.length;
+        final Map<String, FileObjectMeta> requeued = new LinkedHashMap<>();
+        for (Map.Entry<String, FileAssignment> entry : assignments.snapshot().states().entrySet()) {
+            final String key = entry.getKey();
+            final FileAssignment assignment = entry.getValue();
+            final FileObject state = states.getForKey(key);
+            if (state != null && state.status().isDone()) {
+                assignments.removeAsync(key);
+            } else if (assignment.taskId() >= tasks || (!isStarted(state) && assignment.leaseExpiresAt() <= now)) {
+                LOG.info("Re-assigning orphaned or expired object file assignment: {}", assignment);
+                requeued.put(key, toObjectMeta(assignment));
+                if (assignment.taskId() < tasks) {
+                    expired.put(key, assignment.taskId());
+                }
+            } else {
+                inFlight[assignment.taskId()]++;
+                pending.remove(key);
+            }
+        }
+        // Object files may have been completed while being listed again, they must not be re-assigned.
+        pending.keySet().removeIf(key -> {
+            final FileObject state = states.getForKey(key);
+            return state != null && state.status().isDone();
+        });
+        // Re-assigned object files should be processed first.
+        requeued.putAll(pending);
+        pending.clear();
+        pending.putAll(requeued);
+    }
+
+    private static boolean isStarted(final FileObject state) {
+        return state != null && state.status().isOneOf(
+                FileObjectStatus.SCHEDULED,
+                FileObjectStatus.STARTED,
+                FileObjectStatus.READING,
+                FileObjectStatus.COMPLETED
+        );
+    }
+
+    private int leastLoaded(final int[] inFlight, final int excluded) {
+        int selected = -1;
+        for (int taskId = 0; taskId < inFlight.length; taskId++) {
+            if (taskId == excluded && inFlight.length > 1) {
+                continue;
+            }
+            if (selected < 0 || inFlight[taskId] < inFlight[selected]) {
+                selected = taskId;
+            }
+        }
+        // The excluded task is only selected if no other task can be assigned more object files.
+        if (excluded >= 0 && inFlight[selected] >= maxInFlightFilesPerTask) {
+            return excluded;
+        }
+        return selected;
+    }
+
+    private static FileObjectMeta toObjectMeta(final FileAssignment assignment) {
+        final GenericFileObjectMeta.Builder builder = new GenericFileObjectMeta.Builder()
+                .withUri(URI.create(assignment.uri()));
+        if (assignment.contentLength() >= 0) {
+            builder.withContentLength(assignment.contentLength());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Closes the {@link StateBackingStore} used to publish assignments.
+     */
+    @Override
+    public void close() {
+        assignments.stop();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.annotation.VisibleForTesting;
+import io.streamthoughts.kafka.connect.filepulse.state.FileAssignment;
+import io.streamthoughts.kafka.connect.filepulse.state.FileAssignmentStores;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The {@code WorkQueueTaskFileURIProvider} returns the object files assigned to the task by the connector
+ * in work-queue mode (see {@link WorkQueueCoordinator}), so that the task can process new object files
+ * without being reconfigured.
+ */
+public class WorkQueueTaskFileURIProvider implements TaskFileURIProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkQueueTaskFileURIProvider.class);
+
+    private static final Duration DEFAULT_REFRESH_TIMEOUT = Duration.ofSeconds(30);
+
+    private StateBackingStore<FileAssignment> assignments;
+
+    private int taskId;
+
+    // Keys of the assigned object files already returned by this provider.
+    private final Set<String> returned = new HashSet<>();
+
+    /**
+     * Creates a new {@link WorkQueueTaskFileURIProvider} instance.
+     */
+    public WorkQueueTaskFileURIProvider() {
+    }
+
+    @VisibleForTesting
+    WorkQueueTaskFileURIProvider(final StateBackingStore<FileAssignment> assignments, final int taskId) {
+        this.assignments = assignments;
+        this.taskId = taskId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        taskId = new Config(configs).getTaskId();
+        assignments = FileAssignmentStores.newKafkaStore(configs);
+        assignments.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<URI> nextURIs() {
+        try {
+            assignments.refresh(DEFAULT_REFRESH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOG.debug("Failed to reach end of assignments log quickly enough", e);
+        }
+
+        final List<URI> uris = new ArrayList<>();
+        final Set<String> owned = new HashSet<>();
+        assignments.snapshot().states().forEach((key, assignment) -> {
+            if (assignment.taskId() == taskId) {
+                owned.add(key);
+                if (returned.add(key)) {
+                    uris.add(URI.create(assignment.uri()));
+                }
+            }
+        });
+        // Assignments are removed by the connector once the object files are completed.
+        returned.retainAll(owned);
+        if (!uris.isEmpty()) {
+            LOG.info("Retrieved {} new object files assigned to task {}", uris.size(), taskId);
+        }
+        return uris;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasMore() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (assignments != null) {
+            assignments.stop();
+        }
+    }
+
+    public static final class Config extends AbstractConfig {
+
+        /**
+         * Creates a new {@link Config} instance.
+         *
+         * @param originals the original configs.
+         */
+        public Config(final Map<String, ?> originals) {
+            super(getConf(), originals, false);
+        }
+
+        static ConfigDef getConf() {
+            return new ConfigDef()
+                    .define(
+                            DelegateTaskFileURIProvider.Config.TASK_ID_CONFIG,
+                            ConfigDef.Type.INT,
+                            ConfigDef.Importance.HIGH,
+                            "The current task id"
+                    );
+        }
+
+        public int getTaskId() {
+            return this.getInt(DelegateTaskFileURIProvider.Config.TASK_ID_CONFIG);
+        }
+    }
+}
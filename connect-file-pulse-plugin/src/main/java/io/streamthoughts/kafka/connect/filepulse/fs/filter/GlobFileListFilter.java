@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.filter;
+
+import io.streamthoughts.kafka.connect.filepulse.fs.PredicateFileListFilter;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A {@code GlobFileListFilter} accepts the files whose name matches a glob pattern.
+ *
+ * <p>
+ * The {@code *} and {@code ?} wildcards match any characters, respectively a single character, except the
+ * {@code /} character. The {@code **} wildcard matches any characters. Bracket expressions (e.g. {@code [a-z]}
+ * or {@code [!0-9]}) and groups of sub-patterns (e.g. {@code {csv,json}}) are supported.
+ * </p>
+ */
+public class GlobFileListFilter extends PredicateFileListFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GlobFileListFilter.class);
+
+    private static final String DELIMITER = "/";
+
+    // The characters starting a non-literal part of a glob.
+    private static final String WILDCARDS = "*?[{";
+
+    public static final String FILE_FILTER_GLOB_PATTERN_CONFIG = "file.filter.glob.pattern";
+    private static final String FILE_FILTER_GLOB_PATTERN_DOC    = "The glob pattern used to matches input files";
+
+    private Pattern pattern;
+
+    private String listingPrefix = "";
+
+    private String listingDelimiter;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Map<String, ?> config) {
+        AbstractConfig abstractConfig = new AbstractConfig(getConfigDef(), config, false);
+        String glob = abstractConfig.getString(FILE_FILTER_GLOB_PATTERN_CONFIG);
+        if (glob == null) {
+            throw new ConfigException("missing configuration: " + FILE_FILTER_GLOB_PATTERN_CONFIG);
+        }
+        this.pattern = Pattern.compile(toRegex(glob));
+
+        final int literalLength = literalPrefixLength(glob);
+        this.listingPrefix = unescape(glob.substring(0, literalLength));
+        final String remaining = glob.substring(literalLength);
+        // Only '**' and explicit '/' characters can match the delimiter.
+        this.listingDelimiter = remaining.contains(DELIMITER) || remaining.contains("**") ? null : DELIMITER;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean test(final FileObjectMeta meta) {
+        if (meta == null) return false;
+
+        boolean matched = pattern.matcher(meta.name()).matches();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Matching input file name {} to glob {}, matched = {}", meta.name(), pattern, matched);
+        }
+        return matched;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Metadata> requiredMetadata() {
+        return EnumSet.of(Metadata.NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String listingPrefix() {
+        return listingPrefix;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String listingDelimiter() {
+        return listingDelimiter;
+    }
+
+    /**
+     * Converts the given glob pattern to a regex.
+     *
+     * @param glob  the glob pattern.
+     * @return      the regex.
+     */
+    static String toRegex(final String glob) {
+        final StringBuilder regex = new StringBuilder();
+        boolean inGroup = false;
+        int i = 0;
+        while (i < glob.length()) {
+            final char c = glob.charAt(i++);
+            switch (c) {
+                case '*':
+                    if (i < glob.length() && glob.charAt(i) == '*') {
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                    break;
+                case '?':
+                    regex.append("[^/]");
+                    break;
+                case '[':
+                    i = appendBracketExpression(glob, i, regex);
+                    break;
+                case '{':
+                    regex.append("(?:");
+                    inGroup = true;
+                    break;
+                case '}':
+                    regex.append(inGroup ? ")" : "\\}");
+                    inGroup = false;
+                    break;
+                case ',':
+                    regex.append(inGroup ? "|" : ",");
+                    break;
+                case '\\':
+                    if (i < glob.length()) {
+                        appendLiteral(glob.charAt(i++), regex);
+                    } else {
+                        appendLiteral(c, regex);
+                    }
+                    break;
+                default:
+                    appendLiteral(c, regex);
+            }
+        }
+        return regex.toString();
+    }
+
+    private static int appendBracketExpression(final String glob, final int start, final StringBuilder regex) {
+        final int end = glob.indexOf(']', start + 1);
+        if (end < 0) {
+            appendLiteral('[', regex);
+            return start;
+        }
+        regex.append('[');
+        int i = start;
+        if (glob.charAt(i) == '!') {
+            regex.append('^');
+            i++;
+        }
+        for (; i < end; i++) {
+            final char c = glob.charAt(i);
+            if (c == '\\' || c == '[' || c == '&' || c == '^') {
+                regex.append('\\');
+            }
+            regex.append(c);
+        }
+        regex.append(']');
+        return end + 1;
+    }
+
+    private static void appendLiteral(final char c, final StringBuilder regex) {
+        if (!Character.isLetterOrDigit(c)) {
+            regex.append('\\');
+        }
+        regex.append(c);
+    }
+
+    private static int literalPrefixLength(final String glob) {
+        int i = 0;
+        while (i < glob.length() && WILDCARDS.indexOf(glob.charAt(i)) < 0) {
+            i += glob.charAt(i) == '\\' ? 2 : 1;
+        }
+        return Math.min(i, glob.length());
+    }
+
+    private static String unescape(final String literal) {
+        final StringBuilder unescaped = new StringBuilder();
+        for (int i = 0; i < literal.length(); i++) {
+            final char c = literal.charAt(i);
+            if (c == '\\' && i + 1 < literal.length()) {
+                unescaped.append(literal.charAt(++i));
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+
+    private static ConfigDef getConfigDef() {
+        return new ConfigDef()
+                .define(FILE_FILTER_GLOB_PATTERN_CONFIG, ConfigDef.Type.STRING, ConfigDef.Importance.HIGH,
+                        FILE_FILTER_GLOB_PATTERN_DOC);
+    }
+}
@@ -25,7 +25,9 @@ import org.apache.kafka.common.config.ConfigDef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 /**
@@ -90,6 +92,14 @@ public class LastModifiedFileListFilter extends PredicateFileListFilter {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Metadata> requiredMetadata() {
+        return EnumSet.of(Metadata.LAST_MODIFIED);
+    }
+
     private static ConfigDef getConfigDef() {
         int groupCounter = 0;
         return new ConfigDef()
@@ -26,7 +26,9 @@ import org.apache.kafka.common.config.ConfigException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -39,8 +41,16 @@ public class RegexFileListFilter extends PredicateFileListFilter {
     private static final String FILE_FILTER_REGEX_PATTERN_CONFIG = "file.filter.regex.pattern";
     private static final String FILE_FILTER_REGEX_PATTERN_DOC    = "The regex pattern used to matches input files";
 
+    // The characters that have a special meaning in a regex, outside of a character class.
+    private static final String METACHARACTERS = ".[]{}()*+?^$|";
+
+    // The characters following a literal which make it optional or repeated.
+    private static final String QUANTIFIERS = "?*+{";
+
     private Pattern pattern;
 
+    private String listingPrefix = "";
+
     /**
      * {@inheritDoc}
      */
@@ -56,6 +66,66 @@ public class RegexFileListFilter extends PredicateFileListFilter {
 
     private void setPattern(String pattern) {
         this.pattern = Pattern.compile(pattern);
+        this.listingPrefix = literalPrefix(pattern);
+    }
+
+    /**
+     * Extracts the literal prefix of a regex, i.e. the characters that all matching strings start with.
+     * The extraction is conservative and stops at the first construct that is not a plain literal.
+     *
+     * @param regex the regex.
+     * @return      the literal prefix, or an empty string.
+     */
+    static String literalPrefix(final String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            return "";
+        }
+        final StringBuilder prefix = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            final char literal;
+            if (c == '\\') {
+                // e.g. '\d', '\Q' or back-references are not literals.
+                if (i + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(i + 1))) {
+                    break;
+                }
+                literal = regex.charAt(i + 1);
+                i += 2;
+            } else if (METACHARACTERS.indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = c;
+                i++;
+            }
+            if (i < regex.length() && QUANTIFIERS.indexOf(regex.charAt(i)) >= 0) {
+                break;
+            }
+            prefix.append(literal);
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(final String regex) {
+        int depth = 0;
+        boolean inCharacterClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inCharacterClass) {
+                inCharacterClass = c != ']';
+            } else if (c == '[') {
+                inCharacterClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -73,6 +143,22 @@ public class RegexFileListFilter extends PredicateFileListFilter {
         return matched;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Metadata> requiredMetadata() {
+        return EnumSet.of(Metadata.NAME);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String listingPrefix() {
+        return listingPrefix;
+    }
+
     private static ConfigDef getConfigDef() {
         return new ConfigDef()
                 .define(FILE_FILTER_REGEX_PATTERN_CONFIG, ConfigDef.Type.STRING, ConfigDef.Importance.HIGH,
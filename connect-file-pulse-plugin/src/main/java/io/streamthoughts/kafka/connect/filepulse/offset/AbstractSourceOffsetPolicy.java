@@ -23,7 +23,10 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
 import org.apache.kafka.connect.source.SourceTaskContext;
+import org.apache.kafka.connect.storage.OffsetStorageReader;
 
+import java.net.URI;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -46,6 +49,39 @@ public abstract class AbstractSourceOffsetPolicy implements SourceOffsetPolicy {
 
         final Map<String, Object> offset = context.offsetStorageReader().offset(partition);
 
+        return toFileObjectOffset(offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * All positions are retrieved using a single call to the {@link OffsetStorageReader}.
+     */
+    @Override
+    public Map<URI, FileObjectOffset> getOffsetsFor(final SourceTaskContext context,
+                                                    final Collection<FileObjectMeta> sources) {
+        final Map<Map<String, Object>, URI> partitions = new HashMap<>();
+        for (FileObjectMeta source : sources) {
+            partitions.put(toPartitionMap(source), source.uri());
+        }
+
+        final Map<Map<String, Object>, Map<String, Object>> offsets = context
+                .offsetStorageReader()
+                .offsets(partitions.keySet());
+
+        final Map<URI, FileObjectOffset> result = new HashMap<>();
+        if (offsets != null) {
+            offsets.forEach((partition, offset) -> {
+                final URI uri = partitions.get(partition);
+                if (uri != null) {
+                    toFileObjectOffset(offset).ifPresent(o -> result.put(uri, o));
+                }
+            });
+        }
+        return result;
+    }
+
+    private Optional<FileObjectOffset> toFileObjectOffset(final Map<String, Object> offset) {
         Object offsetBytes = (offset != null) ? offset.get(POSITION_OFFSET_FIELD) : null;
         Object rows        = (offset != null) ? offset.get(POSITION_ROWS_FIELD) : null;
         Object timestamp   = (offset != null) ? offset.get(POSITION_TIMESTAMP_FIELD) : null;
@@ -20,12 +20,14 @@ package io.streamthoughts.kafka.connect.filepulse.offset;
 
 import io.streamthoughts.kafka.connect.filepulse.annotation.VisibleForTesting;
 import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter.Metadata;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -33,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import static io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta.SYSTEM_FILE_INODE_META_KEY;
@@ -57,6 +60,7 @@ public class DefaultSourceOffsetPolicy extends AbstractSourceOffsetPolicy {
                 new GenericOffsetPolicy(
                         FILENAME_FIELD,
                         priority++,
+                        EnumSet.of(Metadata.NAME),
                         FileObjectMeta::name
                 )
         );
@@ -65,6 +69,7 @@ public class DefaultSourceOffsetPolicy extends AbstractSourceOffsetPolicy {
                 new GenericOffsetPolicy(
                         FILEPATH_FIELD,
                         priority++,
+                        EnumSet.noneOf(Metadata.class),
                         objectMeta -> new File(objectMeta.uri()).getParentFile().getAbsolutePath()
                 )
         );
@@ -73,6 +78,7 @@ public class DefaultSourceOffsetPolicy extends AbstractSourceOffsetPolicy {
                 new GenericOffsetPolicy(
                         HASH_FIELD,
                         priority++,
+                        EnumSet.of(Metadata.CONTENT_DIGEST),
                         objectMeta -> {
                             return Optional.ofNullable(objectMeta.contentDigest())
                                     .map(FileObjectMeta.ContentDigest::digest)
@@ -87,6 +93,7 @@ public class DefaultSourceOffsetPolicy extends AbstractSourceOffsetPolicy {
                 new GenericOffsetPolicy(
                         MODIFIED_FIELD,
                         priority++,
+                        EnumSet.of(Metadata.LAST_MODIFIED),
                         objectMeta -> {
                             return Optional.ofNullable(objectMeta.lastModified())
                                     .orElseThrow(() -> new IllegalArgumentException(
@@ -100,6 +107,7 @@ public class DefaultSourceOffsetPolicy extends AbstractSourceOffsetPolicy {
                 new GenericOffsetPolicy(
                         URI_FIELD,
                         priority++,
+                        EnumSet.noneOf(Metadata.class),
                         FileObjectMeta::stringURI
                 )
         );
@@ -108,6 +116,7 @@ public class DefaultSourceOffsetPolicy extends AbstractSourceOffsetPolicy {
                 new GenericOffsetPolicy(
                         INODE_FIELD,
                         priority++,
+                        EnumSet.of(Metadata.USER_DEFINED_METADATA),
                         source -> Optional
                             .ofNullable(source.userDefinedMetadata().get(SYSTEM_FILE_INODE_META_KEY).toString())
                             .orElseThrow(() -> {
@@ -183,18 +192,31 @@ public class DefaultSourceOffsetPolicy extends AbstractSourceOffsetPolicy {
         return offset;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Metadata> requiredMetadata() {
+        final Set<Metadata> required = EnumSet.noneOf(Metadata.class);
+        policies.forEach(policy -> required.addAll(policy.requiredMetadata));
+        return required;
+    }
+
     static final class GenericOffsetPolicy implements Comparable<GenericOffsetPolicy> {
 
         final String name;
         final Function<FileObjectMeta, Object> offsetFunction;
         final int priority;
+        final Set<Metadata> requiredMetadata;
 
         GenericOffsetPolicy(final String name,
                             final int priority,
+                            final Set<Metadata> requiredMetadata,
                             final Function<FileObjectMeta, Object> offsetFunction) {
             this.name = Objects.requireNonNull(name, "name cannot be null");
             this.offsetFunction = Objects.requireNonNull(offsetFunction, "offsetFunction cannot be null");
             this.priority = priority;
+            this.requiredMetadata = Objects.requireNonNull(requiredMetadata, "requiredMetadata cannot be null");
         }
 
         void addAttributeToPartitionMap(final FileObjectMeta objectMeta,
@@ -30,10 +30,18 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * This class is not thread-safe and is attended to be used only by one Source Connect Task.
@@ -50,6 +58,11 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     private StateListener listener;
     private final SourceTaskContext taskContext;
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final FileRecordsPrefetcher prefetcher;
+    private final FileLookAhead lookAhead;
+    // The committed offsets of scheduled files, loaded in bulk when files are added.
+    private final Map<FileObjectKey, FileObjectOffset> committedOffsets = new ConcurrentHashMap<>();
+    private final List<DefaultFileRecordsPollingConsumer> concurrentConsumers = new ArrayList<>();
 
     private FileRecord<TypedStruct> latestPolledRecord;
 
@@ -69,19 +82,100 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                                       final RecordFilterPipeline<FileRecord<TypedStruct>> pipeline,
                                       final SourceOffsetPolicy offsetPolicy,
                                       final boolean ignoreCommittedOffsets) {
+        this(
+            taskContext,
+            reader,
+            () -> pipeline,
+            offsetPolicy,
+            ignoreCommittedOffsets,
+            FileRecordsPollingOptions.DEFAULT
+        );
+    }
+
+    /**
+     * Creates a new {@link DefaultFileRecordsPollingConsumer} instance.
+     *
+     * <p>
+     * If the pipelined mode is enabled, records are read and filtered by background threads, and the {@link #next()}
+     * method only drains the buffered batches of records. In addition, if more than one file can be read concurrently,
+     * each background thread reads files using its own filter pipeline.
+     * </p>
+     * <p>
+     * If look-ahead is enabled, the next queued files are asynchronously opened while the current one is read.
+     * </p>
+     *
+     * @param taskContext            the current task context.
+     * @param reader                 the reader to be used.
+     * @param pipelineSupplier       the supplier of filter pipeline to apply on each records.
+     * @param offsetPolicy           the source offset/partition policy.
+     * @param ignoreCommittedOffsets flag to indicate if committed offsets should be ignored.
+     * @param options                the {@link FileRecordsPollingOptions}.
+     */
+    DefaultFileRecordsPollingConsumer(final SourceTaskContext taskContext,
+                                      final FileInputReader reader,
+                                      final Supplier<RecordFilterPipeline<FileRecord<TypedStruct>>> pipelineSupplier,
+                                      final SourceOffsetPolicy offsetPolicy,
+                                      final boolean ignoreCommittedOffsets,
+                                      final FileRecordsPollingOptions options) {
         this.queue = new LinkedBlockingQueue<>();
         this.ignoreCommittedOffsets = ignoreCommittedOffsets;
         this.reader = reader;
-        this.pipeline = pipeline;
         this.offsetPolicy = offsetPolicy;
         this.taskContext = taskContext;
+        // Concurrent consumers already open files in parallel.
+        this.lookAhead = options.lookAheadFiles() > 0 && options.maxConcurrentFiles() <= 1
+            ? new FileLookAhead(options.lookAheadFiles(), this::prepareFile)
+            : null;
+
+        if (!options.isPipelined()) {
+            this.pipeline = pipelineSupplier.get();
+            this.prefetcher = null;
+            return;
+        }
+
+        final List<FileRecordsPrefetcher.Lane> lanes = new ArrayList<>();
+        if (options.maxConcurrentFiles() > 1) {
+            // Files are read by concurrent consumers, each one using its own filter pipeline.
+            this.pipeline = null;
+            for (int i = 0; i < options.maxConcurrentFiles(); i++) {
+                final DefaultFileRecordsPollingConsumer consumer = new DefaultFileRecordsPollingConsumer(
+                    taskContext,
+                    reader,
+                    pipelineSupplier.get(),
+                    offsetPolicy,
+                    ignoreCommittedOffsets
+                );
+                concurrentConsumers.add(consumer);
+                lanes.add(new ConcurrentLane(consumer));
+            }
+        } else {
+            this.pipeline = pipelineSupplier.get();
+            lanes.add(new FileRecordsPrefetcher.Lane() {
+                @Override
+                public boolean hasNext() {
+                    return !queue.isEmpty();
+                }
+
+                @Override
+                public FileRecordsPrefetcher.Batch read() {
+                    return readNextBatch();
+                }
+            });
+        }
+        this.prefetcher = new FileRecordsPrefetcher(
+            lanes,
+            options.maxBufferedBatches(),
+            options.emptyPollWaitMs()
+        );
+        concurrentConsumers.forEach(consumer -> consumer.setStateListener(prefetcher));
+        this.prefetcher.start();
     }
 
     void addAll(final List<URI> files) {
         if (isClosed()) {
             throw new IllegalStateException("Can't add new input files, consumer is closed");
         }
-        final List<DelegateFileInputIterator> iterables = new ArrayList<>(files.size());
+        final Map<URI, FileContext> scheduled = new LinkedHashMap<>(files.size());
         for (final URI uri : files) {
             if (reader.canBeRead(uri)) {
 
@@ -98,10 +192,7 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                     );
                 }
 
-                iterables.add(new DelegateFileInputIterator(key, uri, reader));
-                if (hasListener()){
-                    listener.onScheduled(new FileContext(key, objectMeta));
-                }
+                scheduled.put(uri, new FileContext(key, objectMeta));
             // Else, object-file does NOT exist or is not readable.
             } else {
                 try {
@@ -121,14 +212,80 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 }
             }
         }
+
+        final Map<URI, FileObjectOffset> offsets = getCommittedOffsets(scheduled.values());
+
+        final List<DelegateFileInputIterator> iterables = new ArrayList<>(scheduled.size());
+        for (final Map.Entry<URI, FileContext> entry : scheduled.entrySet()) {
+            final URI uri = entry.getKey();
+            final FileContext context = entry.getValue();
+            if (hasListener()){
+                listener.onScheduled(context);
+            }
+
+            final FileObjectOffset offset = offsets.get(uri);
+            if (offset != null && isAlreadyCompleted(offset, context.metadata())) {
+                LOG.info("Detected object-file already completed. Skip entry and continue '{}'", uri);
+                if (hasListener()) {
+                    listener.onCompleted(new FileContext(context.key(), context.metadata(), offset));
+                }
+                continue;
+            }
+            if (offset != null) {
+                committedOffsets.put(context.key(), offset);
+            }
+            iterables.add(new DelegateFileInputIterator(context.key(), uri, reader));
+        }
+        if (isPipelined()) {
+            prefetcher.onFilesAdded(iterables.size());
+        }
         queue.addAll(iterables);
     }
 
+    /**
+     * Retrieves the committed offsets of all the given files using a single lookup.
+     * Files for which no offset is returned are considered to have no committed offset.
+     *
+     * @param files the files to be scheduled.
+     * @return the committed {@link FileObjectOffset}s keyed by file URIs.
+     */
+    private Map<URI, FileObjectOffset> getCommittedOffsets(final Collection<FileContext> files) {
+        if (ignoreCommittedOffsets || files.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final List<FileObjectMeta> metadata = files.stream().map(FileContext::metadata).collect(Collectors.toList());
+        try {
+            final Map<URI, FileObjectOffset> offsets = new HashMap<>(offsetPolicy.getOffsetsFor(taskContext, metadata));
+            // Cache an empty offset for files without committed offset to avoid looking them up again.
+            metadata.forEach(meta -> offsets.putIfAbsent(meta.uri(), FileObjectOffset.empty()));
+            return offsets;
+        } catch (final Exception e) {
+            LOG.warn(
+                "Failed to load committed offsets for {} object files. " +
+                "Offsets will be loaded while opening each file. Error: {}",
+                files.size(),
+                e.getMessage()
+            );
+            return Collections.emptyMap();
+        }
+    }
+
+    private static boolean isAlreadyCompleted(final FileObjectOffset offset, final FileObjectMeta metadata) {
+        return metadata.contentLength() != null && offset.position() >= metadata.contentLength();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public FileContext context() {
+        if (isPipelined()) {
+            return prefetcher.context();
+        }
+        return currentContext();
+    }
+
+    private FileContext currentContext() {
         if (currentIterator != null) {
             FileContext context = currentIterator.context();
             if (latestPolledRecord != null) {
@@ -159,7 +316,36 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
             throw new IllegalStateException("FileRecordsPollingConsumer is closed, no more element can be returned");
         }
 
-        if (!hasNext())
+        if (isPipelined()) {
+            return prefetcher.next();
+        }
+        return readNext();
+    }
+
+    /**
+     * Returns the next records that are immediately available. Contrary to {@link #next()},
+     * this method never waits for records to be read by a background thread when pipelined mode is enabled.
+     *
+     * @return the next records, or an empty {@link RecordsIterable} if none is available.
+     */
+    RecordsIterable<FileRecord<TypedStruct>> nextIfAvailable() {
+        if (isClosed()) {
+            throw new IllegalStateException("FileRecordsPollingConsumer is closed, no more element can be returned");
+        }
+
+        if (isPipelined()) {
+            return prefetcher.next(0L);
+        }
+        return readNext();
+    }
+
+    private FileRecordsPrefetcher.Batch readNextBatch() {
+        final RecordsIterable<FileRecord<TypedStruct>> records = readNext();
+        return new FileRecordsPrefetcher.Batch(records, records.isEmpty() ? null : currentContext());
+    }
+
+    private RecordsIterable<FileRecord<TypedStruct>> readNext() {
+        if (queue.isEmpty())
             return RecordsIterable.empty();
 
         currentIterator = findNextFileObjectIterator();
@@ -213,16 +399,18 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 ret = getOrCloseIteratorIfNoMoreRecord(candidate);
             } else {
                 try {
-                    // Re-check if the object-file still exists before opening a new iterator.
-                    if (!candidate.isValid()) {
+                    final FileLookAhead.PreparedFile prepared = takeOrPrepareFile(candidate);
+                    if (!prepared.isValid()) {
                         LOG.warn(
                             "Object-file does not exist or is not readable. Skip and continue '{}'",
                             candidate.getObjectURI());
                         queue.remove();
-                        listener.onInvalid(new FileContext(candidate.key(), objectMeta));
+                        if (hasReadListener()) {
+                            readListener().onInvalid(new FileContext(candidate.key(), objectMeta));
+                        }
                         continue;
                     }
-                    ret = openAndGetIteratorOrNullIfCompleted(candidate);
+                    ret = prepared.isCompleted() ? null : startIterator(candidate, prepared);
                     if (ret == null) {
                         // Remove the current iterator and continue
                         deleteFileQueueAndInvokeListener(new FileContext(candidate.key(), objectMeta), null);
@@ -237,8 +425,12 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                     throw e;
                 }
             }
-        } while (hasNext() && ret == null);
+        } while (!queue.isEmpty() && ret == null);
 
+        if (lookAhead != null && ret != null) {
+            // Start preparing the files following the one being read.
+            lookAhead.prefetch(queue);
+        }
         return ret;
     }
 
@@ -247,6 +439,9 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
      */
     @Override
     public boolean hasNext() {
+        if (isPipelined()) {
+            return prefetcher.hasNext();
+        }
         return !queue.isEmpty();
     }
 
@@ -256,18 +451,29 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
-            DelegateFileInputIterator monitor;
-            while ((monitor = queue.poll()) != null) {
-                try {
-                    monitor.close();
-                } catch (Exception ignore) {
-
-                }
+            if (isPipelined()) {
+                prefetcher.close();
+            }
+            if (lookAhead != null) {
+                lookAhead.close();
             }
+            closeAllIterators();
+            concurrentConsumers.forEach(DefaultFileRecordsPollingConsumer::closeAllIterators);
             reader.close();
         }
     }
 
+    private void closeAllIterators() {
+        DelegateFileInputIterator monitor;
+        while ((monitor = queue.poll()) != null) {
+            try {
+                monitor.close();
+            } catch (Exception ignore) {
+
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -282,28 +488,44 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     @Override
     public void setStateListener(final StateListener listener) {
         this.listener = listener;
+        if (isPipelined()) {
+            prefetcher.setStateListener(listener);
+        }
+    }
+
+    private FileLookAhead.PreparedFile takeOrPrepareFile(final DelegateFileInputIterator iterator) {
+        FileLookAhead.PreparedFile prepared = null;
+        if (lookAhead != null) {
+            lookAhead.prefetch(queue);
+            prepared = lookAhead.take(iterator);
+        }
+        return prepared != null ? prepared : prepareFile(iterator);
     }
 
     /**
-     * Attempt to initialize a new records iterator for the specified iterator.
-     * The iterator will automatically seek to the latest committed offset.
+     * Attempt to open a new records iterator for the specified iterator.
+     * The new iterator will automatically seek to the latest committed offset.
      * <p>
-     * This method will return {@code null} if the iterator point to an object-file
-     * which has already been completed file.
+     * This method may be invoked by a look-ahead thread, so it must not change the state of this consumer.
      *</p>
      * @param iterator the source file iterator
-     * @return a new {@link FileInputIterator} instance or {@code null} if the iterator is already completed.
+     * @return a new {@link FileLookAhead.PreparedFile}, completed if the iterator point to an object-file
+     *         which has already been completed.
      */
-    private FileInputIterator<FileRecord<TypedStruct>> openAndGetIteratorOrNullIfCompleted(
-            final DelegateFileInputIterator iterator
-    ) {
+    private FileLookAhead.PreparedFile prepareFile(final DelegateFileInputIterator iterator) {
+        // Re-check if the object-file still exists before opening a new iterator.
+        if (!iterator.isValid()) {
+            return FileLookAhead.PreparedFile.invalid();
+        }
+
         FileObjectMeta metadata = null;
         FileObjectOffset committedOffset;
         try {
             metadata = iterator.getMetadata();
 
             if (!ignoreCommittedOffsets) {
-                committedOffset = offsetPolicy
+                final FileObjectOffset cached = committedOffsets.remove(iterator.key());
+                committedOffset = cached != null ? cached : offsetPolicy
                         .getOffsetFor(taskContext, metadata)
                         .orElse(FileObjectOffset.empty());
             } else {
@@ -332,15 +554,28 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 "Detected object-file already completed. Skip entry and continue '{}'",
                 iterator.getObjectURI()
             );
-            // Return NULL so that the calling method can properly close the iterator.
-            return null;
+            // Return a completed file so that the calling method can properly close the iterator.
+            return FileLookAhead.PreparedFile.completed(metadata);
+        }
+
+        final FileInputIterator<FileRecord<TypedStruct>> opened = iterator.newIterator();
+        try {
+            opened.seekTo(committedOffset);
+            // Open the input and read the first bytes, so that they are ready when the file is switched in.
+            opened.prefill();
+        } catch (final Exception e) {
+            opened.close();
+            throw e;
         }
+        return FileLookAhead.PreparedFile.opened(metadata, opened);
+    }
 
-        iterator.open();
-        iterator.seekTo(committedOffset);
+    private FileInputIterator<FileRecord<TypedStruct>> startIterator(final DelegateFileInputIterator iterator,
+                                                                     final FileLookAhead.PreparedFile prepared) {
+        iterator.open(prepared.iterator());
         pipeline.init(iterator.context());
-        if (hasListener()) {
-            listener.onStart(iterator.context());
+        if (hasReadListener()) {
+            readListener().onStart(iterator.context());
         }
         return iterator;
     }
@@ -373,11 +608,11 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     private void deleteFileQueueAndInvokeListener(final FileContext fileContext,
                                                   final Throwable exception) {
         queue.remove();
-        if (hasListener()) {
+        if (hasReadListener()) {
             if (exception != null) {
-                listener.onFailure(fileContext, exception);
+                readListener().onFailure(fileContext, exception);
             } else {
-                listener.onCompleted(fileContext);
+                readListener().onCompleted(fileContext);
             }
         }
     }
@@ -385,4 +620,61 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     private boolean hasListener() {
         return listener != null;
     }
+
+    /**
+     * In pipelined mode, the events raised while reading files are deferred until the records
+     * read before them have been drained by the task.
+     *
+     * @return the {@link StateListener} to be notified while reading files.
+     */
+    private StateListener readListener() {
+        return isPipelined() ? prefetcher : listener;
+    }
+
+    private boolean hasReadListener() {
+        return readListener() != null;
+    }
+
+    private boolean isPipelined() {
+        return prefetcher != null;
+    }
+
+    /**
+     * A {@link FileRecordsPrefetcher.Lane} which claims the next queued file each time
+     * its consumer has completed the previous one.
+     */
+    private final class ConcurrentLane implements FileRecordsPrefetcher.Lane {
+
+        private final DefaultFileRecordsPollingConsumer consumer;
+
+        ConcurrentLane(final DefaultFileRecordsPollingConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            if (consumer.queue.isEmpty()) {
+                final DelegateFileInputIterator next = queue.poll();
+                if (next != null) {
+                    final FileObjectOffset offset = committedOffsets.remove(next.key());
+                    if (offset != null) {
+                        consumer.committedOffsets.put(next.key(), offset);
+                    }
+                    consumer.queue.add(next);
+                }
+            }
+            return !consumer.queue.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public FileRecordsPrefetcher.Batch read() {
+            return consumer.readNextBatch();
+        }
+    }
 }
\ No newline at end of file
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class DefaultTaskPartitioner implements TaskPartitioner {
 
@@ -46,6 +47,43 @@ public class DefaultTaskPartitioner implements TaskPartitioner {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Object files are assigned in order to the tasks in a round-robin fashion, skipping the tasks that cannot
+     * be assigned the object file without exceeding the limit.
+     * </p>
+     */
+    @Override
+    public List<List<URI>> partition(final Collection<FileObjectMeta> files,
+                                     final int taskCount,
+                                     final long maxBytesPerTask) {
+        if (files.isEmpty() || maxBytesPerTask <= 0) {
+            return partition(files, taskCount);
+        }
+
+        final int numGroups = Math.min(files.size(), taskCount);
+        final List<List<URI>> partitioned = IntStream.range(0, numGroups)
+                .mapToObj(i -> new ArrayList<URI>())
+                .collect(Collectors.toList());
+        final long[] bytes = new long[numGroups];
+        int next = 0;
+        for (FileObjectMeta file : files) {
+            final long fileBytes = TaskPartitioner.bytesOf(file);
+            for (int i = 0; i < numGroups; i++) {
+                final int task = (next + i) % numGroups;
+                if (partitioned.get(task).isEmpty() || bytes[task] + fileBytes <= maxBytesPerTask) {
+                    partitioned.get(task).add(file.uri());
+                    bytes[task] += fileBytes;
+                    next = (task + 1) % numGroups;
+                    break;
+                }
+            }
+        }
+        return partitioned;
+    }
+
     private List<URI> toURIs(final List<FileObjectMeta> items) {
         return items.stream()
                 .map(FileObjectMeta::uri)
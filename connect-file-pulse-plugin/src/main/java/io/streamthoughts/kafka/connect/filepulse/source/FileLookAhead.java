@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
+import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A {@code FileLookAhead} asynchronously prepares the next queued files, i.e. it resolves their metadata
+ * and committed offsets and opens a new iterator positioned at the committed offset, so that switching
+ * to the next file does not wait for I/Os.
+ *
+ * <p>
+ * This class is not thread-safe and must only be used by the thread reading files.
+ * </p>
+ */
+final class FileLookAhead {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileLookAhead.class);
+
+    private final int maxFiles;
+    private final Function<DelegateFileInputIterator, PreparedFile> preparer;
+    private final ExecutorService executor;
+    private final Map<DelegateFileInputIterator, CompletableFuture<PreparedFile>> pending = new IdentityHashMap<>();
+
+    /**
+     * Creates a new {@link FileLookAhead} instance.
+     *
+     * @param maxFiles  the maximum number of files to be prepared in advance.
+     * @param preparer  the function used to prepare a file.
+     */
+    FileLookAhead(final int maxFiles,
+                  final Function<DelegateFileInputIterator, PreparedFile> preparer) {
+        if (maxFiles <= 0) {
+            throw new IllegalArgumentException("'maxFiles' must be superior to 0");
+        }
+        this.maxFiles = maxFiles;
+        this.preparer = preparer;
+        final AtomicInteger threadIds = new AtomicInteger(0);
+        this.executor = Executors.newFixedThreadPool(maxFiles, runnable -> {
+            final Thread thread = new Thread(runnable, "file-look-ahead-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts preparing the first queued files that are not already opened or being prepared.
+     *
+     * @param queue the files to be read, in order.
+     */
+    void prefetch(final Iterable<DelegateFileInputIterator> queue) {
+        int count = 0;
+        for (DelegateFileInputIterator file : queue) {
+            if (count == maxFiles) {
+                break;
+            }
+            // Skip the file currently being read.
+            if (file.isOpen()) {
+                continue;
+            }
+            pending.computeIfAbsent(file, f -> CompletableFuture.supplyAsync(() -> preparer.apply(f), executor));
+            count++;
+        }
+    }
+
+    /**
+     * Takes the result of the preparation of the given file, waiting for it to complete if necessary.
+     *
+     * @param file  the file to be read.
+     * @return the {@link PreparedFile}, or {@code null} if the file was not prepared in advance.
+     */
+    PreparedFile take(final DelegateFileInputIterator file) {
+        final CompletableFuture<PreparedFile> future = pending.remove(file);
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ConnectFilePulseException(e.getCause());
+        }
+    }
+
+    /**
+     * Closes all the iterators that were opened in advance and stops the background threads.
+     */
+    void close() {
+        pending.values().forEach(future -> future.thenAccept(PreparedFile::close));
+        pending.clear();
+        executor.shutdown();
+        LOG.debug("Closed file look-ahead");
+    }
+
+    /**
+     * The result of the preparation of a file.
+     */
+    static final class PreparedFile {
+
+        private final boolean valid;
+        private final FileObjectMeta metadata;
+        private final FileInputIterator<FileRecord<TypedStruct>> iterator;
+
+        static PreparedFile invalid() {
+            return new PreparedFile(false, null, null);
+        }
+
+        static PreparedFile completed(final FileObjectMeta metadata) {
+            return new PreparedFile(true, metadata, null);
+        }
+
+        static PreparedFile opened(final FileObjectMeta metadata,
+                                   final FileInputIterator<FileRecord<TypedStruct>> iterator) {
+            return new PreparedFile(true, metadata, iterator);
+        }
+
+        private PreparedFile(final boolean valid,
+                             final FileObjectMeta metadata,
+                             final FileInputIterator<FileRecord<TypedStruct>> iterator) {
+            this.valid = valid;
+            this.metadata = metadata;
+            this.iterator = iterator;
+        }
+
+        /**
+         * @return {@code true} if the file exists and can be read.
+         */
+        boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * @return {@code true} if the file has already been completely read according to the committed offset.
+         */
+        boolean isCompleted() {
+            return valid && iterator == null;
+        }
+
+        FileObjectMeta metadata() {
+            return metadata;
+        }
+
+        /**
+         * @return the iterator positioned at the committed offset.
+         */
+        FileInputIterator<FileRecord<TypedStruct>> iterator() {
+            return iterator;
+        }
+
+        private void close() {
+            if (iterator != null) {
+                try {
+                    iterator.close();
+                } catch (final Exception e) {
+                    LOG.debug("Error while closing iterator opened in advance for: '{}'", metadata, e);
+                }
+            }
+        }
+    }
+}
@@ -27,20 +27,26 @@ import io.streamthoughts.kafka.connect.filepulse.fs.DefaultTaskFileURIProvider;
 import io.streamthoughts.kafka.connect.filepulse.fs.DelegateTaskFileURIProvider;
 import io.streamthoughts.kafka.connect.filepulse.fs.FileSystemListing;
 import io.streamthoughts.kafka.connect.filepulse.fs.FileSystemMonitor;
+import io.streamthoughts.kafka.connect.filepulse.fs.WorkQueueCoordinator;
+import io.streamthoughts.kafka.connect.filepulse.fs.WorkQueueTaskFileURIProvider;
+import io.streamthoughts.kafka.connect.filepulse.state.FileAssignmentStores;
 import io.streamthoughts.kafka.connect.filepulse.state.StateBackingStoreAccess;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.utils.Time;
 import org.apache.kafka.connect.connector.Task;
 import org.apache.kafka.connect.errors.ConnectException;
 import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -76,6 +82,8 @@ public class FilePulseSourceConnector extends SourceConnector {
 
     private StateBackingStoreAccess sharedStore;
 
+    private WorkQueueCoordinator workQueue;
+
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     /**
@@ -98,6 +106,17 @@ public class FilePulseSourceConnector extends SourceConnector {
             configProperties.put(TASKS_FILE_STATUS_STORAGE_NAME_CONFIG, connectorGroupName);
             configProperties.put(TASKS_FILE_STATUS_STORAGE_CONSUMER_ENABLED_CONFIG, "true");
             connectorConfig = new SourceConnectorConfig(configProperties);
+            if (connectorConfig.isTaskWorkQueueEnabled() && connectorConfig.isFileListingTaskDelegationEnabled()) {
+                throw new ConfigException(
+                    "Work-queue mode and file listing delegation to tasks cannot be enabled together");
+            }
+            final boolean partitionedByConnector = !connectorConfig.isTaskWorkQueueEnabled()
+                    && !connectorConfig.isFileListingTaskDelegationEnabled();
+            if (connectorConfig.getSchedulingBudget().maxBytesPerTask() > 0 && !partitionedByConnector) {
+                throw new ConfigException(
+                    "'" + SourceConnectorConfig.TASK_MAX_INFLIGHT_BYTES_CONFIG + "' cannot be honoured by the "
+                    + "work-queue mode or the file listing delegation to tasks");
+            }
         } catch (ConfigException e) {
             throw new ConnectException("Failed to initialize FilePulseSourceConnector due to configuration error", e);
         }
@@ -115,14 +134,28 @@ public class FilePulseSourceConnector extends SourceConnector {
             final FileSystemListing<?> fileSystemListing = connectorConfig.getFileSystemListing();
             fileSystemListing.setFilter(new CompositeFileListFilter(connectorConfig.getFileSystemListingFilter()));
 
-            monitor = new DefaultFileSystemMonitor(
+            final DefaultFileSystemMonitor defaultMonitor = new DefaultFileSystemMonitor(
                     connectorConfig.allowTasksReconfigurationAfterTimeoutMs(),
                     fileSystemListing,
                     connectorConfig.getFsCleanupPolicy(),
                     connectorConfig.getFsCleanupPolicyPredicate(),
                     connectorConfig.getSourceOffsetPolicy(),
-                    sharedStore.get().getResource()
+                    sharedStore.get().getResource(),
+                    connectorConfig.getMaxListingCandidates()
             );
+            defaultMonitor.setSchedulingOrder(connectorConfig.getSchedulingOrder());
+            defaultMonitor.setSchedulingBudget(connectorConfig.getSchedulingBudget());
+            if (connectorConfig.isTaskWorkQueueEnabled()) {
+                workQueue = new WorkQueueCoordinator(
+                        FileAssignmentStores.newKafkaStore(configProperties),
+                        connectorConfig.getSourceOffsetPolicy(),
+                        connectorConfig.getTaskWorkQueueMaxInFlightFiles(),
+                        connectorConfig.getTaskWorkQueueLeaseMs(),
+                        Time.SYSTEM
+                );
+                defaultMonitor.setWorkQueueCoordinator(workQueue);
+            }
+            monitor = defaultMonitor;
 
             monitor.setFileSystemListingEnabled(!connectorConfig.isFileListingTaskDelegationEnabled());
             fsMonitorThread = new FileSystemMonitorThread(context, monitor, connectorConfig.getListingInterval());
@@ -130,6 +163,10 @@ public class FilePulseSourceConnector extends SourceConnector {
                 LOG.info("Uncaught error from file system monitoring thread [{}]", t.getName(), e);
                 context.raiseError(new ConnectException("Unexpected error from FileSystemMonitorThread", e));
             });
+            fileSystemListing.setChangeListener(fsMonitorThread::wakeup);
+            if (workQueue != null) {
+                workQueue.setReleaseListener(fsMonitorThread::wakeup);
+            }
             fsMonitorThread.start();
             LOG.info("Started FilePulse source connector: {}", connectorGroupName);
         } catch (Exception e) {
@@ -153,7 +190,12 @@ public class FilePulseSourceConnector extends SourceConnector {
     public List<Map<String, String>> taskConfigs(int maxTasks) {
         LOG.info("Creating new tasks configurations (maxTasks={})", maxTasks);
 
-        if (connectorConfig.isFileListingTaskDelegationEnabled()) {
+        if (workQueue != null) {
+            // Tasks are only configured once, files are then assigned to running tasks.
+            workQueue.setTaskCount(maxTasks);
+        }
+
+        if (connectorConfig.isFileListingTaskDelegationEnabled() || workQueue != null) {
             final List<Map<String, String>> taskConfigs = new ArrayList<>(maxTasks);
             IntStream.range(0, maxTasks)
                     .forEachOrdered(i -> taskConfigs
@@ -194,8 +236,23 @@ public class FilePulseSourceConnector extends SourceConnector {
     }
 
     private List<List<String>> partitionAndGet(int maxTasks) {
-        final List<FileObjectMeta> files = monitor.listFilesToSchedule(connectorConfig.getMaxScheduledFiles());
-        return partitioner.partition(files, maxTasks)
+        final List<FileObjectMeta> files = monitor.listFilesToSchedule(
+                connectorConfig.getMaxScheduledFiles(),
+                maxTasks
+        );
+        final long maxBytesPerTask = connectorConfig.getSchedulingBudget().maxBytesPerTask();
+        final List<List<URI>> partitioned = partitioner.partition(files, maxTasks, maxBytesPerTask);
+        if (maxBytesPerTask > 0) {
+            final Set<URI> assigned = partitioned.stream().flatMap(List::stream).collect(Collectors.toSet());
+            final List<FileObjectMeta> unassigned = files.stream()
+                    .filter(file -> !assigned.contains(file.uri()))
+                    .collect(Collectors.toList());
+            if (!unassigned.isEmpty()) {
+                LOG.info("'{}' object files exceed the per-task bytes limit and are postponed", unassigned.size());
+                monitor.unschedule(unassigned);
+            }
+        }
+        return partitioned
                 .stream()
                 .map(it -> it.stream().map(Object::toString).collect(Collectors.toList()))
                 .collect(Collectors.toList());
@@ -211,6 +268,11 @@ public class FilePulseSourceConnector extends SourceConnector {
             taskConfig.put(DelegateTaskFileURIProvider.Config.TASK_ID_CONFIG, String.valueOf(taskId));
             taskConfig.put(DelegateTaskFileURIProvider.Config.TASK_COUNT_CONFIG, String.valueOf(taskCount));
             taskConfig.put(TASKS_FILE_STATUS_STORAGE_CONSUMER_ENABLED_CONFIG, "true");
+        } else if (workQueue != null) {
+            taskConfig.put(SourceTaskConfig.FILE_URIS_PROVIDER_CONFIG, WorkQueueTaskFileURIProvider.class.getName());
+            taskConfig.put(DelegateTaskFileURIProvider.Config.TASK_ID_CONFIG, String.valueOf(taskId));
+            taskConfig.put(DelegateTaskFileURIProvider.Config.TASK_COUNT_CONFIG, String.valueOf(taskCount));
+            taskConfig.put(TASKS_FILE_STATUS_STORAGE_CONSUMER_ENABLED_CONFIG, "true");
         } else {
             taskConfig.put(SourceTaskConfig.FILE_URIS_PROVIDER_CONFIG, DefaultTaskFileURIProvider.class.getName());
             taskConfig.put(DefaultTaskFileURIProvider.Config.FILE_OBJECT_URIS_CONFIG, String.join(",", URIs));
@@ -241,6 +303,9 @@ public class FilePulseSourceConnector extends SourceConnector {
                         LOG.warn("Failed to close file-system monitoring thread. Error: {}", e.getMessage());
                     }
                 }
+                if (workQueue != null) {
+                    workQueue.close();
+                }
                 if (partitioner != null) {
                     try {
                         partitioner.close();
@@ -22,7 +22,6 @@ import io.streamthoughts.kafka.connect.filepulse.config.SourceTaskConfig;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
 import io.streamthoughts.kafka.connect.filepulse.filter.DefaultRecordFilterPipeline;
-import io.streamthoughts.kafka.connect.filepulse.filter.RecordFilterPipeline;
 import io.streamthoughts.kafka.connect.filepulse.fs.TaskFileURIProvider;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import io.streamthoughts.kafka.connect.filepulse.state.StateBackingStoreAccess;
@@ -32,9 +31,13 @@ import org.apache.kafka.connect.source.SourceTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -129,15 +132,24 @@ public class FilePulseSourceTask extends SourceTask {
     }
 
     private DefaultFileRecordsPollingConsumer newFileRecordsPollingConsumer() {
-        final RecordFilterPipeline<FileRecord<TypedStruct>> filter = new DefaultRecordFilterPipeline(
-                taskConfig.filters()
-        );
+        FileRecordsPollingOptions options = FileRecordsPollingOptions.DEFAULT
+                .withEmptyPollWaitMs(taskConfig.getTaskEmptyPollWaitMs())
+                .withLookAheadFiles(taskConfig.getReaderLookAheadFiles());
+
+        final int maxConcurrentFiles = taskConfig.getReaderMaxConcurrentFiles();
+        if (taskConfig.isReaderPipelinedEnabled() || maxConcurrentFiles > 1) {
+            options = options
+                    .withPipelined(taskConfig.getReaderPipelinedMaxBufferedBatches())
+                    .withMaxConcurrentFiles(maxConcurrentFiles);
+        }
+
         return new DefaultFileRecordsPollingConsumer(
                 context,
                 taskConfig.reader(),
-                filter,
+                () -> new DefaultRecordFilterPipeline(taskConfig.filters()),
                 offsetPolicy,
-                taskConfig.isReadCommittedFile());
+                taskConfig.isReadCommittedFile(),
+                options);
     }
 
     /**
@@ -199,7 +211,11 @@ public class FilePulseSourceTask extends SourceTask {
                             LOG.debug("Returning {} records for {}", records.size(), context.metadata());
                             results = records.stream()
                                     .map(r -> buildSourceRecord(context, r))
-                                    .collect(Collectors.toList());
+                                    .collect(Collectors.toCollection(ArrayList::new));
+
+                            if (taskConfig.getTaskPollMaxRecords() > 0) {
+                                pollFromSuccessiveFiles(results, context, records);
+                            }
 
                             // Check if the SourceTask is still running to
                             // return immediately instead of waiting
@@ -233,6 +249,45 @@ public class FilePulseSourceTask extends SourceTask {
         return null;
     }
 
+    /**
+     * Keeps reading the records immediately available from successive files until either the target number
+     * of records or the maximum number of bytes per poll is reached. Each record is converted using the context
+     * of the file it was read from, so that source partitions and offsets are preserved.
+     *
+     * @param results       the list of records to be returned.
+     * @param firstContext  the context of the first file from which records were read.
+     * @param firstRecords  the records read from the first file.
+     */
+    private void pollFromSuccessiveFiles(final List<SourceRecord> results,
+                                         final FileContext firstContext,
+                                         final RecordsIterable<FileRecord<TypedStruct>> firstRecords) {
+        final int maxRecords = taskConfig.getTaskPollMaxRecords();
+        final long maxBytes = taskConfig.getTaskPollMaxBytes();
+
+        final Set<URI> files = new HashSet<>();
+        files.add(firstContext.metadata().uri());
+        final PollBytes bytes = new PollBytes();
+        bytes.add(firstContext, firstRecords);
+
+        while (running.get() &&
+               results.size() < maxRecords &&
+               (maxBytes <= 0 || bytes.get() < maxBytes) &&
+               consumer.hasNext()) {
+
+            final RecordsIterable<FileRecord<TypedStruct>> records = consumer.nextIfAvailable();
+            if (records.isEmpty()) {
+                break;
+            }
+            final FileContext context = consumer.context();
+            files.add(context.metadata().uri());
+            bytes.add(context, records);
+            for (FileRecord<TypedStruct> record : records) {
+                results.add(buildSourceRecord(context, record));
+            }
+        }
+        LOG.debug("Returning {} records ({} bytes) read from {} files", results.size(), bytes.get(), files.size());
+    }
+
     private void busyWait() throws InterruptedException {
         LOG.trace("Waiting {} ms to poll next records", taskConfig.getTaskEmptyPollWaitMs());
         Thread.sleep(taskConfig.getTaskEmptyPollWaitMs());
@@ -347,6 +402,33 @@ public class FilePulseSourceTask extends SourceTask {
         }
     }
 
+    /**
+     * Counts the bytes of the records returned by a single poll. The size of a record is given by its offset.
+     * The records of unknown size are counted once for the whole content length of the file they were read from.
+     */
+    static final class PollBytes {
+
+        private final Set<URI> unsizedFiles = new HashSet<>();
+
+        private long bytes = 0L;
+
+        void add(final FileContext context, final Iterable<? extends FileRecord<?>> records) {
+            for (FileRecord<?> record : records) {
+                final long size = record.offset().size();
+                if (size >= 0) {
+                    bytes += size;
+                } else if (unsizedFiles.add(context.metadata().uri())) {
+                    final Long contentLength = context.metadata().contentLength();
+                    bytes += contentLength != null ? contentLength : 0L;
+                }
+            }
+        }
+
+        long get() {
+            return bytes;
+        }
+    }
+
     static final class MaxConsecutiveAttempts {
 
         final AtomicInteger consecutiveAttempts;
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+/**
+ * The options used to configure how a {@link DefaultFileRecordsPollingConsumer} reads files.
+ */
+final class FileRecordsPollingOptions {
+
+    static final FileRecordsPollingOptions DEFAULT = new FileRecordsPollingOptions(0, 1, 0L, 0);
+
+    private final int maxBufferedBatches;
+    private final int maxConcurrentFiles;
+    private final long emptyPollWaitMs;
+    private final int lookAheadFiles;
+
+    private FileRecordsPollingOptions(final int maxBufferedBatches,
+                                      final int maxConcurrentFiles,
+                                      final long emptyPollWaitMs,
+                                      final int lookAheadFiles) {
+        this.maxBufferedBatches = maxBufferedBatches;
+        this.maxConcurrentFiles = maxConcurrentFiles;
+        this.emptyPollWaitMs = emptyPollWaitMs;
+        this.lookAheadFiles = lookAheadFiles;
+    }
+
+    /**
+     * Enables the pipelined mode, i.e. records are read and filtered by background threads.
+     *
+     * @param maxBufferedBatches the maximum number of batches to read ahead.
+     * @return a new {@link FileRecordsPollingOptions}.
+     */
+    FileRecordsPollingOptions withPipelined(final int maxBufferedBatches) {
+        if (maxBufferedBatches <= 0) {
+            throw new IllegalArgumentException("'maxBufferedBatches' must be superior to 0");
+        }
+        return new FileRecordsPollingOptions(maxBufferedBatches, maxConcurrentFiles, emptyPollWaitMs, lookAheadFiles);
+    }
+
+    /**
+     * Sets the maximum number of files that can be read concurrently. This option requires the pipelined mode.
+     *
+     * @param maxConcurrentFiles the maximum number of files to read concurrently.
+     * @return a new {@link FileRecordsPollingOptions}.
+     */
+    FileRecordsPollingOptions withMaxConcurrentFiles(final int maxConcurrentFiles) {
+        if (maxConcurrentFiles <= 0) {
+            throw new IllegalArgumentException("'maxConcurrentFiles' must be superior to 0");
+        }
+        return new FileRecordsPollingOptions(maxBufferedBatches, maxConcurrentFiles, emptyPollWaitMs, lookAheadFiles);
+    }
+
+    /**
+     * Sets the amount of time to wait for new records when the pipelined mode is enabled.
+     *
+     * @param emptyPollWaitMs the amount of time in milliseconds.
+     * @return a new {@link FileRecordsPollingOptions}.
+     */
+    FileRecordsPollingOptions withEmptyPollWaitMs(final long emptyPollWaitMs) {
+        return new FileRecordsPollingOptions(maxBufferedBatches, maxConcurrentFiles, emptyPollWaitMs, lookAheadFiles);
+    }
+
+    /**
+     * Sets the number of queued files to be asynchronously opened while the current one is read.
+     *
+     * @param lookAheadFiles the number of files to open in advance, or {@code 0} to disable look-ahead.
+     * @return a new {@link FileRecordsPollingOptions}.
+     */
+    FileRecordsPollingOptions withLookAheadFiles(final int lookAheadFiles) {
+        if (lookAheadFiles < 0) {
+            throw new IllegalArgumentException("'lookAheadFiles' must be positive");
+        }
+        return new FileRecordsPollingOptions(maxBufferedBatches, maxConcurrentFiles, emptyPollWaitMs, lookAheadFiles);
+    }
+
+    boolean isPipelined() {
+        return maxBufferedBatches > 0;
+    }
+
+    int maxBufferedBatches() {
+        return maxBufferedBatches;
+    }
+
+    int maxConcurrentFiles() {
+        return maxConcurrentFiles;
+    }
+
+    long emptyPollWaitMs() {
+        return emptyPollWaitMs;
+    }
+
+    int lookAheadFiles() {
+        return lookAheadFiles;
+    }
+}
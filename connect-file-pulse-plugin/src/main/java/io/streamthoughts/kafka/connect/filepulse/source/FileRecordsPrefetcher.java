@@ -0,0 +1,356 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * A {@code FileRecordsPrefetcher} reads and filters records using background threads, and buffers
+ * them into a bounded queue until they are drained by the task thread.
+ *
+ * Each {@link Lane} is read by a dedicated thread, so that files read by distinct lanes are processed
+ * concurrently while the records of a given file are always buffered in order.
+ *
+ * All state events raised while reading are buffered along with the records, so that they are dispatched
+ * to the {@link StateListener} by the draining thread in the order in which they occurred. Thus, a file
+ * is never reported as completed before all its records have been returned to the task.
+ */
+class FileRecordsPrefetcher implements StateListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileRecordsPrefetcher.class);
+
+    private static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final BlockingQueue<Entry> buffer = new LinkedBlockingQueue<>();
+
+    private final Semaphore freeBatchSlots;
+
+    // The number of scheduled files for which no terminal event has been dispatched yet.
+    private final AtomicInteger pendingFiles = new AtomicInteger(0);
+
+    private final Object lock = new Object();
+
+    private final List<Lane> lanes;
+
+    private final long emptyPollWaitMs;
+
+    private final List<Thread> threads;
+
+    private StateListener listener;
+
+    private FileContext context;
+
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new {@link FileRecordsPrefetcher} instance.
+     *
+     * @param lanes              the lanes to be read concurrently.
+     * @param maxBufferedBatches the maximum number of record batches to buffer.
+     * @param emptyPollWaitMs    the amount of time to wait if a read returns no records.
+     */
+    FileRecordsPrefetcher(final List<Lane> lanes,
+                          final int maxBufferedBatches,
+                          final long emptyPollWaitMs) {
+        if (maxBufferedBatches <= 0) {
+            throw new IllegalArgumentException("'maxBufferedBatches' must be superior to 0");
+        }
+        this.lanes = Objects.requireNonNull(lanes, "'lanes' should not be null");
+        this.freeBatchSlots = new Semaphore(maxBufferedBatches);
+        this.emptyPollWaitMs = emptyPollWaitMs;
+        this.threads = new ArrayList<>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            final Lane lane = lanes.get(i);
+            final Thread thread = new Thread(() -> run(lane), "file-records-prefetcher-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+    }
+
+    void start() {
+        threads.forEach(Thread::start);
+    }
+
+    void setStateListener(final StateListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Notifies that new files have been added to the queue of files to be read.
+     *
+     * @param numFiles  the number of added files.
+     */
+    void onFilesAdded(final int numFiles) {
+        pendingFiles.addAndGet(numFiles);
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * @return {@code true} if there is still files or buffered records to be drained.
+     */
+    boolean hasNext() {
+        return pendingFiles.get() > 0 || !buffer.isEmpty();
+    }
+
+    /**
+     * @return the context of the last batch returned by {@link #next()}.
+     */
+    FileContext context() {
+        return context;
+    }
+
+    /**
+     * Drains the next buffered batch of records, while dispatching all buffered state events.
+     * This method waits up to the configured empty poll wait time for a batch to be available.
+     *
+     * @return the next records, or an empty {@link RecordsIterable} if none is available.
+     */
+    RecordsIterable<FileRecord<TypedStruct>> next() {
+        return next(emptyPollWaitMs);
+    }
+
+    /**
+     * Drains the next buffered batch of records, while dispatching all buffered state events.
+     *
+     * @param maxWaitMs the maximum amount of time to wait for a batch to be available.
+     * @return the next records, or an empty {@link RecordsIterable} if none is available.
+     */
+    RecordsIterable<FileRecord<TypedStruct>> next(final long maxWaitMs) {
+        final long deadline = System.currentTimeMillis() + maxWaitMs;
+        try {
+            Entry entry;
+            long remaining = maxWaitMs;
+            while ((entry = buffer.poll(remaining, TimeUnit.MILLISECONDS)) != null) {
+                if (entry.error != null) {
+                    throw entry.error;
+                }
+                if (entry.event != null) {
+                    entry.event.run();
+                } else {
+                    freeBatchSlots.release();
+                    context = entry.batch.context;
+                    return entry.batch.records;
+                }
+                remaining = Math.max(0, deadline - System.currentTimeMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return RecordsIterable.empty();
+    }
+
+    private void run(final Lane lane) {
+        LOG.info("Starting file records prefetcher");
+        boolean lastWasEmpty = false;
+        try {
+            while (!closed) {
+                if (!lane.hasNext()) {
+                    waitForFiles(lane);
+                    continue;
+                }
+                freeBatchSlots.acquire();
+                Entry entry;
+                try {
+                    final Batch batch = lane.read();
+                    if (batch.records.isEmpty()) {
+                        freeBatchSlots.release();
+                        // Avoid busy looping while waiting for new data to be appended to the current file.
+                        if (lastWasEmpty && !closed) {
+                            Thread.sleep(emptyPollWaitMs);
+                        }
+                        lastWasEmpty = true;
+                        continue;
+                    }
+                    entry = new Entry(batch, null, null);
+                } catch (final ConnectFilePulseException e) {
+                    freeBatchSlots.release();
+                    entry = new Entry(null, null, e);
+                } catch (final Exception e) {
+                    freeBatchSlots.release();
+                    entry = new Entry(null, null, new ConnectFilePulseException(e));
+                }
+                lastWasEmpty = false;
+                buffer.put(entry);
+            }
+        } catch (InterruptedException e) {
+            if (!closed) {
+                LOG.warn("File records prefetcher was interrupted unexpectedly");
+            }
+        }
+        LOG.info("Stopped file records prefetcher");
+    }
+
+    private void waitForFiles(final Lane lane) throws InterruptedException {
+        synchronized (lock) {
+            if (!closed && !lane.hasNext()) {
+                lock.wait(emptyPollWaitMs);
+            }
+        }
+    }
+
+    /**
+     * Stops the background threads and waits for their termination.
+     */
+    void close() {
+        close(DEFAULT_CLOSE_TIMEOUT);
+    }
+
+    /**
+     * Stops the background threads and waits for their termination, up to the given timeout.
+     * The threads still alive after the timeout (e.g. blocked on a non-interruptible read) are left behind.
+     *
+     * @param timeout   the maximum amount of time to wait for all threads.
+     */
+    void close(final Duration timeout) {
+        closed = true;
+        threads.forEach(Thread::interrupt);
+        final long deadline = System.currentTimeMillis() + timeout.toMillis();
+        try {
+            for (Thread thread : threads) {
+                thread.join(Math.max(1L, deadline - System.currentTimeMillis()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<String> alive = threads.stream()
+                .filter(Thread::isAlive)
+                .map(Thread::getName)
+                .collect(Collectors.toList());
+        if (!alive.isEmpty()) {
+            LOG.warn("File records prefetcher threads still alive after {}ms: {}", timeout.toMillis(), alive);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onScheduled(final FileContext context) {
+        defer(() -> listener.onScheduled(context), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onInvalid(final FileContext context) {
+        defer(() -> listener.onInvalid(context), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStart(final FileContext context) {
+        defer(() -> listener.onStart(context), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCompleted(final FileContext context) {
+        defer(() -> listener.onCompleted(context), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onFailure(final FileContext context, final Throwable t) {
+        defer(() -> listener.onFailure(context, t), true);
+    }
+
+    private void defer(final Runnable event, final boolean isTerminal) {
+        buffer.add(new Entry(null, () -> {
+            if (isTerminal) {
+                pendingFiles.decrementAndGet();
+            }
+            if (listener != null) {
+                event.run();
+            }
+        }, null));
+    }
+
+    /**
+     * A {@code Lane} reads files sequentially.
+     */
+    interface Lane {
+
+        /**
+         * @return {@code true} if the lane has a file to be read.
+         */
+        boolean hasNext();
+
+        /**
+         * Reads and filters the next records.
+         *
+         * @return the next {@link Batch}.
+         */
+        Batch read();
+    }
+
+    /**
+     * A batch of filtered records along with the context of the last record.
+     */
+    static final class Batch {
+
+        final RecordsIterable<FileRecord<TypedStruct>> records;
+        final FileContext context;
+
+        Batch(final RecordsIterable<FileRecord<TypedStruct>> records,
+              final FileContext context) {
+            this.records = records;
+            this.context = context;
+        }
+    }
+
+    private static final class Entry {
+
+        final Batch batch;
+        final Runnable event;
+        final ConnectFilePulseException error;
+
+        Entry(final Batch batch,
+              final Runnable event,
+              final ConnectFilePulseException error) {
+            this.batch = batch;
+            this.event = event;
+            this.error = error;
+        }
+    }
+}
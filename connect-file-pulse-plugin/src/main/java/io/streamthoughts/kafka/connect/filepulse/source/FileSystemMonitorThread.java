@@ -39,6 +39,8 @@ public class FileSystemMonitorThread extends Thread {
     private final CountDownLatch shutdownLatch;
     private final CountDownLatch waitingLatch;
     private final long scanIntervalMs;
+    private final Object wakeupLock = new Object();
+    private boolean wakeupRequested = false;
 
     private final FileSystemMonitor monitor;
 
@@ -88,7 +90,7 @@ public class FileSystemMonitorThread extends Thread {
                 long timeout = Math.max(0, scanIntervalMs - (Time.SYSTEM.milliseconds() - started));
                 if (timeout > 0) {
                     LOG.debug("Waiting {} ms before next filesystem monitoring iteration.", timeout);
-                    boolean shuttingDown = shutdownLatch.await(timeout, TimeUnit.MILLISECONDS);
+                    boolean shuttingDown = awaitNextIteration(timeout);
                     if (shuttingDown) {
                         return;
                     }
@@ -103,9 +105,45 @@ public class FileSystemMonitorThread extends Thread {
         }
     }
 
+    /**
+     * Waits until either the given timeout elapses, a wakeup is requested or this thread is shutting down.
+     *
+     * @param timeoutMs the maximum time to wait.
+     * @return {@code true} if this thread is shutting down.
+     */
+    private boolean awaitNextIteration(final long timeoutMs) throws InterruptedException {
+        final long deadline = Time.SYSTEM.milliseconds() + timeoutMs;
+        synchronized (wakeupLock) {
+            long remaining = timeoutMs;
+            while (!wakeupRequested && shutdownLatch.getCount() > 0 && remaining > 0) {
+                wakeupLock.wait(remaining);
+                remaining = deadline - Time.SYSTEM.milliseconds();
+            }
+            if (wakeupRequested) {
+                LOG.debug("Wakeup requested, starting next filesystem monitoring iteration.");
+            }
+            wakeupRequested = false;
+        }
+        return shutdownLatch.getCount() == 0;
+    }
+
+    /**
+     * Requests a new filesystem monitoring iteration without waiting for the scan interval to elapse,
+     * e.g. when new files are detected by the file-system listing.
+     */
+    void wakeup() {
+        synchronized (wakeupLock) {
+            wakeupRequested = true;
+            wakeupLock.notifyAll();
+        }
+    }
+
     void shutdown(final long timeoutMs) {
         LOG.info("Shutting down thread monitoring filesystem.");
         this.shutdownLatch.countDown();
+        synchronized (wakeupLock) {
+            wakeupLock.notifyAll();
+        }
         try {
             this.waitingLatch.await(timeoutMs, TimeUnit.MILLISECONDS);
         } catch (InterruptedException ignore) {
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import org.apache.kafka.common.Configurable;
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@code SizeBalancedTaskPartitioner} balances the total number of bytes assigned to each task.
+ *
+ * <p>
+ * Files are assigned using a longest-processing-time-first bin packing: files are sorted by decreasing cost and
+ * each file is assigned to the task with the lowest cost so far. The cost of a file is its content length,
+ * optionally multiplied by a weight depending on its extension (e.g. for formats that are more expensive to parse).
+ * The files assigned to a task are returned in the same order as the files to partition.
+ * </p>
+ *
+ * <p>
+ * When a maximum number of bytes per task is given, a file is only assigned to a task that stays within the limit.
+ * The files that cannot be assigned to any task are left for a later scheduling.
+ * </p>
+ */
+public class SizeBalancedTaskPartitioner implements TaskPartitioner, Configurable {
+
+    public static final String TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG = "task.partitioner.format.weights";
+    private static final String TASK_PARTITIONER_FORMAT_WEIGHTS_DOC =
+            "The comma-separated list of estimated costs per byte, relative to plain files, for each file " +
+            "extension (e.g. 'gz:4,parquet:2'). Files with no weight have a cost of 1 per byte.";
+
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    private Map<String, Double> weights = Collections.emptyMap();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final AbstractConfig config = new AbstractConfig(getConfigDef(), configs, false);
+        weights = parseWeights(config.getList(TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<URI>> partition(final Collection<FileObjectMeta> files, final int taskCount) {
+        return partition(files, taskCount, 0L);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Each object file is assigned to the task with the lowest cost so far among the tasks that can be assigned
+     * the object file without exceeding the limit.
+     * </p>
+     */
+    @Override
+    public List<List<URI>> partition(final Collection<FileObjectMeta> files,
+                                     final int taskCount,
+                                     final long maxBytesPerTask) {
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final int numGroups = Math.min(files.size(), taskCount);
+        final long[] costs = new long[numGroups];
+        final int[] counts = new int[numGroups];
+        final long[] bytes = new long[numGroups];
+        // Ties are broken by the number of files, so that files of unknown length are also spread across tasks.
+        final Comparator<Integer> byLowestCost = Comparator
+                .<Integer>comparingLong(task -> costs[task])
+                .thenComparingInt(task -> counts[task])
+                .thenComparingInt(task -> task);
+        final long limit = maxBytesPerTask <= 0 ? Long.MAX_VALUE : maxBytesPerTask;
+
+        final List<FileObjectMeta> sorted = new ArrayList<>(files);
+        sorted.sort(Comparator.comparingLong(this::cost).reversed());
+
+        final Map<FileObjectMeta, Integer> assignments = new IdentityHashMap<>(files.size());
+        for (FileObjectMeta file : sorted) {
+            final long fileBytes = TaskPartitioner.bytesOf(file);
+            IntStream.range(0, numGroups)
+                    .boxed()
+                    .filter(task -> counts[task] == 0 || bytes[task] <= limit - fileBytes)
+                    .min(byLowestCost)
+                    .ifPresent(task -> {
+                        costs[task] += cost(file);
+                        counts[task]++;
+                        bytes[task] += fileBytes;
+                        assignments.put(file, task);
+                    });
+        }
+
+        final List<List<URI>> partitioned = IntStream.range(0, numGroups)
+                .mapToObj(i -> new ArrayList<URI>())
+                .collect(Collectors.toList());
+        files.stream()
+                .filter(assignments::containsKey)
+                .forEach(file -> partitioned.get(assignments.get(file)).add(file.uri()));
+        return partitioned;
+    }
+
+    private long cost(final FileObjectMeta file) {
+        final Long contentLength = file.contentLength();
+        if (contentLength == null || contentLength <= 0) {
+            return 0L;
+        }
+        return (long) (contentLength * weights.getOrDefault(extension(file), DEFAULT_WEIGHT));
+    }
+
+    private static String extension(final FileObjectMeta file) {
+        final String name = file.name();
+        if (name == null) {
+            return "";
+        }
+        final int index = name.lastIndexOf('.');
+        return index < 0 ? "" : name.substring(index + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Double> parseWeights(final List<String> values) {
+        final Map<String, Double> weights = new HashMap<>();
+        for (String value : values) {
+            final String[] parts = value.split(":");
+            if (parts.length != 2) {
+                throw new ConfigException(TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG, value, "Expected 'extension:weight'");
+            }
+            final double weight;
+            try {
+                weight = Double.parseDouble(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new ConfigException(TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG, value, "Invalid weight");
+            }
+            if (weight <= 0) {
+                throw new ConfigException(TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG, value, "Weight must be positive");
+            }
+            weights.put(parts[0].trim().toLowerCase(Locale.ROOT), weight);
+        }
+        return weights;
+    }
+
+    private static ConfigDef getConfigDef() {
+        return new ConfigDef()
+                .define(
+                        TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG,
+                        ConfigDef.Type.LIST,
+                        "",
+                        ConfigDef.Importance.LOW,
+                        TASK_PARTITIONER_FORMAT_WEIGHTS_DOC
+                );
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import org.apache.kafka.common.utils.Utils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A {@code StickyTaskPartitioner} keeps object files on the same task across task reconfigurations.
+ *
+ * <p>
+ * An object file that was already assigned during the previous partitioning (e.g. a file still being processed
+ * when new files are detected) is assigned to the same task, as long as this task still exists. Other files are
+ * assigned using rendezvous hashing (highest random weight) of their URI, which is deterministic and only moves
+ * about {@code 1/n} of the files when the number of tasks changes, including after the connector is restarted.
+ * </p>
+ */
+public class StickyTaskPartitioner implements TaskPartitioner {
+
+    private Map<URI, Integer> previous = Collections.emptyMap();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized List<List<URI>> partition(final Collection<FileObjectMeta> files, final int taskCount) {
+        if (files.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<List<URI>> partitioned = IntStream.range(0, taskCount)
+                .mapToObj(i -> new ArrayList<URI>())
+                .collect(Collectors.toList());
+
+        final Map<URI, Integer> assignments = new HashMap<>(files.size());
+        for (FileObjectMeta file : files) {
+            final URI uri = file.uri();
+            final Integer assigned = previous.get(uri);
+            final int taskId = assigned != null && assigned < taskCount ? assigned : rendezvous(uri, taskCount);
+            partitioned.get(taskId).add(uri);
+            assignments.put(uri, taskId);
+        }
+        // Only the files of the current generation are retained.
+        previous = assignments;
+        return partitioned;
+    }
+
+    /**
+     * Gets the task with the highest weight for the given URI.
+     *
+     * @param uri       the object file URI.
+     * @param taskCount the total number of tasks.
+     * @return          the task id.
+     */
+    static int rendezvous(final URI uri, final int taskCount) {
+        final long hash = Utils.murmur2(uri.toString().getBytes(StandardCharsets.UTF_8));
+        int selected = 0;
+        long highest = Long.MIN_VALUE;
+        for (int taskId = 0; taskId < taskCount; taskId++) {
+            final long weight = mix(hash * 31 + taskId);
+            if (weight > highest) {
+                highest = weight;
+                selected = taskId;
+            }
+        }
+        return selected;
+    }
+
+    // The finalizer of the SplitMix64 generator.
+    private static long mix(final long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.state;
+
+import com.jsoniter.annotation.JsonCreator;
+import com.jsoniter.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A {@code FileAssignment} describes an object file assigned by the connector to a task in work-queue mode.
+ *
+ * The assignment is leased: if the task has not started to process the object file before the lease expires,
+ * the object file can be assigned to another task.
+ */
+public final class FileAssignment implements Serializable {
+
+    private final String uri;
+    private final int taskId;
+    private final long contentLength;
+    private final long leaseExpiresAt;
+
+    /**
+     * Creates a new {@link FileAssignment} instance.
+     *
+     * @param uri               the object file's URI.
+     * @param taskId            the id of the task the object file is assigned to.
+     * @param contentLength     the object file's content length, or {@code -1} if unknown.
+     * @param leaseExpiresAt    the time (in milliseconds) at which the lease expires.
+     */
+    @JsonCreator
+    public FileAssignment(@JsonProperty("uri") final String uri,
+                          @JsonProperty("taskId") final int taskId,
+                          @JsonProperty("contentLength") final long contentLength,
+                          @JsonProperty("leaseExpiresAt") final long leaseExpiresAt) {
+        this.uri = Objects.requireNonNull(uri, "uri can't be null");
+        this.taskId = taskId;
+        this.contentLength = contentLength;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public String uri() {
+        return uri;
+    }
+
+    public int taskId() {
+        return taskId;
+    }
+
+    public long contentLength() {
+        return contentLength;
+    }
+
+    public long leaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FileAssignment)) return false;
+        FileAssignment that = (FileAssignment) o;
+        return taskId == that.taskId &&
+               contentLength == that.contentLength &&
+               leaseExpiresAt == that.leaseExpiresAt &&
+               Objects.equals(uri, that.uri);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(uri, taskId, contentLength, leaseExpiresAt);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "uri=" + uri +
+                ", taskId=" + taskId +
+                ", contentLength=" + contentLength +
+                ", leaseExpiresAt=" + leaseExpiresAt +
+                ']';
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.state;
+
+import io.streamthoughts.kafka.connect.filepulse.storage.KafkaStateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+
+import java.util.Map;
+
+/**
+ * Factory class for creating the {@link StateBackingStore} used to share {@link FileAssignment}s
+ * between the connector and its tasks.
+ */
+public final class FileAssignmentStores {
+
+    // Assignments are stored in the status storage topic, using a distinct key prefix than file states.
+    // Each store silently skips the records of the other one (see KafkaStateBackingStore).
+    private static final String KEY_PREFIX = "connect-file-pulse-assignment";
+
+    private FileAssignmentStores() {
+    }
+
+    /**
+     * Creates a new {@link StateBackingStore} for {@link FileAssignment}s which is backed by the status storage topic.
+     *
+     * @param configs   the connector or task configuration.
+     * @return          a new {@link StateBackingStore}, not started.
+     */
+    public static StateBackingStore<FileAssignment> newKafkaStore(final Map<String, ?> configs) {
+        final KafkaFileObjectStateBackingStoreConfig config = new KafkaFileObjectStateBackingStoreConfig(configs);
+        return new KafkaStateBackingStore<>(
+                config.getTaskStorageTopic(),
+                KEY_PREFIX,
+                config.getTaskStorageName(),
+                config.getTaskStorageConfigs(),
+                new FileAssignmentSerde(),
+                true
+        );
+    }
+}
@@ -44,6 +44,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -246,16 +247,108 @@ public class DefaultFileSystemMonitorTest {
         Assert.assertEquals(INPUT_FILES.metadataFor(1).uri(), cleaner.getFailed().get(0).uri());
     }
 
+    @Test
+    public void should_retain_at_most_max_listing_candidates() {
+        KafkaStateBackingStore store = Mockito.mock(KafkaStateBackingStore.class);
+        Mockito.when(store.snapshot()).thenReturn(EMPTY_STATE_SNAPSHOT);
+
+        final List<File> sources = INPUT_FILES.getInputPathsFor(0, 1, 2, 3);
+        final MockTimesFileSystemListing ds = new MockTimesFileSystemListing(sources);
+        DefaultFileSystemMonitor monitor = newFileSystemMonitor(new MockFileCleaner(true), ds, store, 3);
+
+        monitor.listFilesToSchedule(); // make a first call to mark the monitor as running.
+        monitor.invoke(new MockConnectorContext());
+
+        List<FileObjectMeta> result = monitor.listFilesToSchedule();
+        assertEquals(3, result.size());
+        assertEquals(
+            sources.subList(0, 3).stream().map(File::toURI).sorted().collect(Collectors.toList()),
+            result.stream().map(FileObjectMeta::uri).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_schedule_first_files_according_to_scheduling_order() {
+        KafkaStateBackingStore store = Mockito.mock(KafkaStateBackingStore.class);
+        Mockito.when(store.snapshot()).thenReturn(EMPTY_STATE_SNAPSHOT);
+
+        final List<File> sources = INPUT_FILES.getInputPathsFor(0, 1, 2, 3);
+        final MockTimesFileSystemListing ds = new MockTimesFileSystemListing(sources);
+        DefaultFileSystemMonitor monitor = newFileSystemMonitor(new MockFileCleaner(true), ds, store);
+        monitor.setSchedulingOrder(Comparator.comparing(FileObjectMeta::name).reversed());
+
+        monitor.listFilesToSchedule(); // make a first call to mark the monitor as running.
+        monitor.invoke(new MockConnectorContext());
+
+        List<FileObjectMeta> result = monitor.listFilesToSchedule(2);
+        assertEquals(
+            List.of(sources.get(3).toURI(), sources.get(2).toURI()),
+            result.stream().map(FileObjectMeta::uri).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_schedule_files_within_scheduling_budget() {
+        KafkaStateBackingStore store = Mockito.mock(KafkaStateBackingStore.class);
+        Mockito.when(store.snapshot()).thenReturn(EMPTY_STATE_SNAPSHOT);
+
+        final List<File> sources = INPUT_FILES.getInputPathsFor(0, 1, 2, 3);
+        final MockTimesFileSystemListing ds = new MockTimesFileSystemListing(sources);
+        DefaultFileSystemMonitor monitor = newFileSystemMonitor(new MockFileCleaner(true), ds, store);
+        monitor.setSchedulingOrder(Comparator.comparing(FileObjectMeta::name));
+        // Input files are empty, hence each file is estimated to one record.
+        monitor.setSchedulingBudget(new FileSchedulingBudget(0, 2, 1024, 0));
+
+        monitor.listFilesToSchedule(); // make a first call to mark the monitor as running.
+        monitor.invoke(new MockConnectorContext());
+
+        List<FileObjectMeta> result = monitor.listFilesToSchedule(10, 2);
+        assertEquals(
+            List.of(sources.get(0).toURI(), sources.get(1).toURI()),
+            result.stream().map(FileObjectMeta::uri).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void should_schedule_unscheduled_files_again_during_next_scan() {
+        KafkaStateBackingStore store = Mockito.mock(KafkaStateBackingStore.class);
+        Mockito.when(store.snapshot()).thenReturn(EMPTY_STATE_SNAPSHOT);
+
+        final List<File> sources = INPUT_FILES.getInputPathsFor(0, 1);
+        final MockTimesFileSystemListing ds = new MockTimesFileSystemListing(sources);
+        ds.put(sources);
+        DefaultFileSystemMonitor monitor = newFileSystemMonitor(new MockFileCleaner(true), ds, store);
+        monitor.setSchedulingOrder(Comparator.comparing(FileObjectMeta::name));
+
+        monitor.listFilesToSchedule(); // make a first call to mark the monitor as running.
+        monitor.invoke(new MockConnectorContext());
+        List<FileObjectMeta> result = monitor.listFilesToSchedule(10, 2);
+        assertEquals(2, result.size());
+
+        monitor.unschedule(result);
+        monitor.invoke(new MockConnectorContext());
+
+        result = monitor.listFilesToSchedule(10, 2);
+        assertEquals(
+            List.of(sources.get(0).toURI(), sources.get(1).toURI()),
+            result.stream().map(FileObjectMeta::uri).collect(Collectors.toList()));
+    }
+
     private DefaultFileSystemMonitor newFileSystemMonitor(final MockFileCleaner cleaner,
                                                           final FileSystemListing<Storage> fsListing,
                                                           final StateBackingStore<FileObject> store) {
+        return newFileSystemMonitor(cleaner, fsListing, store, Integer.MAX_VALUE);
+    }
+
+    private DefaultFileSystemMonitor newFileSystemMonitor(final MockFileCleaner cleaner,
+                                                          final FileSystemListing<Storage> fsListing,
+                                                          final StateBackingStore<FileObject> store,
+                                                          final int maxListingCandidates) {
         return new DefaultFileSystemMonitor(
                 Long.MAX_VALUE,
                 fsListing,
                 cleaner,
                 status -> List.of(FileObjectStatus.FAILED, FileObjectStatus.COMPLETED).contains(status),
                 OFFSET_MANAGER,
-                store
+                store,
+                maxListingCandidates
         );
     }
 
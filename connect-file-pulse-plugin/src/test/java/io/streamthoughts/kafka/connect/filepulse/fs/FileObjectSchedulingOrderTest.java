@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+
+public class FileObjectSchedulingOrderTest {
+
+    private static final String EXPRESSION = "{{ if(starts_with($metadata.name, 'b'), 0, 1) }}";
+
+    private static final FileObjectMeta A = newObject("a", 1000L, 30L);
+    private static final FileObjectMeta B = newObject("b", 3000L, 10L);
+    private static final FileObjectMeta C = newObject("c", 2000L, 20L);
+
+    @Test
+    public void should_sort_files_by_last_modified() {
+        assertEquals(List.of("a", "c", "b"), sort(FileObjectSchedulingOrder.OLDEST_FIRST, null));
+        assertEquals(List.of("b", "c", "a"), sort(FileObjectSchedulingOrder.NEWEST_FIRST, null));
+    }
+
+    @Test
+    public void should_sort_files_by_content_length() {
+        assertEquals(List.of("b", "c", "a"), sort(FileObjectSchedulingOrder.SMALLEST_FIRST, null));
+        assertEquals(List.of("a", "c", "b"), sort(FileObjectSchedulingOrder.LARGEST_FIRST, null));
+    }
+
+    @Test
+    public void should_sort_files_by_expression() {
+        assertEquals(List.of("b", "a", "c"), sort(FileObjectSchedulingOrder.EXPRESSION, EXPRESSION));
+    }
+
+    @Test
+    public void should_sort_equal_files_by_uri() {
+        final FileObjectMeta other = newObject("d", 1000L, 30L);
+        assertEquals(
+            List.of(A, other),
+            Stream.of(other, A)
+                .sorted(FileObjectSchedulingOrder.OLDEST_FIRST.newComparator(null))
+                .collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void should_compute_sort_key_once_per_file_given_cached_sort_keys() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final Comparator<FileObjectMeta> order = FileObjectSchedulingOrder.withCachedSortKeys(
+            new FileObjectSchedulingOrder.SortKeyComparator<>(
+                metadata -> {
+                    evaluations.incrementAndGet();
+                    return metadata.lastModified();
+                },
+                Comparator.<Long>naturalOrder()
+            )
+        );
+        final List<String> sorted = Stream.of(C, B, A, newObject("d", 500L, 40L), newObject("e", 4000L, 50L))
+            .sorted(order)
+            .map(FileObjectMeta::name)
+            .collect(Collectors.toList());
+        assertEquals(List.of("d", "a", "c", "b", "e"), sorted);
+        assertEquals(5, evaluations.get());
+    }
+
+    @Test(expected = ConfigException.class)
+    public void should_fail_given_expression_order_without_expression() {
+        FileObjectSchedulingOrder.EXPRESSION.newComparator(null);
+    }
+
+    private static List<String> sort(final FileObjectSchedulingOrder order, final String expression) {
+        return Stream.of(A, B, C)
+            .sorted(order.newComparator(expression))
+            .map(FileObjectMeta::name)
+            .collect(Collectors.toList());
+    }
+
+    private static FileObjectMeta newObject(final String name,
+                                            final long lastModified,
+                                            final long contentLength) {
+        return new GenericFileObjectMeta.Builder()
+            .withUri(URI.create("file:///tmp/" + name))
+            .withName(name)
+            .withLastModified(lastModified)
+            .withContentLength(contentLength)
+            .build();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.TaskPartitioner;
+import org.junit.Test;
+
+import java.net.URI;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FileSchedulingBudgetTest {
+
+    @Test
+    public void should_be_unlimited_given_no_limit() {
+        final FileSchedulingBudget budget = new FileSchedulingBudget(0, 0, 1024, 0);
+        assertTrue(budget.isUnlimited());
+        assertEquals(Long.MAX_VALUE, budget.maxBytes(4));
+        assertEquals(Long.MAX_VALUE, budget.maxRecords());
+    }
+
+    @Test
+    public void should_limit_bytes_given_max_bytes_per_task() {
+        final FileSchedulingBudget budget = new FileSchedulingBudget(1000, 0, 1024, 100);
+        assertFalse(budget.isUnlimited());
+        assertEquals(400, budget.maxBytes(4));
+        assertEquals(1000, budget.maxBytes(20));
+        assertEquals(1000, budget.maxBytes(0));
+    }
+
+    @Test
+    public void should_estimate_records_from_content_length() {
+        final FileSchedulingBudget budget = new FileSchedulingBudget(0, 100, 10, 0);
+        assertEquals(3, budget.estimateRecords(newObject(25L)));
+        assertEquals(1, budget.estimateRecords(newObject(0L)));
+        assertEquals(1, budget.estimateRecords(newObject(null)));
+        assertEquals(0, TaskPartitioner.bytesOf(newObject(null)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_fail_given_invalid_estimated_record_size() {
+        new FileSchedulingBudget(0, 0, 0, 0);
+    }
+
+    private static FileObjectMeta newObject(final Long contentLength) {
+        final GenericFileObjectMeta.Builder builder = new GenericFileObjectMeta.Builder()
+            .withUri(URI.create("file:///tmp/file"));
+        if (contentLength != null) {
+            builder.withContentLength(contentLength);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileObject;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.FileObjectStatus;
+import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffsetPolicy;
+import io.streamthoughts.kafka.connect.filepulse.state.FileAssignment;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.connect.source.SourceTaskContext;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WorkQueueCoordinatorTest {
+
+    private static final long LEASE_MS = 1000L;
+
+    private static final SourceOffsetPolicy OFFSET_POLICY = new SourceOffsetPolicy() {
+        @Override
+        public Optional<FileObjectOffset> getOffsetFor(SourceTaskContext context, FileObjectMeta source) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, ?> toOffsetMap(FileObjectOffset offset) {
+            return Collections.singletonMap("key", offset.position());
+        }
+
+        @Override
+        public Map<String, Object> toPartitionMap(FileObjectMeta meta) {
+            return Collections.singletonMap("key", meta.uri().toString());
+        }
+    };
+
+    private final InMemoryAssignmentStore assignments = new InMemoryAssignmentStore();
+
+    private final Map<String, FileObject> states = new HashMap<>();
+
+    private final Time time = Mockito.mock(Time.class);
+
+    private WorkQueueCoordinator coordinator;
+
+    @Before
+    public void setUp() {
+        Mockito.when(time.milliseconds()).thenReturn(0L);
+        coordinator = new WorkQueueCoordinator(assignments, OFFSET_POLICY, 2, LEASE_MS, time);
+        coordinator.setTaskCount(2);
+    }
+
+    @Test
+    public void should_assign_files_to_least_loaded_tasks_up_to_max_in_flight_files() {
+        final List<FileObjectMeta> files = newFiles(5);
+        coordinator.offer(files);
+
+        assertEquals(4, coordinator.assign(snapshot()));
+        assertTrue(coordinator.hasPending());
+        assertEquals(2, assignedTo(0).size());
+        assertEquals(2, assignedTo(1).size());
+    }
+
+    @Test
+    public void should_assign_pending_files_given_completed_files() {
+        final List<FileObjectMeta> files = newFiles(5);
+        coordinator.offer(files);
+        coordinator.assign(snapshot());
+
+        final String completed = assignedTo(1).get(0);
+        states.put(completed, newState(files.get(0), FileObjectStatus.COMMITTED));
+
+        assertEquals(1, coordinator.assign(snapshot()));
+        assertFalse(coordinator.hasPending());
+        assertFalse(assignments.states.containsKey(completed));
+        assertEquals(2, assignedTo(1).size());
+    }
+
+    @Test
+    public void should_not_reassign_file_given_file_completed_after_being_offered_again() {
+        final List<FileObjectMeta> files = newFiles(1);
+        coordinator.offer(files);
+        coordinator.assign(snapshot());
+
+        // The file is still in progress when listed again, and then completed before the next assignment.
+        coordinator.offer(files);
+        final String completed = assignedTo(0).get(0);
+        states.put(completed, newState(files.get(0), FileObjectStatus.COMMITTED));
+
+        assertEquals(0, coordinator.assign(snapshot()));
+        assertFalse(coordinator.hasPending());
+        assertTrue(assignments.states.isEmpty());
+    }
+
+    @Test
+    public void should_reassign_file_given_expired_lease_and_file_not_started() {
+        coordinator.offer(newFiles(2));
+        coordinator.assign(snapshot());
+
+        final String started = assignedTo(0).get(0);
+        states.put(started, newState(newFiles(1).get(0), FileObjectStatus.READING));
+        final String notStarted = assignedTo(1).get(0);
+
+        Mockito.when(time.milliseconds()).thenReturn(LEASE_MS);
+        assertEquals(1, coordinator.assign(snapshot()));
+
+        assertEquals(List.of(started, notStarted).stream().sorted().collect(Collectors.toList()), assignedTo(0));
+        assertEquals(List.of(), assignedTo(1));
+    }
+
+    @Test
+    public void should_not_reassign_file_given_expired_lease_and_file_scheduled() {
+        coordinator.offer(newFiles(2));
+        coordinator.assign(snapshot());
+
+        // Both files are queued by task 0, the second one waiting for the first one to be read.
+        final String reading = assignedTo(0).get(0);
+        final String queued = assignedTo(1).get(0);
+        final FileAssignment assignment = assignments.states.get(queued);
+        assignments.states.put(queued, new FileAssignment(
+            assignment.uri(),
+            0,
+            assignment.contentLength(),
+            assignment.leaseExpiresAt()
+        ));
+        states.put(reading, newState(newFiles(1).get(0), FileObjectStatus.READING));
+        states.put(queued, newState(newFiles(2).get(1), FileObjectStatus.SCHEDULED));
+
+        Mockito.when(time.milliseconds()).thenReturn(LEASE_MS);
+        assertEquals(0, coordinator.assign(snapshot()));
+
+        assertEquals(List.of(queued, reading).stream().sorted().collect(Collectors.toList()), assignedTo(0));
+        assertEquals(List.of(), assignedTo(1));
+    }
+
+    @Test
+    public void should_reassign_files_given_task_count_decreased() {
+        coordinator.offer(newFiles(2));
+        coordinator.assign(snapshot());
+
+        coordinator.setTaskCount(1);
+        coordinator.assign(snapshot());
+
+        assertEquals(2, assignedTo(0).size());
+    }
+
+    @Test
+    public void should_return_new_assigned_files_only_once_given_task_provider() {
+        final List<FileObjectMeta> files = newFiles(4);
+        coordinator.offer(files);
+        coordinator.assign(snapshot());
+
+        final WorkQueueTaskFileURIProvider provider = new WorkQueueTaskFileURIProvider(assignments, 0);
+        final List<URI> uris = provider.nextURIs();
+        assertEquals(2, uris.size());
+        uris.forEach(uri -> assertEquals(0, assignments.states.get(key(uri)).taskId()));
+        assertTrue(provider.nextURIs().isEmpty());
+    }
+
+    private List<String> assignedTo(final int taskId) {
+        return assignments.states.entrySet().stream()
+            .filter(entry -> entry.getValue().taskId() == taskId)
+            .map(Map.Entry::getKey)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private StateSnapshot<FileObject> snapshot() {
+        return new StateSnapshot<>(0, new HashMap<>(states));
+    }
+
+    private static String key(final URI uri) {
+        return OFFSET_POLICY.toPartitionJson(new GenericFileObjectMeta(uri));
+    }
+
+    private static FileObject newState(final FileObjectMeta meta, final FileObjectStatus status) {
+        return new FileObject(meta, FileObjectOffset.empty(), status);
+    }
+
+    private static List<FileObjectMeta> newFiles(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new GenericFileObjectMeta.Builder()
+                .withUri(URI.create("file:///tmp/file-" + i))
+                .withName("file-" + i)
+                .withContentLength(10L)
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private static final class InMemoryAssignmentStore implements StateBackingStore<FileAssignment> {
+
+        private final Map<String, FileAssignment> states = new ConcurrentHashMap<>();
+
+        private boolean started;
+
+        @Override
+        public void start() {
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            started = false;
+        }
+
+        @Override
+        public boolean isStarted() {
+            return started;
+        }
+
+        @Override
+        public StateSnapshot<FileAssignment> snapshot() {
+            return new StateSnapshot<>(-1, new HashMap<>(states));
+        }
+
+        @Override
+        public boolean contains(final String name) {
+            return states.containsKey(name);
+        }
+
+        @Override
+        public void putAsync(final String name, final FileAssignment state) {
+            put(name, state);
+        }
+
+        @Override
+        public void put(final String name, final FileAssignment state) {
+            states.put(name, state);
+        }
+
+        @Override
+        public void remove(final String name) {
+            states.remove(name);
+        }
+
+        @Override
+        public void removeAsync(final String name) {
+            remove(name);
+        }
+
+        @Override
+        public void refresh(final long timeout, final TimeUnit unit) {
+        }
+
+        @Override
+        public void setUpdateListener(final UpdateListener<FileAssignment> listener) {
+        }
+    }
+}
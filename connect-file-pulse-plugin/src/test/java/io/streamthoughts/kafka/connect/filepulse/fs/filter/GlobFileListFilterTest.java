@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.filter;
+
+import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+
+public class GlobFileListFilterTest {
+
+    @Test
+    public void should_match_names_given_single_star_wildcard() {
+        final GlobFileListFilter filter = newFilter("logs/2024-10-*.gz");
+
+        Assert.assertTrue(filter.test(getFileObjectMeta("logs/2024-10-01.gz")));
+        Assert.assertFalse(filter.test(getFileObjectMeta("logs/2024-10-01/data.gz")));
+        Assert.assertFalse(filter.test(getFileObjectMeta("logs/2024-10-01.gzip")));
+        Assert.assertEquals("logs/2024-10-", filter.listingPrefix());
+        Assert.assertEquals("/", filter.listingDelimiter());
+    }
+
+    @Test
+    public void should_match_names_given_double_star_wildcard() {
+        final GlobFileListFilter filter = newFilter("logs/**/*.{csv,json}");
+
+        Assert.assertTrue(filter.test(getFileObjectMeta("logs/a/b/data.csv")));
+        Assert.assertTrue(filter.test(getFileObjectMeta("logs/a/data.json")));
+        Assert.assertFalse(filter.test(getFileObjectMeta("logs/data.xml")));
+        Assert.assertEquals("logs/", filter.listingPrefix());
+        Assert.assertNull(filter.listingDelimiter());
+    }
+
+    @Test
+    public void should_match_names_given_bracket_expressions() {
+        final GlobFileListFilter filter = newFilter("data-[!0-9]?.txt");
+
+        Assert.assertTrue(filter.test(getFileObjectMeta("data-ab.txt")));
+        Assert.assertFalse(filter.test(getFileObjectMeta("data-1b.txt")));
+        Assert.assertEquals("data-", filter.listingPrefix());
+    }
+
+    @Test
+    public void should_unescape_literal_prefix() {
+        final GlobFileListFilter filter = newFilter("data\\*/*.txt");
+
+        Assert.assertTrue(filter.test(getFileObjectMeta("data*/file.txt")));
+        Assert.assertEquals("data*/", filter.listingPrefix());
+    }
+
+    private static GlobFileListFilter newFilter(final String glob) {
+        final GlobFileListFilter filter = new GlobFileListFilter();
+        filter.configure(Map.of(GlobFileListFilter.FILE_FILTER_GLOB_PATTERN_CONFIG, glob));
+        return filter;
+    }
+
+    private static GenericFileObjectMeta getFileObjectMeta(final String name) {
+        return new GenericFileObjectMeta
+                .Builder()
+                .withName(name)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.fs.filter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RegexFileListFilterTest {
+
+    @Test
+    public void should_extract_literal_prefix_given_anchored_regex() {
+        Assert.assertEquals("logs/2024-10-", RegexFileListFilter.literalPrefix("^logs/2024-10-.*\\.gz$"));
+        Assert.assertEquals("logs/2024-10-", RegexFileListFilter.literalPrefix("logs/2024-10-[0-9]+\\.gz"));
+    }
+
+    @Test
+    public void should_extract_escaped_characters_as_literals() {
+        Assert.assertEquals("a.b/", RegexFileListFilter.literalPrefix("a\\.b/\\d+"));
+    }
+
+    @Test
+    public void should_exclude_quantified_literal_from_prefix() {
+        Assert.assertEquals("logs", RegexFileListFilter.literalPrefix("logss?/.*"));
+        Assert.assertEquals("log", RegexFileListFilter.literalPrefix("logs{2}/.*"));
+    }
+
+    @Test
+    public void should_return_empty_prefix_given_top_level_alternation() {
+        Assert.assertEquals("", RegexFileListFilter.literalPrefix("logs/.*|data/.*"));
+        Assert.assertEquals("logs/", RegexFileListFilter.literalPrefix("logs/(a|b)/.*"));
+    }
+
+    @Test
+    public void should_return_empty_prefix_given_regex_starting_with_group() {
+        Assert.assertEquals("", RegexFileListFilter.literalPrefix("(?i)logs/.*"));
+        Assert.assertEquals("", RegexFileListFilter.literalPrefix(".*\\.csv"));
+    }
+}
@@ -19,6 +19,7 @@
 
 package io.streamthoughts.kafka.connect.filepulse.offset;
 
+import io.streamthoughts.kafka.connect.filepulse.fs.FileListFilter.Metadata;
 import io.streamthoughts.kafka.connect.filepulse.source.LocalFileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.GenericFileObjectMeta;
 import io.streamthoughts.kafka.connect.filepulse.source.FileObjectMeta;
@@ -27,6 +28,7 @@ import org.junit.Test;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -110,4 +112,13 @@ public class DefaultOffsetPolicyTest {
 
         Assert.assertEquals(o1, o2);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_require_metadata_of_configured_strategies() {
+        Assert.assertEquals(
+            EnumSet.of(Metadata.NAME, Metadata.CONTENT_DIGEST),
+            new DefaultSourceOffsetPolicy("NAME+PATH+HASH").requiredMetadata()
+        );
+        Assert.assertEquals(EnumSet.noneOf(Metadata.class), new DefaultSourceOffsetPolicy("URI").requiredMetadata());
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.filter.DefaultRecordFilterPipeline;
+import io.streamthoughts.kafka.connect.filepulse.fs.reader.LocalFileStorage;
+import io.streamthoughts.kafka.connect.filepulse.fs.reader.LocalRowFileInputReader;
+import io.streamthoughts.kafka.connect.filepulse.offset.DefaultSourceOffsetPolicy;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import org.apache.kafka.connect.source.SourceTaskContext;
+import org.apache.kafka.connect.storage.OffsetStorageReader;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DefaultFileRecordsPollingConsumerTest {
+
+    private static final int NLINES = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    private DefaultFileRecordsPollingConsumer consumer;
+
+    @After
+    public void tearDown() {
+        if (consumer != null) {
+            consumer.close();
+        }
+    }
+
+    private void createConsumer(final FileRecordsPollingOptions options) {
+        createConsumer(null, options);
+    }
+
+    private void createConsumer(final SourceTaskContext taskContext,
+                                final FileRecordsPollingOptions options) {
+        createConsumer(taskContext, new LocalRowFileInputReader(), options);
+    }
+
+    private void createConsumer(final SourceTaskContext taskContext,
+                                final LocalRowFileInputReader reader,
+                                final FileRecordsPollingOptions options) {
+        reader.configure(Collections.emptyMap());
+
+        final DefaultSourceOffsetPolicy offsetPolicy = new DefaultSourceOffsetPolicy();
+        offsetPolicy.configure(Collections.emptyMap());
+
+        consumer = new DefaultFileRecordsPollingConsumer(
+            taskContext,
+            reader,
+            () -> new DefaultRecordFilterPipeline(Collections.emptyList()),
+            offsetPolicy,
+            taskContext == null,
+            options.withEmptyPollWaitMs(50L)
+        );
+        consumer.setStateListener(new StateListener() {
+            @Override
+            public void onScheduled(final FileContext context) {
+                events.add("scheduled:" + context.metadata().name());
+            }
+
+            @Override
+            public void onInvalid(final FileContext context) {
+                events.add("invalid:" + context.metadata().name());
+            }
+
+            @Override
+            public void onStart(final FileContext context) {
+                events.add("start:" + context.metadata().name());
+            }
+
+            @Override
+            public void onCompleted(final FileContext context) {
+                events.add("completed:" + context.metadata().name());
+            }
+
+            @Override
+            public void onFailure(final FileContext context, final Throwable t) {
+                events.add("failure:" + context.metadata().name());
+            }
+        });
+    }
+
+    @Test
+    public void should_dispatch_events_in_order_with_records_given_pipelined_mode() throws IOException {
+        createConsumer(FileRecordsPollingOptions.DEFAULT.withPipelined(2));
+        consumer.addAll(List.of(newFile("file-1"), newFile("file-2")));
+        pollAll();
+
+        final List<String> expected = new ArrayList<>();
+        for (String name : List.of("file-1", "file-2")) {
+            expected.add("scheduled:" + name);
+        }
+        for (String name : List.of("file-1", "file-2")) {
+            expected.add("start:" + name);
+            expected.addAll(Collections.nCopies(NLINES, "record:" + name));
+            expected.add("completed:" + name);
+        }
+        Assert.assertEquals(expected, events);
+    }
+
+    @Test
+    public void should_read_files_concurrently_given_max_concurrent_files() throws IOException {
+        createConsumer(FileRecordsPollingOptions.DEFAULT.withPipelined(2).withMaxConcurrentFiles(2));
+        final List<String> names = List.of("file-1", "file-2", "file-3");
+        final List<URI> files = new ArrayList<>();
+        for (String name : names) {
+            files.add(newFile(name));
+        }
+        consumer.addAll(files);
+        pollAll();
+
+        Assert.assertEquals(names.size() * (NLINES + 3), events.size());
+        for (String name : names) {
+            // events for each file must be dispatched in order.
+            final List<String> fileEvents = new ArrayList<>();
+            events.stream().filter(e -> e.endsWith(":" + name)).forEach(fileEvents::add);
+            final List<String> expected = new ArrayList<>();
+            expected.add("scheduled:" + name);
+            expected.add("start:" + name);
+            expected.addAll(Collections.nCopies(NLINES, "record:" + name));
+            expected.add("completed:" + name);
+            Assert.assertEquals(expected, fileEvents);
+        }
+    }
+
+    @Test
+    public void should_return_records_from_successive_files_given_next_if_available() throws IOException {
+        createConsumer(FileRecordsPollingOptions.DEFAULT);
+        final List<String> names = List.of("file-1", "file-2", "file-3");
+        final List<URI> files = new ArrayList<>();
+        for (String name : names) {
+            files.add(newFile(name));
+        }
+        consumer.addAll(files);
+
+        final List<String> records = new ArrayList<>();
+        while (consumer.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> next = consumer.nextIfAvailable();
+            if (next.isEmpty()) {
+                continue;
+            }
+            final FileContext context = consumer.context();
+            Assert.assertEquals(next.last().offset().toSourceOffset(), context.offset());
+            next.forEach(r -> records.add(context.metadata().name()));
+        }
+
+        final List<String> expected = new ArrayList<>();
+        for (String name : names) {
+            expected.addAll(Collections.nCopies(NLINES, name));
+        }
+        Assert.assertEquals(expected, records);
+    }
+
+    @Test
+    public void should_dispatch_events_in_order_with_records_given_look_ahead_files() throws IOException {
+        createConsumer(FileRecordsPollingOptions.DEFAULT.withLookAheadFiles(2));
+        final List<String> names = List.of("file-1", "file-2", "file-3");
+        final List<URI> files = new ArrayList<>();
+        for (String name : names) {
+            files.add(newFile(name));
+        }
+        consumer.addAll(files);
+        pollAll();
+
+        final List<String> expected = new ArrayList<>();
+        for (String name : names) {
+            expected.add("scheduled:" + name);
+        }
+        for (String name : names) {
+            expected.add("start:" + name);
+            expected.addAll(Collections.nCopies(NLINES, "record:" + name));
+            expected.add("completed:" + name);
+        }
+        Assert.assertEquals(expected, events);
+    }
+
+    @Test
+    public void should_open_files_in_advance_given_look_ahead_files() throws IOException {
+        // Record the thread opening the input stream of each file.
+        final LocalFileStorage storage = new LocalFileStorage() {
+            @Override
+            public FileInputStream getInputStream(final URI uri, final long position) throws IOException {
+                final String name = new File(uri).getName();
+                events.add("opened:" + name + ":" + Thread.currentThread().getName().startsWith("file-look-ahead"));
+                return super.getInputStream(uri, position);
+            }
+        };
+        createConsumer(null, new LocalRowFileInputReader() {
+            @Override
+            public LocalFileStorage storage() {
+                return storage;
+            }
+        }, FileRecordsPollingOptions.DEFAULT.withLookAheadFiles(1));
+        final List<String> names = List.of("file-1", "file-2");
+        final List<URI> files = new ArrayList<>();
+        for (String name : names) {
+            files.add(newFile(name));
+        }
+        consumer.addAll(files);
+        pollAll();
+
+        for (String name : names) {
+            final int opened = events.indexOf("opened:" + name + ":true");
+            Assert.assertTrue("stream not opened in advance for " + name + ": " + events, opened >= 0);
+            Assert.assertTrue(opened < events.indexOf("start:" + name));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_skip_completed_files_given_committed_offsets_loaded_in_bulk() throws IOException {
+        final URI completed = newFile("file-1");
+        final URI started = newFile("file-2");
+        final long length = new File(completed).length();
+        final long lineLength = length / NLINES;
+
+        final DefaultSourceOffsetPolicy offsetPolicy = new DefaultSourceOffsetPolicy();
+        offsetPolicy.configure(Collections.emptyMap());
+        final Map<Map<String, Object>, Map<String, Object>> offsets = new HashMap<>();
+        offsets.put(
+            offsetPolicy.toPartitionMap(new LocalFileObjectMeta(new File(completed))),
+            Map.of("position", length, "rows", (long) NLINES, "timestamp", 0L)
+        );
+        offsets.put(
+            offsetPolicy.toPartitionMap(new LocalFileObjectMeta(new File(started))),
+            Map.of("position", lineLength * 5, "rows", 5L, "timestamp", 0L)
+        );
+
+        final OffsetStorageReader offsetStorageReader = Mockito.mock(OffsetStorageReader.class);
+        Mockito.when(offsetStorageReader.offsets(Mockito.anyCollection())).thenAnswer(invocation -> offsets);
+        final SourceTaskContext taskContext = Mockito.mock(SourceTaskContext.class);
+        Mockito.when(taskContext.offsetStorageReader()).thenReturn(offsetStorageReader);
+
+        createConsumer(taskContext, FileRecordsPollingOptions.DEFAULT);
+        consumer.addAll(List.of(completed, started));
+        pollAll();
+
+        final List<String> expected = new ArrayList<>();
+        expected.add("scheduled:file-1");
+        expected.add("completed:file-1");
+        expected.add("scheduled:file-2");
+        expected.add("start:file-2");
+        expected.addAll(Collections.nCopies(NLINES - 5, "record:file-2"));
+        expected.add("completed:file-2");
+        Assert.assertEquals(expected, events);
+        Mockito.verify(offsetStorageReader, Mockito.times(1)).offsets(Mockito.anyCollection());
+        Mockito.verify(offsetStorageReader, Mockito.never()).offset(Mockito.anyMap());
+    }
+
+    private void pollAll() {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (consumer.hasNext() && System.currentTimeMillis() < deadline) {
+            final RecordsIterable<FileRecord<TypedStruct>> records = consumer.next();
+            if (!records.isEmpty()) {
+                final FileContext context = consumer.context();
+                Assert.assertEquals(records.last().offset().toSourceOffset(), context.offset());
+                records.forEach(r -> events.add("record:" + context.metadata().name()));
+            }
+        }
+        Assert.assertFalse(consumer.hasNext());
+    }
+
+    private URI newFile(final String name) throws IOException {
+        final File file = testFolder.newFile(name);
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < NLINES; i++) {
+                writer.write("line-" + i);
+                writer.newLine();
+            }
+        }
+        return file.toURI();
+    }
+}
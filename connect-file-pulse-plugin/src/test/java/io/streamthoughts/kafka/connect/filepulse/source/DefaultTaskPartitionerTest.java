@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class DefaultTaskPartitionerTest {
+
+    private final DefaultTaskPartitioner partitioner = new DefaultTaskPartitioner();
+
+    @Test
+    public void should_group_files_given_no_max_bytes_per_task() {
+        final List<FileObjectMeta> files = List.of(
+            newFile("a.csv", 10),
+            newFile("b.csv", 10),
+            newFile("c.csv", 10),
+            newFile("d.csv", 10)
+        );
+
+        final List<List<URI>> partitioned = partitioner.partition(files, 2, 0);
+
+        assertEquals(List.of(uri("a.csv"), uri("b.csv")), partitioned.get(0));
+        assertEquals(List.of(uri("c.csv"), uri("d.csv")), partitioned.get(1));
+    }
+
+    @Test
+    public void should_not_exceed_max_bytes_per_task() {
+        final List<FileObjectMeta> files = List.of(
+            newFile("a.csv", 60),
+            newFile("b.csv", 30),
+            newFile("c.csv", 30),
+            newFile("d.csv", 50),
+            newFile("e.csv", 20)
+        );
+
+        final List<List<URI>> partitioned = partitioner.partition(files, 2, 80);
+
+        assertEquals(2, partitioned.size());
+        assertEquals(List.of(uri("a.csv"), uri("e.csv")), partitioned.get(0));
+        assertEquals(List.of(uri("b.csv"), uri("c.csv")), partitioned.get(1));
+    }
+
+    @Test
+    public void should_assign_file_larger_than_max_bytes_per_task() {
+        final List<FileObjectMeta> files = List.of(
+            newFile("a.csv", 100),
+            newFile("b.csv", 10),
+            newFile("c.csv", 10)
+        );
+
+        final List<List<URI>> partitioned = partitioner.partition(files, 2, 50);
+
+        assertEquals(List.of(uri("a.csv")), partitioned.get(0));
+        assertEquals(List.of(uri("b.csv"), uri("c.csv")), partitioned.get(1));
+    }
+
+    private static FileObjectMeta newFile(final String name, final long contentLength) {
+        return new GenericFileObjectMeta.Builder()
+            .withUri(uri(name))
+            .withName(name)
+            .withContentLength(contentLength)
+            .build();
+    }
+
+    private static URI uri(final String name) {
+        return URI.create("file:///tmp/" + name);
+    }
+}
@@ -18,8 +18,12 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.source;
 
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import org.junit.Test;
 
+import java.net.URI;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -36,4 +40,48 @@ public class FilePulseSourceTaskTest {
         assertEquals(0, attempts.getRemaining());
     }
 
+    @Test
+    public void should_count_record_bytes_given_file_larger_than_poll_max_bytes() {
+        final FileContext context = newContext("large.csv", 10_000_000L);
+        final FilePulseSourceTask.PollBytes bytes = new FilePulseSourceTask.PollBytes();
+
+        bytes.add(context, List.of(newRecord(0, 100), newRecord(100, 250)));
+        assertEquals(250, bytes.get());
+
+        bytes.add(context, List.of(newRecord(250, 300)));
+        assertEquals(300, bytes.get());
+    }
+
+    @Test
+    public void should_count_content_length_once_given_records_of_unknown_size() {
+        final FileContext context = newContext("file.avro", 1000L);
+        final FilePulseSourceTask.PollBytes bytes = new FilePulseSourceTask.PollBytes();
+
+        bytes.add(context, List.of(newRecord(-1, -1), newRecord(-1, -1)));
+        bytes.add(context, List.of(newRecord(-1, -1)));
+        assertEquals(1000, bytes.get());
+    }
+
+    private static FileContext newContext(final String name, final long contentLength) {
+        return new FileContext(new GenericFileObjectMeta.Builder()
+            .withUri(URI.create("file:///tmp/" + name))
+            .withName(name)
+            .withContentLength(contentLength)
+            .build());
+    }
+
+    private static FileRecord<TypedStruct> newRecord(final long startPosition, final long endPosition) {
+        return new TypedFileRecord(new FileRecordOffset() {
+            @Override
+            public FileObjectOffset toSourceOffset() {
+                return new FileObjectOffset(endPosition, -1, 0L);
+            }
+
+            @Override
+            public long size() {
+                return startPosition < 0 ? -1L : endPosition - startPosition;
+            }
+        }, TypedStruct.create());
+    }
+
 }
\ No newline at end of file
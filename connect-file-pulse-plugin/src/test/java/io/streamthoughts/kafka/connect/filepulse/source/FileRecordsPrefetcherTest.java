@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+public class FileRecordsPrefetcherTest {
+
+    @Test
+    public void should_not_wait_forever_given_lane_blocked_on_non_interruptible_read() throws Exception {
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final FileRecordsPrefetcher prefetcher = new FileRecordsPrefetcher(List.of(new FileRecordsPrefetcher.Lane() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public FileRecordsPrefetcher.Batch read() {
+                reading.countDown();
+                // Ignore interruptions, like a blocking socket read.
+                while (released.getCount() > 0) {
+                    try {
+                        released.await();
+                    } catch (InterruptedException ignore) {
+                    }
+                }
+                return new FileRecordsPrefetcher.Batch(RecordsIterable.empty(), null);
+            }
+        }), 1, 10);
+        prefetcher.start();
+        assertTrue(reading.await(10, TimeUnit.SECONDS));
+
+        final long started = System.currentTimeMillis();
+        prefetcher.close(Duration.ofMillis(100));
+        assertTrue(System.currentTimeMillis() - started < 5000);
+
+        released.countDown();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import org.apache.kafka.common.config.ConfigException;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class SizeBalancedTaskPartitionerTest {
+
+    private final SizeBalancedTaskPartitioner partitioner = new SizeBalancedTaskPartitioner();
+
+    @Test
+    public void should_balance_content_length_across_tasks() {
+        partitioner.configure(Map.of());
+        final List<FileObjectMeta> files = List.of(
+            newFile("a.csv", 40),
+            newFile("b.csv", 10),
+            newFile("c.csv", 10),
+            newFile("d.csv", 10),
+            newFile("e.csv", 10),
+            newFile("f.csv", 30)
+        );
+
+        final List<List<URI>> partitioned = partitioner.partition(files, 3);
+
+        assertEquals(3, partitioned.size());
+        assertEquals(List.of(uri("a.csv")), partitioned.get(0));
+        assertEquals(List.of(uri("e.csv"), uri("f.csv")), partitioned.get(1));
+        assertEquals(List.of(uri("b.csv"), uri("c.csv"), uri("d.csv")), partitioned.get(2));
+    }
+
+    @Test
+    public void should_weight_content_length_by_extension() {
+        partitioner.configure(Map.of(SizeBalancedTaskPartitioner.TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG, "gz:4"));
+        final List<FileObjectMeta> files = List.of(
+            newFile("a.gz", 10),
+            newFile("b.csv", 20),
+            newFile("c.csv", 20)
+        );
+
+        final List<List<URI>> partitioned = partitioner.partition(files, 2);
+
+        assertEquals(List.of(uri("a.gz")), partitioned.get(0));
+        assertEquals(List.of(uri("b.csv"), uri("c.csv")), partitioned.get(1));
+    }
+
+    @Test
+    public void should_spread_files_given_unknown_content_length() {
+        partitioner.configure(Map.of());
+        final List<FileObjectMeta> files = List.of(
+            new GenericFileObjectMeta(uri("a")),
+            new GenericFileObjectMeta(uri("b")),
+            new GenericFileObjectMeta(uri("c")),
+            new GenericFileObjectMeta(uri("d"))
+        );
+
+        final List<List<URI>> partitioned = partitioner.partition(files, 2);
+
+        assertEquals(2, partitioned.get(0).size());
+        assertEquals(2, partitioned.get(1).size());
+    }
+
+    @Test
+    public void should_not_exceed_max_bytes_per_task() {
+        partitioner.configure(Map.of());
+        final List<FileObjectMeta> files = List.of(
+            newFile("a.csv", 60),
+            newFile("b.csv", 50),
+            newFile("c.csv", 40),
+            newFile("d.csv", 30),
+            newFile("e.csv", 20)
+        );
+
+        final List<List<URI>> partitioned = partitioner.partition(files, 2, 80);
+
+        assertEquals(List.of(uri("a.csv"), uri("e.csv")), partitioned.get(0));
+        assertEquals(List.of(uri("b.csv"), uri("d.csv")), partitioned.get(1));
+    }
+
+    @Test(expected = ConfigException.class)
+    public void should_fail_given_invalid_weight() {
+        partitioner.configure(Map.of(SizeBalancedTaskPartitioner.TASK_PARTITIONER_FORMAT_WEIGHTS_CONFIG, "gz:-1"));
+    }
+
+    private static FileObjectMeta newFile(final String name, final long contentLength) {
+        return new GenericFileObjectMeta.Builder()
+            .withUri(uri(name))
+            .withName(name)
+            .withContentLength(contentLength)
+            .build();
+    }
+
+    private static URI uri(final String name) {
+        return URI.create("file:///tmp/" + name);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StickyTaskPartitionerTest {
+
+    private final StickyTaskPartitioner partitioner = new StickyTaskPartitioner();
+
+    @Test
+    public void should_keep_previously_assigned_files_on_same_task_given_new_files() {
+        final List<List<URI>> first = partitioner.partition(newFiles(0, 20), 4);
+        final List<List<URI>> second = partitioner.partition(newFiles(10, 40), 4);
+
+        for (int taskId = 0; taskId < 4; taskId++) {
+            for (URI uri : first.get(taskId)) {
+                if (Integer.parseInt(uri.getPath().substring("/tmp/file-".length())) >= 10) {
+                    assertTrue(second.get(taskId).contains(uri));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void should_keep_previously_assigned_files_given_task_count_increased() {
+        final List<FileObjectMeta> files = newFiles(0, 20);
+        final List<List<URI>> first = partitioner.partition(files, 4);
+        final List<List<URI>> second = partitioner.partition(files, 5);
+
+        assertEquals(5, second.size());
+        for (int taskId = 0; taskId < 4; taskId++) {
+            assertEquals(first.get(taskId), second.get(taskId));
+        }
+        assertTrue(second.get(4).isEmpty());
+    }
+
+    @Test
+    public void should_only_move_files_to_new_task_given_rendezvous_hashing() {
+        int moved = 0;
+        for (int i = 0; i < 1000; i++) {
+            final URI uri = URI.create("file:///tmp/file-" + i);
+            final int before = StickyTaskPartitioner.rendezvous(uri, 4);
+            final int after = StickyTaskPartitioner.rendezvous(uri, 5);
+            if (before != after) {
+                assertEquals(4, after);
+                moved++;
+            }
+        }
+        assertTrue("moved=" + moved, moved > 100 && moved < 300);
+    }
+
+    private static List<FileObjectMeta> newFiles(final int from, final int to) {
+        return IntStream.range(from, to)
+            .mapToObj(i -> new GenericFileObjectMeta(URI.create("file:///tmp/file-" + i)))
+            .collect(Collectors.toList());
+    }
+}
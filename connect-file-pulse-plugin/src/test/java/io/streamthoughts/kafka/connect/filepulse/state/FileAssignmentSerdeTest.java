@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019-2021 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.state;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FileAssignmentSerdeTest {
+
+    @Test
+    public void should_serialize_and_deserialize_given_valid_assignment() {
+        FileAssignmentSerde serde = new FileAssignmentSerde();
+
+        FileAssignment assignment = new FileAssignment("file:///tmp/file-1", 2, 1024L, 1000L);
+        byte[] bytes = serde.serialize(assignment);
+        Assert.assertEquals(assignment, serde.deserialize(bytes));
+    }
+}